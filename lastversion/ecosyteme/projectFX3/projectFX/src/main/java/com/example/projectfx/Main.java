@@ -1,12 +1,17 @@
 package com.example.projectfx;
 
 import com.example.projectfx.ecosystem.*;
+import com.example.projectfx.events.PrintStreamEventSink;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.resources.*;
 import com.example.projectfx.species.*;
 import javafx.scene.image.ImageView;
 
 public class Main {
     public static void main(String[] args) {
+        // Print the simulation events in order with the rest of the demonstration output
+        SimulationEvents.setSink(new PrintStreamEventSink(System.out));
+
         // Initialize environments
         Air airEnvironment = new Air(20.0); // High wind speed
         Forest forestEnvironment = new Forest(0.9); // Dense forest
@@ -4,6 +4,10 @@ import com.example.projectfx.exceptions.EcosystemException;
 import com.example.projectfx.species.*;
 import com.example.projectfx.resources.*;
 import com.example.projectfx.ecosystem.*;
+import com.example.projectfx.events.EventSink;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.history.HistoryRecorder;
+import com.example.projectfx.history.TimeSeriesWriter;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -14,10 +18,10 @@ import javafx.stage.Stage;
 import javafx.animation.*;
 import javafx.util.Duration;
 import javafx.application.Platform;
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 
 public class MainApp extends Application {
     private ImageView forestView;
@@ -25,11 +29,18 @@ public class MainApp extends Application {
     private Label resourceLabel;
     private Label statisticsLabel;  // New label for displaying statistics
 
-    private final List<Positionn> positions = new ArrayList<>();
     private final int minDistance = 50;
     private Species selectedSpecies = null;
     private Forest forest;
-    private final Random random = new Random();
+    private Ecosystem ecosystem;
+    private SimulationEngine engine;
+    private ReplayEngine replay;
+    private RunRecorder recorder;
+    private TimeSeriesWriter history;
+    private Pane gamePane;
+    private final RandomService randomService = RandomService.getDefault();
+    private final SplittableRandom random = randomService.split();
+    private final SpawnPlacer placer = new SpawnPlacer(0, WINDOW_WIDTH - 1, 0, WINDOW_HEIGHT - 1, minDistance, random);
 
     // Configuration constants
     private static final int WINDOW_WIDTH = 1024;
@@ -39,6 +50,14 @@ public class MainApp extends Application {
     private static final int INITIAL_WOLVES = 8;
     private static final int INITIAL_GRASS = 28;
     private static final int INITIAL_FRUITS = 10;
+    private static final int GRASS_REGENERATION_TICKS = 30;
+
+    // A run is recorded to the directory given by the first property, and replayed from the one given by the second
+    private static final String RECORD_PROPERTY = "ecosystem.record";
+    private static final String REPLAY_PROPERTY = "ecosystem.replay";
+    // The metrics of every tick are recorded to the file given by this property
+    private static final String HISTORY_PROPERTY = "ecosystem.history";
+    private static final int CHECKPOINT_TICKS = GRASS_REGENERATION_TICKS;
 
     public static void main(String[] args) {
         launch(args);
@@ -47,59 +66,74 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         try {
+            String replayDirectory = System.getProperty(REPLAY_PROPERTY);
+            if (replayDirectory != null) {
+                startReplay(primaryStage, Path.of(replayDirectory));
+                return;
+            }
             forest = new Forest(0.1);
+            ecosystem = new Ecosystem();
+            ecosystem.ajouterEnvironnement(forest);
+            RandomService engineRandom = randomService.fork();
+            engine = new SimulationEngine(forest, WINDOW_WIDTH, WINDOW_HEIGHT, engineRandom);
             initializeSpecies();
             initializeResource();
             initializeUI(primaryStage);
+            startRecording(engineRandom.getSeed());
             startSimulationTimer();
         } catch (Exception e) {
             showError("Error initializing the application", e);
         }
     }
 
-    private void initializeSpecies() {
+    private void initializeSpecies() throws EcosystemException {
         // Use constants for initial populations
         for (int i = 0; i < INITIAL_RABBITS; i++) {
-            createSpecies(new Rabbit("Rabbit" + (i + 1), 80, createPositonn(minDistance), forest, 2.0, 10, new ImageView()));
+            createSpecies(new Rabbit("Rabbit" + (i + 1), 80, createPositonn(), forest, 2.0, 10, new ImageView()));
         }
 
         for (int i = 0; i < INITIAL_WOLVES; i++) {
-            createSpecies(new Wolf("Wolf" + (i + 1), 100, createPositonn(minDistance), forest, true, 15, new ImageView()));
+            createSpecies(new Wolf("Wolf" + (i + 1), 100, createPositonn(), forest, true, 15, new ImageView()));
         }
         for (int i = 0; i < INITIAL_WOLVES; i++) {
-            createSpecies(new Human("human" + (i + 1), 100, createPositonn(minDistance), forest,5,5,new ImageView()));
+            createSpecies(new Human("human" + (i + 1), 100, createPositonn(), forest,5,5,new ImageView()));
         }
         for (int i = 0; i < INITIAL_WOLVES; i++) {
-            createSpecies(new Bear("Bear" + (i + 1), 70, createPositonn(minDistance), forest, 20, 5,15, new ImageView()));
+            createSpecies(new Bear("Bear" + (i + 1), 70, createPositonn(), forest, 20, 5,15, new ImageView()));
         }
     }
 
     private void initializeResource() {
         try {
             for (int i = 0; i < INITIAL_RABBITS; i++) {
-                createSpecies(new Rabbit("Rabbit" + (i + 1), 80, createPositonn(minDistance), forest, 2.0, 10, new ImageView()));
+                createSpecies(new Rabbit("Rabbit" + (i + 1), 80, createPositonn(), forest, 2.0, 10, new ImageView()));
             }
 
             for (int i = 0; i < INITIAL_WOLVES; i++) {
-                createSpecies(new Wolf("Wolf" + (i + 1), 100, createPositonn(minDistance), forest, true, 15, new ImageView()));
+                createSpecies(new Wolf("Wolf" + (i + 1), 100, createPositonn(), forest, true, 15, new ImageView()));
             }
             for (int i = 0; i < INITIAL_WOLVES; i++) {
-                createSpecies(new Human("human" + (i + 1), 100, createPositonn(minDistance), forest, 5, 5, new ImageView()));
+                createSpecies(new Human("human" + (i + 1), 100, createPositonn(), forest, 5, 5, new ImageView()));
             }
             for (int i = 0; i < INITIAL_WOLVES; i++) {
-                createSpecies(new Bear("Bear" + (i + 1), 70, createPositonn(minDistance), forest, 20, 5, 15, new ImageView()));
+                createSpecies(new Bear("Bear" + (i + 1), 70, createPositonn(), forest, 20, 5, 15, new ImageView()));
             }
         } catch (Exception e) {
             showError("Error initializing species", e);
         }
     }
 
-    private Positionn createPositonn(int minDistance) {
-        return new Positionn(0, WINDOW_WIDTH - 1, 0, WINDOW_HEIGHT - 1, positions, minDistance);
+    private Positionn createPositonn() throws EcosystemException {
+        return placer.place();
+    }
+
+    private void resyncPlacer() {
+        placer.clear();
+        forest.getSpeciesList().forEach(species -> placer.occupy(species.getPosition()));
+        forest.getResources().forEach(resource -> placer.occupy(resource.getPosition()));
     }
 
     private void createSpecies(Species species) {
-        positions.add(species.getPosition());
         forest.ajouterEspece(species);
         species.getImageView().setFitWidth(getFitWidth(species));
         species.getImageView().setPreserveRatio(true);
@@ -108,8 +142,11 @@ public class MainApp extends Application {
 
     private void createResource(Resource resource) throws EcosystemException {
         try {
-            positions.add(resource.getPosition());
+            placer.occupy(resource.getPosition());
             forest.ajouterResource(resource);
+            if (resource instanceof Grass) {
+                engine.scheduleRegeneration(resource, GRASS_REGENERATION_TICKS);
+            }
             resource.getImageView().setFitWidth(getFitResourceWidth(resource));
             resource.getImageView().setPreserveRatio(true);
             setupResourceInteraction(resource);
@@ -157,45 +194,156 @@ public class MainApp extends Application {
     }
 
     private void startSimulationTimer() {
+        engine.addListener(createViewListener());
+
         Timeline timeline = new Timeline(new KeyFrame(
                 Duration.millis(MOVEMENT_INTERVAL),
-                e -> {
-                    moveAnimalsRandomly();
-                    removeDeadAnimals();
-                    processInteractions();
-                    updateStatistics();
-                }
+                e -> engine.step()
         ));
         timeline.setCycleCount(Timeline.INDEFINITE);
         timeline.play();
     }
 
-    private void moveAnimalsRandomly() {
-        Platform.runLater(() -> {
-            for (Species animal : new ArrayList<>(forest.getSpeciesList())) {
-                if (!animal.checkDeath()) {
-                    moveAnimal(animal);
+    private void startRecording(long seed) throws Exception {
+        String directory = System.getProperty(RECORD_PROPERTY);
+        if (directory != null) {
+            recorder = new RunRecorder(ecosystem, seed, Path.of(directory), CHECKPOINT_TICKS, ForkJoinPool.commonPool());
+            recorder.record(engine.getTick());
+            engine.addListener(recorder);
+        }
+        String historyFile = System.getProperty(HISTORY_PROPERTY);
+        if (historyFile != null) {
+            history = new TimeSeriesWriter(Path.of(historyFile));
+            engine.addListener(new HistoryRecorder(forest, history));
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        // The checkpoints are written on daemon threads, which would not finish on their own
+        if (recorder != null) {
+            recorder.awaitWrites();
+        }
+        if (history != null) {
+            history.close();
+        }
+    }
+
+    private void startReplay(Stage primaryStage, Path directory) throws EcosystemException {
+        replay = ReplayEngine.open(directory, 0, WINDOW_WIDTH, WINDOW_HEIGHT, 1000.0 / MOVEMENT_INTERVAL);
+        // Checkpoints do not hold the timed behaviors, so the regeneration of the grass is scheduled again
+        replay.setEngineSetup(restored -> restored.getEnvironment().getResources().forEach(resource -> {
+            if (resource instanceof Grass) {
+                restored.resumeRegeneration(resource, GRASS_REGENERATION_TICKS);
+            }
+        }));
+        replay.seek(replay.getFirstTick());
+        showReplayState();
+        initializeUI(primaryStage);
+        updateForestImage(forestImageOf(forest.getSaison()));
+        showReplayStatus();
+        replay.addListener(createViewListener());
+
+        new AnimationTimer() {
+            private long previousFrame;
+
+            @Override
+            public void handle(long now) {
+                if (previousFrame != 0) {
+                    replay.advance(now - previousFrame);
                 }
+                previousFrame = now;
             }
+        }.start();
+    }
+
+    private void showReplayState() throws EcosystemException {
+        if (!(replay.getEnvironment() instanceof Forest replayedForest)) {
+            throw new EcosystemException("Only a forest can be replayed.");
+        }
+        forest = replayedForest;
+        ecosystem = replay.getEcosystem();
+        engine = replay.getEngine();
+        // Restored species and resources have no graphical representation yet
+        forest.getSpeciesList().forEach(species -> {
+            species.setImageView(new ImageView());
+            species.getImageView().setFitWidth(getFitWidth(species));
+            species.getImageView().setPreserveRatio(true);
+            setupSpeciesInteraction(species);
         });
+        forest.getResources().forEach(resource -> {
+            resource.setImageView(new ImageView());
+            resource.getImageView().setFitWidth(getFitResourceWidth(resource));
+            resource.getImageView().setPreserveRatio(true);
+            setupResourceInteraction(resource);
+        });
+    }
+
+    private void seekReplay(long tick) {
+        if (replay == null) {
+            return;
+        }
+        try {
+            replay.seek(Math.max(replay.getFirstTick(), tick));
+            showReplayState();
+        } catch (EcosystemException e) {
+            showError("Error seeking the replay", e);
+            return;
+        }
+        selectedSpecies = null;
+        gamePane.getChildren().setAll(forestView);
+        forest.getSpeciesList().forEach(species -> gamePane.getChildren().add(species.getImageView()));
+        forest.getResources().forEach(resource -> gamePane.getChildren().add(resource.getImageView()));
+        updateImages();
+        setPositions();
+        updateimageview();
+        updateForestImage(forestImageOf(forest.getSaison()));
+        updateStatistics(engine.getStatistics());
+        showReplayStatus();
     }
 
-    private void moveAnimal(Species animal) {
-        int dx = random.nextInt(61) - 20;
-        int dy = random.nextInt(61) - 20;
+    private void changeReplaySpeed(double factor) {
+        if (replay == null) {
+            return;
+        }
+        double speed = replay.getSpeed() * factor;
+        replay.setSpeed(Math.min(ReplayEngine.MAX_SPEED, Math.max(ReplayEngine.MIN_SPEED, speed)));
+        showReplayStatus();
+    }
 
-        int currentX = animal.getPosition().getX();
-        int currentY = animal.getPosition().getY();
+    private void showReplayStatus() {
+        interactionLabel.setText(String.format("Replay: tick %d at %.0fx", replay.getTick(), replay.getSpeed()));
+    }
 
-        // Boundary checking and movement logic
-        int newX = Math.min(Math.max(currentX + (currentY > 100 && currentX < 700 ? dx : -dx), 0), WINDOW_WIDTH - 1);
-        int newY = Math.min(Math.max(currentY + dy, 0), WINDOW_HEIGHT - 1);
+    private SimulationListener createViewListener() {
+        return new SimulationListener() {
+            @Override
+            public void onSpeciesMoved(Species species) {
+                resetoPosition(species);
+            }
 
-        animal.getPosition().setX(newX);
-        animal.getPosition().setY(newY);
-        setPositions();
-        animal.move(animal.getPosition().toString());
+            @Override
+            public void onSpeciesDied(Species species) {
+                handleDeadAnimal(species);
+            }
+
+            @Override
+            public void onResourceEaten(Species species, Resource resource) {
+                animateEat(species, resource);
+            }
+
+            @Override
+            public void onHunt(Carnivore predator, Species prey, boolean success) {
+                animateHunt(predator, prey, success);
+            }
+
+            @Override
+            public void onTickCompleted(TickStatistics statistics) {
+                updateStatistics(statistics);
+            }
+        };
     }
+
     private void setPositions() {
         forest.getSpeciesList().forEach(species -> {
             species.getImageView().setTranslateX(species.getPosition().getX());
@@ -207,132 +355,58 @@ public class MainApp extends Application {
         });
     }
 
-    private void removeDeadAnimals() {
-        Platform.runLater(() -> {
-            Iterator<Species> iterator = forest.getSpeciesList().iterator();
-            while (iterator.hasNext()) {
-                Species animal = iterator.next();
-                if (animal.getEnergy() <= 0 || animal.checkDeath() || !animal.isAlive()) {
-                    handleDeadAnimal(animal, iterator);
-                }
-            }
-        });
-    }
-
-    private void handleDeadAnimal(Species animal, Iterator<Species> iterator) {
-        positions.remove(animal.getPosition());
+    private void handleDeadAnimal(Species animal) {
         animal.getImageView().setVisible(false);
-        iterator.remove();
         interactionLabel.setText(animal.getName() + " has died.");
         if (selectedSpecies == animal) {
             selectedSpecies = null;
         }
     }
 
-    private void processInteractions() {
-        Platform.runLater(() -> {
-            processEating();
-            processHunting();
-        });
-    }
-
-    private void processEating() {
-        List<Species> species = new ArrayList<>(forest.getSpeciesList());
-        List<Resource> resources = new ArrayList<>(forest.getResources());
-
-        for (Species animal : species) {
-            if (!animal.checkDeath() && animal instanceof Rabbit) {
-                for (Resource resource : resources) {
-                    if (resource instanceof Grass &&
-                            animal.getPosition().calculateDistance(resource.getPosition()) < 100) {
-                        animateEat(animal, resource);
-                        break;
-                    }
-                }
-            }
-        }
-    }
     private void animateEat(Species animal, Resource resource) {
-
         TranslateTransition transition = new TranslateTransition(Duration.seconds(1), animal.getImageView());
         transition.setToX(resource.getPosition().getX());
         transition.setToY(resource.getPosition().getY());
 
         transition.setOnFinished(e -> {
             interactionLabel.setText("The "+animal.getName()+" ate the resource");
-            positions.remove(animal.getPosition());
-            animal.setPosition(resource.getPosition());
             resource.getImageView().setVisible(false);
-            forest.getResources().remove(resource);
-            setPositions();
             resetSelections();
-
         });
-
-        if (animal.eat(resource)){
-            transition.play();
-        }
-
-        setPositions();
+        transition.play();
     }
     public void resetSelections() {
         selectedSpecies = null;
     }
 
-    private void processHunting() {
-        List<Species> species = new ArrayList<>(forest.getSpeciesList());
-
-        for (Species predator : species) {
-            if (predator instanceof Wolf && !predator.checkDeath()) {
-                for (Species prey : species) {
-                    if (prey instanceof Rabbit && !prey.checkDeath() &&
-                            predator.getPosition().calculateDistance(prey.getPosition()) < 100) {
-                        animateHunt((Carnivore) predator, prey);
-                        break;
-                    }
-                }
-            }
+    private void animateHunt(Carnivore animal, Species species, boolean success) {
+        if (!success) {
+            interactionLabel.setText("The wolf missed the "+species.getName()+".");
+            resetoPosition(animal);
+            return;
         }
-    }
-    private void animateHunt(Carnivore animal, Species species) {
+
         TranslateTransition transition = new TranslateTransition(Duration.seconds(1.5), animal.getImageView());
         transition.setToX(species.getPosition().getX());
         transition.setToY(species.getPosition().getY());
 
         transition.setOnFinished(e -> {
             interactionLabel.setText("The "+animal.getName()+" ate the "+species.getName()+"!"+ " energie restant : " + animal.getEnergy());
-            positions.remove(animal.getPosition());
-            animal.setPosition(species.getPosition());
             species.getImageView().setVisible(false);
-            forest.getSpeciesList().remove(species);
-            setPositions();
             resetSelections();
         });
-
-        if (animal.hunt(species)) {
-
-            transition.play();
-        } else {
-            interactionLabel.setText("The wolf missed the "+species.getName()+".");
-            resetoPosition(animal);
-        }
+        transition.play();
     }
     private void resetoPosition(Species species) {
         species.getImageView().setTranslateX(species.getPosition().getX());
         species.getImageView().setTranslateY(species.getPosition().getY());
     }
 
-    private void updateStatistics() {
-        Platform.runLater(() -> {
-            long rabbits = forest.getSpeciesList().stream().filter(s -> s instanceof Rabbit).count();
-            long wolves = forest.getSpeciesList().stream().filter(s -> s instanceof Wolf).count();
-            long grass = forest.getResources().stream().filter(r -> r instanceof Grass).count();
-
-            statisticsLabel.setText(String.format(
-                    "Population Statistics:\nRabbits: %d\nWolves: %d\nGrass: %d",
-                    rabbits, wolves, grass
-            ));
-        });
+    private void updateStatistics(TickStatistics statistics) {
+        statisticsLabel.setText(String.format(
+                "Population Statistics:\nRabbits: %d\nWolves: %d\nGrass: %d",
+                statistics.rabbits(), statistics.wolves(), statistics.grass()
+        ));
     }
 
     private void initializeUI(Stage primaryStage) {
@@ -360,7 +434,7 @@ public class MainApp extends Application {
         rightBox.setStyle("-fx-padding: 10; -fx-background-color: rgba(255,255,255,0.8);");
 
         // Create main game pane
-        Pane gamePane = createGamePane();
+        gamePane = createGamePane();
 
         // Assemble layout
         root.setTop(topBox);
@@ -388,7 +462,7 @@ public class MainApp extends Application {
             if (animal instanceof Carnivore) {
                 animal.getImageView().setOnMouseClicked(e -> {
                     if (selectedSpecies != null) {
-                        animateHunt((Carnivore) animal, selectedSpecies);
+                        engine.hunt((Carnivore) animal, selectedSpecies);
                     } else {
                         interactionLabel.setText("Selected: " + animal.getName() + " Energy: " + ((Wolf)animal).getEnergy());
                     }
@@ -396,26 +470,32 @@ public class MainApp extends Application {
             }
         }
     }
-    private void displaySeasonDetails(String season) {
+    private void displaySeasonDetails(Season season) {
         forest.mettreAJourSaison(season);
         captureResourceDetails(season);
-        updateForestImage("forest_" + season.toLowerCase() + ".png");
-    }
-    private void captureResourceDetails(String season) {
-        PrintStream originalOut = System.out;
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        System.setOut(new PrintStream(outputStream));
-        forest.mettreAJourSaison(season);
-        System.setOut(originalOut);
-        resourceLabel.setText(outputStream.toString());
+        updateForestImage(forestImageOf(season));
+    }
+    private void captureResourceDetails(Season season) {
+        StringBuilder details = new StringBuilder();
+        EventSink previousSink = SimulationEvents.getSink();
+        SimulationEvents.setSink(event -> {
+            details.append(event.describe()).append('\n');
+            previousSink.publish(event);
+        });
+        try {
+            forest.mettreAJourSaison(season);
+        } finally {
+            SimulationEvents.setSink(previousSink);
+        }
+        resourceLabel.setText(details.toString());
     }
     private MenuBar createSeasonMenuBar() {
         Menu seasonMenu = new Menu("Seasons");
 
-        MenuItem springItem = createSeasonMenuItem("Spring");
-        MenuItem summerItem = createSeasonMenuItem("Summer");
-        MenuItem autumnItem = createSeasonMenuItem("Autumn");
-        MenuItem winterItem = createSeasonMenuItem("Winter");
+        MenuItem springItem = createSeasonMenuItem(Season.SPRING);
+        MenuItem summerItem = createSeasonMenuItem(Season.SUMMER);
+        MenuItem autumnItem = createSeasonMenuItem(Season.AUTUMN);
+        MenuItem winterItem = createSeasonMenuItem(Season.WINTER);
 
         seasonMenu.getItems().addAll(springItem, summerItem, autumnItem, winterItem);
 
@@ -423,8 +503,8 @@ public class MainApp extends Application {
         return menuBar;
     }
 
-    private MenuItem createSeasonMenuItem(String season) {
-        MenuItem item = new MenuItem(season);
+    private MenuItem createSeasonMenuItem(Season season) {
+        MenuItem item = new MenuItem(season.getLabel());
         item.setOnAction(e -> displaySeasonDetails(season));
         return item;
     }
@@ -441,7 +521,7 @@ public class MainApp extends Application {
         scene.setOnKeyPressed(event -> {
             switch (event.getCode()) {
                 case R:
-                    if (selectedSpecies instanceof Bear && ((Bear) selectedSpecies).canReproduce(countspecies("Bear"))) {
+                    if (selectedSpecies instanceof Bear && ((Bear) selectedSpecies).canReproduce(countspecies(SpeciesKind.BEAR))) {
                         ((Bear) selectedSpecies).reproduce();
                         reproduce("Bear");
                     }
@@ -450,39 +530,57 @@ public class MainApp extends Application {
                     selectedSpecies = null;
                     interactionLabel.setText("Selection cleared.");
                     break;
+                // Replay controls: speed up, slow down, step a checkpoint forward or back, go to the start
+                case UP:
+                    changeReplaySpeed(10);
+                    break;
+                case DOWN:
+                    changeReplaySpeed(0.1);
+                    break;
+                case RIGHT:
+                    if (replay != null) {
+                        seekReplay(replay.getTick() + CHECKPOINT_TICKS);
+                    }
+                    break;
+                case LEFT:
+                    if (replay != null) {
+                        seekReplay(replay.getTick() - CHECKPOINT_TICKS);
+                    }
+                    break;
+                case HOME:
+                    if (replay != null) {
+                        seekReplay(replay.getFirstTick());
+                    }
+                    break;
             }
         });
     }
-    private int countspecies(String type) {
-        int count = 0;
-        for (Species species : forest.getSpeciesList()) {
-            if (type.equals("Bear") && species instanceof Bear) {
-                count++;
-            } else if (type.equals("Wolf") && species instanceof Wolf) {
-                count++;
-            } else if (type.equals("Rabbit") && species instanceof Rabbit) {
-                count++;
-            } else if (type.equals("Human") && species instanceof Human) {
-                count++;
-            }
-        }
-        return count;
+    private int countspecies(SpeciesKind kind) {
+        return forest.getStatistics().count(kind);
     }
     private void reproduce(String type) {
-        Positionn position = createPositonn(minDistance);
+        Positionn position;
+        try {
+            // Animals have moved since they were placed, so index their current positions
+            resyncPlacer();
+            position = createPositonn();
+        } catch (EcosystemException e) {
+            interactionLabel.setText("No room left for a new " + type + ".");
+            return;
+        }
         Species obj = null;
         switch (type) {
             case "Bear" -> {
-                obj = new Bear("Bear" + (countspecies("Bear") + 1), 80, position, forest, 50, 2.0, 10, new ImageView());
+                obj = new Bear("Bear" + (countspecies(SpeciesKind.BEAR) + 1), 80, position, forest, 50, 2.0, 10, new ImageView());
             }
             case "Wolf" -> {
-                obj = new Wolf("Wolf" + (countspecies("Wolf") + 1), 50, position, forest, true, 15, new ImageView());
+                obj = new Wolf("Wolf" + (countspecies(SpeciesKind.WOLF) + 1), 50, position, forest, true, 15, new ImageView());
             }
             case "Rabbit" -> {
-                obj = new Rabbit("Rabbit" + (countspecies("Rabbit") + 1), 80, position, forest, 2.0, 10, new ImageView());
+                obj = new Rabbit("Rabbit" + (countspecies(SpeciesKind.RABBIT) + 1), 80, position, forest, 2.0, 10, new ImageView());
             }
             case "Human" -> {
-                obj = new Human("Human" + (countspecies("Human") + 1), 90, position, forest, 30, 8, new ImageView());
+                obj = new Human("Human" + (countspecies(SpeciesKind.HUMAN) + 1), 90, position, forest, 30, 8, new ImageView());
             }
             default -> {
                 System.out.println("Unknown species type: " + type);
@@ -563,37 +661,27 @@ public class MainApp extends Application {
 
 
     // Additional helper methods for clarity and maintainability
-    private void handleSeasonChange(String season) {
+    private void handleSeasonChange(Season season) {
         forest.mettreAJourSaison(season);
-        updateForestImage("forest_" + season.toLowerCase() + ".png");
+        updateForestImage(forestImageOf(season));
         updateSeasonEffects(season);
     }
 
-    private void updateSeasonEffects(String season) {
-        // Implement season-specific effects
-        switch (season.toLowerCase()) {
-            case "winter" -> {
-                forest.getSpeciesList().forEach(species -> species.setEnergy((int)(species.getEnergy() * 0.8)));
-                forest.getResources().forEach(resource -> resource.setQuantity((int)(resource.getQuantity() * 0.5)));
-            }
-            case "spring" -> {
-                reproduceSpecies("Rabbit", 2);
-                forest.getResources().forEach(resource -> resource.setQuantity((int)(resource.getQuantity() * 1.5)));
-            }
-            case "summer" -> {
-                forest.getSpeciesList().forEach(species -> species.setEnergy((int)(species.getEnergy() * 1.2)));
-                reproduceSpecies("Wolf", 1);
-            }
-            case "autumn" -> {
-                forest.getResources().forEach(resource -> resource.setQuantity((int)(resource.getQuantity() * 1.2)));
-            }
-        }
-        updateStatistics();
+    private static String forestImageOf(Season season) {
+        return "forest_" + season.name().toLowerCase() + ".png";
+    }
+
+    private void updateSeasonEffects(Season season) {
+        // The factors of the season are applied in one pass over the species and the resources
+        forest.appliquerEffetsSaison();
+        reproduceSpecies("Rabbit", season.getReproductionAttempts(SpeciesKind.RABBIT));
+        reproduceSpecies("Wolf", season.getReproductionAttempts(SpeciesKind.WOLF));
+        updateStatistics(engine.getStatistics());
     }
 
     private void reproduceSpecies(String type, int count) {
         for (int i = 0; i < count; i++) {
-            if (random.nextDouble() < 0.5) {  // 50% chance of reproduction
+            if (random.nextDouble() < Season.REPRODUCTION_CHANCE) {
                 reproduce(type);
             }
         }
@@ -1,5 +1,10 @@
 package com.example.projectfx.ecosystem;
 
+import com.example.projectfx.events.EnvironmentAdjusted;
+import com.example.projectfx.events.SeasonEffect;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.species.SpeciesKind;
+
 /**
  * The {@code Air} class represents an air-based environment within the ecosystem.
  * It extends the {@code Environment} class and introduces specific rules
@@ -26,15 +31,13 @@ public class Air extends Environment {
      */
     @Override
     public void appliquerReglesEnvironment() {
-        System.out.println("Appliquer les règles spécifiques à l'air.");
-
         // Adjust wind speed based on the number of flying species
-        if (!speciesList.isEmpty()) {
-            long flyingSpeciesCount = speciesList.stream()
-                    .filter(species -> species.getClass().getSimpleName().equals("FlyingSpecies")) // Example filter
-                    .count();
+        if (!getSpeciesList().isEmpty()) {
+            long flyingSpeciesCount = getStatistics().count(SpeciesKind::isFlying);
             this.windSpeed += flyingSpeciesCount * 0.5; // Adjust wind speed
-            System.out.println("Vitesse du vent ajustée : " + windSpeed + " km/h.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new EnvironmentAdjusted(getClass().getSimpleName(), "Vitesse du vent", windSpeed));
+            }
         }
     }
 
@@ -45,26 +48,18 @@ public class Air extends Environment {
      * @param newSeason the new season to set.
      */
     @Override
-    public void mettreAJourSaison(String newSeason) {
+    public void mettreAJourSaison(Season newSeason) {
         super.mettreAJourSaison(newSeason);
 
         // Additional seasonal effects specific to the air environment
-        switch (currentSeason) {
-            case "Spring":
-                System.out.println("Les oiseaux migrateurs reviennent dans l'environnement.");
-                break;
-            case "Summer":
-                System.out.println("Les courants thermiques augmentent, facilitant le vol.");
-                break;
-            case "Autumn":
-                System.out.println("Les vents forts perturbent les espèces volantes.");
-                break;
-            case "Winter":
-                System.out.println("Les tempêtes hivernales affectent les déplacements aériens.");
-                break;
-            default:
-                System.out.println("Effets saisonniers inconnus.");
-                break;
+        if (SimulationEvents.isEnabled()) {
+            String effect = switch (currentSeason) {
+                case SPRING -> "Les oiseaux migrateurs reviennent dans l'environnement.";
+                case SUMMER -> "Les courants thermiques augmentent, facilitant le vol.";
+                case AUTUMN -> "Les vents forts perturbent les espèces volantes.";
+                case WINTER -> "Les tempêtes hivernales affectent les déplacements aériens.";
+            };
+            SimulationEvents.publish(new SeasonEffect(getClass().getSimpleName(), effect));
         }
     }
 
@@ -0,0 +1,491 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.exceptions.EcosystemException;
+import com.example.projectfx.resources.Algae;
+import com.example.projectfx.resources.Fruits;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Bear;
+import com.example.projectfx.species.Canari;
+import com.example.projectfx.species.Crow;
+import com.example.projectfx.species.Fish;
+import com.example.projectfx.species.HerbivorousFish;
+import com.example.projectfx.species.Human;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Shark;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+import com.example.projectfx.species.Wolf;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The {@code Checkpoint} class is a binary snapshot of the whole state of an
+ * {@link Ecosystem}: its environments with their season, their species, resources and
+ * vegetation, the population counters, the tick and the seed of the run.
+ * <p>
+ * {@link #capture(Ecosystem, long, long) Capturing} a checkpoint encodes the state in
+ * a heap buffer on the calling thread, which is the only time the simulation must stand
+ * still. The buffer is never modified afterwards, so it can then be
+ * {@link #writeAsync(Path, Executor) written} on another thread while the ticks go on.
+ * Files are written through a {@link FileChannel} to a temporary file, forced to the
+ * disk and then moved over the target, so a crash never leaves a truncated checkpoint.
+ * Reading maps the file in memory and decodes it in one sequential pass.
+ * <p>
+ * The format is little-endian and starts with {@link #MAGIC} and {@link #VERSION}:
+ * <pre>
+ *     header       magic int, version short, tick long, seed long,
+ *                  kinds byte, then births long and deaths long per kind,
+ *                  environments int
+ *     environment  type byte, parameter double, season byte,
+ *                  species int, species rows, active int, active rows,
+ *                  resources int, resource rows, vegetation byte, vegetation
+ *     species      kind byte, sleeping byte, x int, y int, energy int, vitesse int,
+ *                  two doubles and a string for the attributes of the kind, name string
+ *     active       index int of an awake species in the species rows, in the order
+ *                  of the active species of the environment
+ *     resource     type byte, x int, y int, quantity int, rate double
+ *     vegetation   only if the vegetation byte is 1: columns int, rows int, cell size int,
+ *                  capacity float, growth rate float, diffusion rate float,
+ *                  then the density float of each cell, row after row
+ *     string       length short, UTF-8 bytes
+ * </pre>
+ * Species whose environment is not part of the ecosystem, graphical representations,
+ * the random streams of the species and the pending timed behaviors are not saved:
+ * the movements of a resumed run only depend on the seed and the tick. The order of the
+ * species and of the active species is kept, since the engine derives the random stream
+ * of a species from its index: a resumed run makes exactly the same moves as the
+ * original one.
+ */
+public final class Checkpoint {
+    /**
+     * The first bytes of a checkpoint, "ECOC".
+     */
+    public static final int MAGIC = 0x45434F43;
+
+    /**
+     * The version of the format written by this class.
+     */
+    public static final short VERSION = 3;
+
+    private static final byte FOREST = 0;
+    private static final byte AIR = 1;
+    private static final byte OCEAN = 2;
+
+    private static final byte GRASS = 0;
+    private static final byte FRUITS = 1;
+    private static final byte ALGAE = 2;
+
+    private static final SpeciesKind[] KINDS = SpeciesKind.values();
+    private static final Season[] SEASONS = Season.values();
+
+    /**
+     * The encoded state, from position zero to its limit.
+     */
+    private final ByteBuffer data;
+
+    /**
+     * The tick at which the checkpoint was captured.
+     */
+    private final long tick;
+
+    /**
+     * The seed of the captured run.
+     */
+    private final long seed;
+
+    private Checkpoint(ByteBuffer data, long tick, long seed) {
+        this.data = data;
+        this.tick = tick;
+        this.seed = seed;
+    }
+
+    /**
+     * Captures the state of an ecosystem.
+     *
+     * @param ecosystem the ecosystem to capture.
+     * @param tick      the current tick of the run.
+     * @param seed      the seed of the run.
+     * @return the checkpoint.
+     * @throws EcosystemException if an environment, species or resource has a type the format does not cover.
+     */
+    public static Checkpoint capture(Ecosystem ecosystem, long tick, long seed) throws EcosystemException {
+        Encoder encoder = new Encoder(64 + 64 * ecosystem.getEntityRegistry().size());
+        encoder.ensure(4 + 2 + 8 + 8 + 1 + KINDS.length * 16 + 4);
+        encoder.buffer.putInt(MAGIC).putShort(VERSION).putLong(tick).putLong(seed);
+        encoder.buffer.put((byte) KINDS.length);
+        PopulationRegistry population = ecosystem.getPopulationRegistry();
+        for (SpeciesKind kind : KINDS) {
+            encoder.buffer.putLong(population.getBirths(kind)).putLong(population.getDeaths(kind));
+        }
+        List<Environment> environments = ecosystem.getEnvironnements();
+        encoder.buffer.putInt(environments.size());
+        for (Environment environment : environments) {
+            encoder.putEnvironment(environment);
+        }
+        ByteBuffer data = encoder.buffer.flip();
+        return new Checkpoint(data.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN), tick, seed);
+    }
+
+    /**
+     * Reads a checkpoint from a file.
+     *
+     * @param path the file to read.
+     * @return the checkpoint.
+     * @throws EcosystemException if the file cannot be read or is not a checkpoint of a supported version.
+     */
+    public static Checkpoint read(Path path) throws EcosystemException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (data.remaining() < 22 || data.getInt(0) != MAGIC) {
+                throw new EcosystemException("Not a checkpoint: " + path);
+            }
+            if (data.getShort(4) != VERSION) {
+                throw new EcosystemException("Unsupported checkpoint version " + data.getShort(4) + ": " + path);
+            }
+            return new Checkpoint(data, data.getLong(6), data.getLong(14));
+        } catch (IOException e) {
+            throw new EcosystemException("Cannot read the checkpoint " + path, e);
+        }
+    }
+
+    /**
+     * Writes the checkpoint to a file, replacing it if it exists.
+     *
+     * @param path the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = data.duplicate();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the checkpoint to a file on the given executor.
+     *
+     * @param path     the file to write.
+     * @param executor the executor running the write.
+     * @return a future completed with the path once the file is on the disk.
+     */
+    public CompletableFuture<Path> writeAsync(Path path, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(path);
+                return path;
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot write the checkpoint " + path, e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Rebuilds the captured ecosystem. Each call gives a new, independent ecosystem.
+     *
+     * @return the restored ecosystem.
+     * @throws EcosystemException if the checkpoint is corrupted.
+     */
+    public Ecosystem restore() throws EcosystemException {
+        ByteBuffer buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            buffer.position(22);
+            int kinds = buffer.get();
+            long[] births = new long[kinds];
+            long[] deaths = new long[kinds];
+            for (int i = 0; i < kinds; i++) {
+                births[i] = buffer.getLong();
+                deaths[i] = buffer.getLong();
+            }
+            Ecosystem ecosystem = new Ecosystem();
+            int environments = buffer.getInt();
+            for (int i = 0; i < environments; i++) {
+                Environment environment = newEnvironment(buffer.get(), buffer.getDouble());
+                environment.currentSeason = SEASONS[buffer.get()];
+                ecosystem.ajouterEnvironnement(environment);
+                restoreSpecies(buffer, environment);
+                restoreResources(buffer, environment);
+                restoreVegetation(buffer, environment);
+            }
+            PopulationRegistry population = ecosystem.getPopulationRegistry();
+            for (int i = 0; i < Math.min(kinds, KINDS.length); i++) {
+                population.restore(KINDS[i], births[i], deaths[i]);
+            }
+            return ecosystem;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new EcosystemException("The checkpoint is corrupted.", e);
+        }
+    }
+
+    /**
+     * Retrieves the tick at which the checkpoint was captured.
+     *
+     * @return the tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retrieves the seed of the captured run.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the size of the encoded state.
+     *
+     * @return the number of bytes.
+     */
+    public int getSize() {
+        return data.limit();
+    }
+
+    private static void restoreSpecies(ByteBuffer buffer, Environment environment) throws EcosystemException {
+        int count = buffer.getInt();
+        environment.getEntityRegistry().ensureCapacity(environment, count);
+        Species[] restored = new Species[count];
+        for (int i = 0; i < count; i++) {
+            SpeciesKind kind = KINDS[buffer.get()];
+            buffer.get(); // The sleep state follows from the active rows
+            Positionn position = new Positionn(buffer.getInt(), buffer.getInt());
+            int energy = buffer.getInt();
+            int vitesse = buffer.getInt();
+            double first = buffer.getDouble();
+            double second = buffer.getDouble();
+            String text = getString(buffer);
+            String name = getString(buffer);
+            Species species = switch (kind) {
+                case RABBIT -> new Rabbit(name, energy, position, environment, first, vitesse, null);
+                case WOLF -> new Wolf(name, energy, position, environment, first != 0, vitesse, null);
+                case BEAR -> new Bear(name, energy, position, environment, first, second, vitesse, null);
+                case HUMAN -> new Human(name, energy, position, environment, (int) first, vitesse, null);
+                case FISH -> new Fish(name, energy, position, environment, first, vitesse, null);
+                case HERBIVOROUS_FISH -> new HerbivorousFish(name, energy, position, environment, first, vitesse, null);
+                case SHARK -> new Shark(name, energy, position, environment, (int) first, second, vitesse, null);
+                case CROW -> new Crow(name, energy, position, environment, vitesse, text, null);
+                case CANARI -> new Canari(name, energy, position, environment, vitesse, text, null);
+                default -> throw new EcosystemException("Cannot restore a species of kind " + kind);
+            };
+            // Every species is added asleep, then woken up in the order of the active species
+            species.setSleeping(true);
+            environment.ajouterEspece(species);
+            restored[i] = species;
+        }
+        int active = buffer.getInt();
+        for (int i = 0; i < active; i++) {
+            restored[buffer.getInt()].setSleeping(false);
+        }
+    }
+
+    private static void restoreResources(ByteBuffer buffer, Environment environment) throws EcosystemException {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            byte type = buffer.get();
+            Positionn position = new Positionn(buffer.getInt(), buffer.getInt());
+            int quantity = buffer.getInt();
+            double rate = buffer.getDouble();
+            Resource resource = switch (type) {
+                case GRASS -> new Grass(quantity, position, rate, null);
+                case FRUITS -> new Fruits(quantity, position, rate, null);
+                case ALGAE -> new Algae(quantity, position, rate, null);
+                default -> throw new EcosystemException("Unknown resource type " + type);
+            };
+            environment.ajouterResource(resource);
+        }
+    }
+
+    private static void restoreVegetation(ByteBuffer buffer, Environment environment) throws EcosystemException {
+        if (buffer.get() == 0) {
+            return;
+        }
+        int columns = buffer.getInt();
+        int rows = buffer.getInt();
+        int cellSize = buffer.getInt();
+        float capacity = buffer.getFloat();
+        float growthRate = buffer.getFloat();
+        float diffusionRate = buffer.getFloat();
+        VegetationField vegetation;
+        try {
+            vegetation = new VegetationField(Math.multiplyExact(columns, cellSize), Math.multiplyExact(rows, cellSize),
+                    cellSize, capacity, growthRate, diffusionRate);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new EcosystemException("The checkpoint holds an invalid vegetation field.", e);
+        }
+        if (vegetation.getColumns() != columns || vegetation.getRows() != rows) {
+            throw new EcosystemException("The checkpoint holds an invalid vegetation field.");
+        }
+        float[] densities = vegetation.densities();
+        buffer.asFloatBuffer().get(densities);
+        buffer.position(buffer.position() + 4 * densities.length);
+        environment.setVegetation(vegetation);
+    }
+
+    private static Environment newEnvironment(byte type, double parameter) throws EcosystemException {
+        return switch (type) {
+            case FOREST -> new Forest(parameter);
+            case AIR -> new Air(parameter);
+            case OCEAN -> new Ocean(parameter);
+            default -> throw new EcosystemException("Unknown environment type " + type);
+        };
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes the state into a heap buffer that grows as needed.
+     */
+    private static final class Encoder {
+        private ByteBuffer buffer;
+
+        private Encoder(int capacity) {
+            buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+                buffer = grown.put(buffer.flip());
+            }
+        }
+
+        private void putEnvironment(Environment environment) throws EcosystemException {
+            ensure(1 + 8 + 1 + 4);
+            switch (environment) {
+                case Forest forest -> buffer.put(FOREST).putDouble(forest.getTreeDensity());
+                case Air air -> buffer.put(AIR).putDouble(air.getWindSpeed());
+                case Ocean ocean -> buffer.put(OCEAN).putDouble(ocean.getSalinity());
+                default -> throw new EcosystemException("Cannot capture an environment of type "
+                        + environment.getClass().getSimpleName());
+            }
+            buffer.put((byte) environment.getSaison().ordinal());
+
+            // The rows follow the species of the environment, so a row is the index of its species there
+            List<Species> species = environment.getSpeciesList();
+            buffer.putInt(species.size());
+            for (Species current : species) {
+                putSpecies(current);
+            }
+            EntityRegistry registry = environment.getEntityRegistry();
+            List<Species> active = environment.getActiveSpecies();
+            ensure(4 + 4 * active.size());
+            buffer.putInt(active.size());
+            for (Species current : active) {
+                buffer.putInt(registry.getEnvironmentIndex(current));
+            }
+            List<Resource> resources = new ArrayList<>(environment.getResources());
+            ensure(4 + resources.size() * (1 + 12 + 8));
+            buffer.putInt(resources.size());
+            for (Resource resource : resources) {
+                byte type = switch (resource) {
+                    case Grass grass -> GRASS;
+                    case Fruits fruits -> FRUITS;
+                    case Algae algae -> ALGAE;
+                    default -> throw new EcosystemException("Cannot capture a resource of type " + resource.getType());
+                };
+                buffer.put(type).putInt(resource.getX()).putInt(resource.getY()).putInt(resource.getQuantity())
+                        .putDouble(rateOf(resource));
+            }
+            putVegetation(environment.getVegetation());
+        }
+
+        private void putVegetation(VegetationField vegetation) {
+            if (vegetation == null) {
+                ensure(1);
+                buffer.put((byte) 0);
+                return;
+            }
+            float[] densities = vegetation.densities();
+            ensure(1 + 12 + 12 + 4 * densities.length);
+            buffer.put((byte) 1)
+                    .putInt(vegetation.getColumns()).putInt(vegetation.getRows()).putInt(vegetation.getCellSize())
+                    .putFloat(vegetation.getCapacity()).putFloat(vegetation.getGrowthRate())
+                    .putFloat(vegetation.getDiffusionRate());
+            buffer.asFloatBuffer().put(densities);
+            buffer.position(buffer.position() + 4 * densities.length);
+        }
+
+        private void putSpecies(Species species) throws EcosystemException {
+            double first = 0;
+            double second = 0;
+            String text = "";
+            switch (species.getKind()) {
+                case RABBIT -> first = ((Rabbit) species).getSpeed();
+                case WOLF -> first = ((Wolf) species).hasPackInstinct() ? 1 : 0;
+                case BEAR -> {
+                    first = ((Bear) species).getStrength();
+                    second = ((Bear) species).getSpeed();
+                }
+                case HUMAN -> first = ((Human) species).getDefensePower();
+                case FISH -> first = ((Fish) species).getSwimSpeed();
+                case HERBIVOROUS_FISH -> first = ((HerbivorousFish) species).getSwimSpeed();
+                case SHARK -> {
+                    first = ((Shark) species).getAttackStrength();
+                    second = ((Shark) species).getSwimSpeed();
+                }
+                case CROW -> text = ((Crow) species).getFeatherColor();
+                case CANARI -> text = ((Canari) species).getFeatherColor();
+                default -> throw new EcosystemException("Cannot capture a species of kind " + species.getKind());
+            }
+            byte[] textBytes = bytesOf(text);
+            byte[] nameBytes = bytesOf(species.getName());
+            ensure(2 + 16 + 16 + 4 + textBytes.length + nameBytes.length);
+            buffer.put((byte) species.getKind().ordinal())
+                    .put((byte) (species.isSleeping() ? 1 : 0))
+                    .putInt(species.getX()).putInt(species.getY())
+                    .putInt(species.getEnergy()).putInt(species.getVitesse())
+                    .putDouble(first).putDouble(second);
+            buffer.putShort((short) textBytes.length).put(textBytes);
+            buffer.putShort((short) nameBytes.length).put(nameBytes);
+        }
+
+        private static double rateOf(Resource resource) {
+            return switch (resource) {
+                case Grass grass -> grass.getGrowthRate();
+                case Fruits fruits -> fruits.getRipeningRate();
+                case Algae algae -> algae.getReproductionRate();
+                default -> 0;
+            };
+        }
+
+        private static byte[] bytesOf(String text) throws EcosystemException {
+            byte[] bytes = text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new EcosystemException("A name is too long to be captured: " + text.length() + " characters.");
+            }
+            return bytes;
+        }
+    }
+}
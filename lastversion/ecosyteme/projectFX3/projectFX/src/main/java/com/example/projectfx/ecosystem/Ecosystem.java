@@ -1,13 +1,28 @@
 package com.example.projectfx.ecosystem;
 
+import com.example.projectfx.events.CycleStarted;
+import com.example.projectfx.events.Died;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.events.SimulationStarted;
 import com.example.projectfx.species.Species;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * The {@code Ecosystem} class represents an entire ecosystem, containing multiple environments and species.
  * It manages the simulation cycles, updates, and interactions within the ecosystem.
+ * <p>
+ * The environments share no state within a cycle, so in {@link ExecutionMode#PARALLEL}
+ * mode each of them is stepped on its own worker and the cycle only goes on once
+ * all the workers are done.
  */
 public class Ecosystem {
     /**
@@ -16,19 +31,34 @@ public class Ecosystem {
     private List<Environment> listOfEnvironments = new ArrayList<>();
 
     /**
-     * The list of species in the ecosystem.
+     * The registry holding the species and resources of every environment of the ecosystem.
      */
-    private List<Species> listOfSpecies = new ArrayList<>();
+    private final EntityRegistry entityRegistry = new EntityRegistry();
+
+    /**
+     * The registry counting the births and deaths of every species of the ecosystem.
+     */
+    private final PopulationRegistry populationRegistry = new PopulationRegistry();
+
+    /**
+     * The way the environments are stepped during a cycle.
+     */
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+
+    /**
+     * The executor running the environments in {@link ExecutionMode#PARALLEL} mode.
+     */
+    private ExecutorService executor = ForkJoinPool.commonPool();
 
     /**
      * Starts the simulation by applying environment-specific rules
      * and updating the cycle for the entire ecosystem.
      */
     public void lancerSimulation() {
-        System.out.println("Simulation démarrée.");
-        for (Environment environment : listOfEnvironments) {
-            environment.appliquerReglesEnvironment();
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new SimulationStarted());
         }
+        forEachEnvironment(Environment::appliquerReglesEnvironment);
         mettreAJourCycle();
     }
 
@@ -36,31 +66,89 @@ public class Ecosystem {
      * Updates the ecosystem for one cycle. This includes:
      * <ul>
      *     <li>Removing species with no energy left.</li>
-     *     <li>Allowing species to move and reproduce.</li>
+     *     <li>Allowing awake species to move and reproduce.</li>
      *     <li>Updating all environments to the new season.</li>
      * </ul>
      */
     public void mettreAJourCycle() {
-        System.out.println("\n=== Mise à jour du cycle ===");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new CycleStarted());
+        }
 
-        // Loop through species and update their status
-        for (int i = 0; i < listOfSpecies.size(); i++) {
-            Species species = listOfSpecies.get(i);
+        // Each worker only touches the species of its own environment
+        forEachEnvironment(environment -> {
+            updateSpecies(new ArrayList<>(environment.getActiveSpecies()));
+            environment.mettreAJourSaison(Season.SPRING);
+        });
+
+        // Species whose environment is not part of the ecosystem
+        List<Species> orphans = new ArrayList<>();
+        for (Species species : entityRegistry.getSpecies()) {
+            if (!listOfEnvironments.contains(species.getEnvironment())) {
+                orphans.add(species);
+            }
+        }
+        updateSpecies(orphans);
+    }
 
+    /**
+     * Updates the status of the given species for one cycle.
+     *
+     * @param species the species to update.
+     */
+    private void updateSpecies(List<Species> species) {
+        for (Species current : species) {
             // Remove species with no energy left
-            if (species.getEnergy() <= 0) {
-                System.out.println(species.getName() + " est mort.");
-                listOfSpecies.remove(i);
-                i--; // Adjust index after removal
+            if (current.getEnergy() <= 0) {
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Died(current.getName(), "no energy left"));
+                }
+                current.getEnvironment().retirerEspece(current);
             } else {
-                species.move("dans une direction aléatoire");
-                species.reproduce();
+                current.move("dans une direction aléatoire");
+                current.reproduce();
+            }
+        }
+    }
+
+    /**
+     * Performs an action on every environment, according to the execution mode.
+     * In {@link ExecutionMode#PARALLEL} mode, this method returns once the action
+     * has completed on every environment.
+     *
+     * @param action the action to perform.
+     */
+    private void forEachEnvironment(Consumer<Environment> action) {
+        if (executionMode == ExecutionMode.SEQUENTIAL || listOfEnvironments.size() < 2) {
+            for (Environment environment : listOfEnvironments) {
+                action.accept(environment);
             }
+            return;
         }
 
-        // Update all environments
+        List<Callable<Void>> tasks = new ArrayList<>(listOfEnvironments.size());
         for (Environment environment : listOfEnvironments) {
-            environment.mettreAJourSaison("Spring");
+            tasks.add(() -> {
+                action.accept(environment);
+                return null;
+            });
+        }
+        try {
+            // invokeAll is the tick barrier: it returns once every task is done
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while stepping the environments.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
         }
     }
 
@@ -76,7 +164,7 @@ public class Ecosystem {
         for (Environment environment : listOfEnvironments) {
             System.out.println("Environnement : " + environment.getClass().getSimpleName());
             System.out.println("Espèces présentes :");
-            for (Species species : environment.speciesList) {
+            for (Species species : environment.getSpeciesList()) {
                 System.out.println("- " + species.getName() + " (Énergie : " + species.getEnergy() + ")");
             }
             System.out.println();
@@ -90,6 +178,8 @@ public class Ecosystem {
      */
     public void ajouterEnvironnement(Environment environment) {
         listOfEnvironments.add(environment);
+        environment.setPopulationRegistry(populationRegistry);
+        environment.setEntityRegistry(entityRegistry);
         System.out.println("Environnement ajouté : " + environment.getClass().getSimpleName());
     }
 
@@ -99,9 +189,11 @@ public class Ecosystem {
      * @param species the species to add.
      */
     public void ajouterEspece(Species species) {
-        listOfSpecies.add(species);
-        species.getEnvironment().ajouterEspece(species);
-        System.out.println("Espèce ajoutée : " + species.getName());
+        Environment environment = species.getEnvironment();
+        if (environment.getEntityRegistry() != entityRegistry) {
+            environment.setEntityRegistry(entityRegistry);
+        }
+        environment.ajouterEspece(species);
     }
 
     /**
@@ -110,7 +202,72 @@ public class Ecosystem {
      * @param species the species to remove.
      */
     public void removeEspece(Species species) {
-        listOfSpecies.remove(species);
-        System.out.println("Espèce supprimée : " + species.getName());
+        species.getEnvironment().retirerEspece(species);
+    }
+
+    /**
+     * Retrieves the environments of the ecosystem, in the order they were added. The
+     * list cannot be modified.
+     *
+     * @return the list of environments.
+     */
+    public List<Environment> getEnvironnements() {
+        return Collections.unmodifiableList(listOfEnvironments);
+    }
+
+    /**
+     * Retrieves the list of species in the ecosystem. The list cannot be modified.
+     *
+     * @return the list of species.
+     */
+    public List<Species> getSpeciesList() {
+        return entityRegistry.getSpecies();
+    }
+
+    /**
+     * Retrieves the registry holding the species and resources of every environment of the ecosystem.
+     *
+     * @return the entity registry.
+     */
+    public EntityRegistry getEntityRegistry() {
+        return entityRegistry;
+    }
+
+    /**
+     * Retrieves the registry counting the births and deaths of every species of the ecosystem.
+     *
+     * @return the population registry.
+     */
+    public PopulationRegistry getPopulationRegistry() {
+        return populationRegistry;
+    }
+
+    /**
+     * Retrieves the way the environments are stepped during a cycle.
+     *
+     * @return the execution mode.
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets the way the environments are stepped during a cycle.
+     *
+     * @param executionMode the new execution mode.
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Sets the executor running the environments in {@link ExecutionMode#PARALLEL} mode,
+     * for instance {@code Executors.newVirtualThreadPerTaskExecutor()}. The ecosystem does
+     * not shut the executor down.
+     *
+     * @param executor the new executor.
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
     }
 }
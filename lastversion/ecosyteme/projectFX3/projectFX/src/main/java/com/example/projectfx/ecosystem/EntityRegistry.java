@@ -0,0 +1,464 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.interfaces.Identifiable;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The {@code EntityRegistry} class is the single record of the species and resources
+ * living in a group of environments.
+ * <p>
+ * Each registered entity receives a generational id: the low 32 bits are the index of
+ * its slot, and the high 32 bits are the generation of the slot, which is incremented
+ * when the slot is freed. An id therefore stays invalid once its entity is removed,
+ * even after the slot is reused, and looking up an id or checking if it is alive only
+ * reads two arrays.
+ * <p>
+ * The registry also keeps dense views of the species of each environment, of each
+ * kind and of the whole registry, and of the resources of each environment. Every slot
+ * remembers where its entity sits in each view, so a removal swaps the last element of
+ * each view into the hole and runs in constant time. The order of a view is the order
+ * of registration until the first removal, and stays deterministic afterwards.
+ * <p>
+ * The species of each environment are also partitioned between active and dormant
+ * ones: a sleeping species leaves the view of the active species, in constant time,
+ * so the phases of a tick do not visit it.
+ * <p>
+ * The registry is synchronized for registrations and removals, so environments stepped
+ * on different threads can share it. The views must not be read while another thread
+ * modifies them.
+ */
+public class EntityRegistry {
+    /**
+     * The entity of each slot, or {@code null} for a free slot.
+     */
+    private Identifiable[] entities = new Identifiable[16];
+
+    /**
+     * The generation of each slot.
+     */
+    private int[] generations = new int[16];
+
+    /**
+     * The environment of the entity of each slot.
+     */
+    private Environment[] environments = new Environment[16];
+
+    /**
+     * The index of the entity of each slot in the view of its environment.
+     */
+    private int[] environmentIndexes = new int[16];
+
+    /**
+     * The index of the species of each slot in the view of the active species of its
+     * environment, or -1 if it is dormant.
+     */
+    private int[] activeIndexes = new int[16];
+
+    /**
+     * The index of the species of each slot in the view of its kind.
+     */
+    private int[] kindIndexes = new int[16];
+
+    /**
+     * The index of the species of each slot in the view of every species.
+     */
+    private int[] globalIndexes = new int[16];
+
+    /**
+     * The stack of free slots.
+     */
+    private int[] freeSlots = new int[16];
+
+    /**
+     * The number of free slots on the stack.
+     */
+    private int freeCount;
+
+    /**
+     * The number of slots ever used.
+     */
+    private int slotCount;
+
+    /**
+     * The species of every environment.
+     */
+    private final DenseList<Species> species = new DenseList<>();
+
+    /**
+     * The species of each kind, indexed by ordinal.
+     */
+    private final DenseList<Species>[] speciesByKind;
+
+    /**
+     * The species of each environment.
+     */
+    private final Map<Environment, DenseList<Species>> speciesByEnvironment = new IdentityHashMap<>();
+
+    /**
+     * The species of each environment that are not sleeping.
+     */
+    private final Map<Environment, DenseList<Species>> activeByEnvironment = new IdentityHashMap<>();
+
+    /**
+     * The resources of each environment.
+     */
+    private final Map<Environment, DenseList<Resource>> resourcesByEnvironment = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty {@code EntityRegistry}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public EntityRegistry() {
+        speciesByKind = new DenseList[SpeciesKind.values().length];
+        for (int i = 0; i < speciesByKind.length; i++) {
+            speciesByKind[i] = new DenseList<>();
+        }
+    }
+
+    /**
+     * Registers a species in the given environment.
+     *
+     * @param entity      the species to register.
+     * @param environment the environment of the species.
+     * @return {@code true} if the species was registered, {@code false} if it already was.
+     */
+    public synchronized boolean register(Species entity, Environment environment) {
+        if (contains(entity)) {
+            return false;
+        }
+        int slot = allocate(entity, environment);
+        environmentIndexes[slot] = speciesOf(environment).append(entity, slot);
+        activeIndexes[slot] = entity.isSleeping() ? -1 : activeOf(environment).append(entity, slot);
+        kindIndexes[slot] = speciesByKind[entity.getKind().ordinal()].append(entity, slot);
+        globalIndexes[slot] = species.append(entity, slot);
+        return true;
+    }
+
+    /**
+     * Registers a resource in the given environment.
+     *
+     * @param entity      the resource to register.
+     * @param environment the environment of the resource.
+     * @return {@code true} if the resource was registered, {@code false} if it already was.
+     */
+    public synchronized boolean register(Resource entity, Environment environment) {
+        if (contains(entity)) {
+            return false;
+        }
+        int slot = allocate(entity, environment);
+        environmentIndexes[slot] = resourcesOf(environment).append(entity, slot);
+        return true;
+    }
+
+    /**
+     * Removes an entity from the registry and from every view. Its id becomes invalid.
+     *
+     * @param entity the entity to remove.
+     * @return {@code true} if the entity was registered, {@code false} otherwise.
+     */
+    public synchronized boolean remove(Identifiable entity) {
+        if (!contains(entity)) {
+            return false;
+        }
+        int slot = slotOf(entity.getId());
+        Environment environment = environments[slot];
+        if (entity instanceof Species living) {
+            fixIndex(speciesOf(environment).swapRemove(environmentIndexes[slot]), environmentIndexes[slot], environmentIndexes);
+            if (activeIndexes[slot] >= 0) {
+                fixIndex(activeOf(environment).swapRemove(activeIndexes[slot]), activeIndexes[slot], activeIndexes);
+            }
+            fixIndex(speciesByKind[living.getKind().ordinal()].swapRemove(kindIndexes[slot]), kindIndexes[slot], kindIndexes);
+            fixIndex(species.swapRemove(globalIndexes[slot]), globalIndexes[slot], globalIndexes);
+        } else {
+            fixIndex(resourcesOf(environment).swapRemove(environmentIndexes[slot]), environmentIndexes[slot], environmentIndexes);
+        }
+
+        entities[slot] = null;
+        environments[slot] = null;
+        generations[slot]++;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        entity.setId(Identifiable.NO_ID);
+        return true;
+    }
+
+    /**
+     * Moves a registered species between the active and dormant species of its environment.
+     *
+     * @param entity the species to move.
+     * @param active {@code true} to make the species active, {@code false} to make it dormant.
+     */
+    public synchronized void setActive(Species entity, boolean active) {
+        if (!contains(entity)) {
+            return;
+        }
+        int slot = slotOf(entity.getId());
+        if (active && activeIndexes[slot] < 0) {
+            activeIndexes[slot] = activeOf(environments[slot]).append(entity, slot);
+        } else if (!active && activeIndexes[slot] >= 0) {
+            fixIndex(activeOf(environments[slot]).swapRemove(activeIndexes[slot]), activeIndexes[slot], activeIndexes);
+            activeIndexes[slot] = -1;
+        }
+    }
+
+    /**
+     * Makes room for a number of species about to be registered in an environment, so
+     * that registering many species at once, such as when a checkpoint is restored,
+     * does not grow the arrays of the registry one doubling at a time.
+     *
+     * @param environment the environment of the species.
+     * @param additional  the number of species about to be registered.
+     */
+    public synchronized void ensureCapacity(Environment environment, int additional) {
+        if (slotCount + additional > entities.length) {
+            grow(slotCount + additional);
+        }
+        speciesOf(environment).ensureCapacity(additional);
+        activeOf(environment).ensureCapacity(additional);
+        species.ensureCapacity(additional);
+    }
+
+    /**
+     * Checks if an entity is registered in this registry.
+     *
+     * @param entity the entity to look for.
+     * @return {@code true} if the entity is registered, {@code false} otherwise.
+     */
+    public boolean contains(Identifiable entity) {
+        return get(entity.getId()) == entity;
+    }
+
+    /**
+     * Checks if an id belongs to a registered entity.
+     *
+     * @param id the id to check.
+     * @return {@code true} if the entity of the id is still registered, {@code false} otherwise.
+     */
+    public boolean isAlive(long id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Finds the entity of an id.
+     *
+     * @param id the id of the entity.
+     * @return the entity, or {@code null} if the id is invalid or its entity was removed.
+     */
+    public Identifiable get(long id) {
+        if (id == Identifiable.NO_ID) {
+            return null;
+        }
+        int slot = slotOf(id);
+        if (slot >= slotCount || generations[slot] != generationOf(id)) {
+            return null;
+        }
+        return entities[slot];
+    }
+
+    /**
+     * Finds the environment of a registered entity.
+     *
+     * @param id the id of the entity.
+     * @return the environment, or {@code null} if the id is invalid or its entity was removed.
+     */
+    public Environment getEnvironment(long id) {
+        return isAlive(id) ? environments[slotOf(id)] : null;
+    }
+
+    /**
+     * Finds the index of a registered species in the view of the species of its environment.
+     *
+     * @param entity the registered species.
+     * @return the index of the species in {@link #getSpecies(Environment)}.
+     */
+    synchronized int getEnvironmentIndex(Species entity) {
+        return environmentIndexes[slotOf(entity.getId())];
+    }
+
+    /**
+     * Retrieves the species of every environment. The view cannot be modified.
+     *
+     * @return the registered species.
+     */
+    public List<Species> getSpecies() {
+        return species;
+    }
+
+    /**
+     * Retrieves the species of the given kind. The view cannot be modified.
+     *
+     * @param kind the kind of species.
+     * @return the registered species of this kind.
+     */
+    public List<Species> getSpecies(SpeciesKind kind) {
+        return speciesByKind[kind.ordinal()];
+    }
+
+    /**
+     * Retrieves the species of the given environment. The view cannot be modified.
+     *
+     * @param environment the environment.
+     * @return the registered species of the environment.
+     */
+    public synchronized List<Species> getSpecies(Environment environment) {
+        return speciesOf(environment);
+    }
+
+    /**
+     * Retrieves the species of the given environment that are not sleeping. The view
+     * cannot be modified.
+     *
+     * @param environment the environment.
+     * @return the active species of the environment.
+     */
+    public synchronized List<Species> getActiveSpecies(Environment environment) {
+        return activeOf(environment);
+    }
+
+    /**
+     * Retrieves the resources of the given environment. The view cannot be modified.
+     *
+     * @param environment the environment.
+     * @return the registered resources of the environment.
+     */
+    public synchronized List<Resource> getResources(Environment environment) {
+        return resourcesOf(environment);
+    }
+
+    /**
+     * Retrieves the number of registered entities.
+     *
+     * @return the number of entities.
+     */
+    public synchronized int size() {
+        return slotCount - freeCount;
+    }
+
+    private int allocate(Identifiable entity, Environment environment) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == entities.length) {
+                grow(entities.length * 2);
+            }
+            slot = slotCount++;
+        }
+        entities[slot] = entity;
+        environments[slot] = environment;
+        entity.setId(((long) generations[slot] << 32) | slot);
+        return slot;
+    }
+
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        environments = Arrays.copyOf(environments, capacity);
+        environmentIndexes = Arrays.copyOf(environmentIndexes, capacity);
+        activeIndexes = Arrays.copyOf(activeIndexes, capacity);
+        kindIndexes = Arrays.copyOf(kindIndexes, capacity);
+        globalIndexes = Arrays.copyOf(globalIndexes, capacity);
+    }
+
+    private DenseList<Species> speciesOf(Environment environment) {
+        return speciesByEnvironment.computeIfAbsent(environment, e -> new DenseList<>());
+    }
+
+    private DenseList<Species> activeOf(Environment environment) {
+        return activeByEnvironment.computeIfAbsent(environment, e -> new DenseList<>());
+    }
+
+    private DenseList<Resource> resourcesOf(Environment environment) {
+        return resourcesByEnvironment.computeIfAbsent(environment, e -> new DenseList<>());
+    }
+
+    /**
+     * Records the new index of the slot whose entity was swapped into a hole.
+     */
+    private static void fixIndex(int movedSlot, int index, int[] indexes) {
+        if (movedSlot >= 0) {
+            indexes[movedSlot] = index;
+        }
+    }
+
+    private static int slotOf(long id) {
+        return (int) id;
+    }
+
+    private static int generationOf(long id) {
+        return (int) (id >>> 32);
+    }
+
+    /**
+     * A read-only list whose elements are removed by swapping the last element into the hole.
+     */
+    private static final class DenseList<T> extends AbstractList<T> implements RandomAccess {
+        private Object[] elements = new Object[8];
+        private int[] slots = new int[8];
+        private int size;
+
+        private int append(T element, int slot) {
+            if (size == elements.length) {
+                resize(size * 2);
+            }
+            elements[size] = element;
+            slots[size] = slot;
+            modCount++;
+            return size++;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > elements.length) {
+                resize(size + additional);
+            }
+        }
+
+        private void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+        }
+
+        /**
+         * Removes the element at the given index.
+         *
+         * @return the slot of the element moved into the index, or -1 if none was moved.
+         */
+        private int swapRemove(int index) {
+            int last = --size;
+            int movedSlot = -1;
+            if (index != last) {
+                elements[index] = elements[last];
+                slots[index] = slots[last];
+                movedSlot = slots[index];
+            }
+            elements[last] = null;
+            modCount++;
+            return movedSlot;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.projectfx.ecosystem;
 
+import com.example.projectfx.events.ResourceChanged;
+import com.example.projectfx.events.SeasonChanged;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.interfaces.Identifiable;
 import com.example.projectfx.resources.Resource;
 import com.example.projectfx.species.Species;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * The {@code Environment} class represents a generic environment
@@ -15,36 +20,187 @@ import java.util.List;
 public abstract class Environment {
     // Attributes
     /**
-     * List of resources available in the environment.
+     * The registry holding the species and resources of the environment.
+     * It is replaced by the registry of the ecosystem when the environment joins one.
      */
-    protected List<Resource> resources = new ArrayList<>();
+    private EntityRegistry entityRegistry = new EntityRegistry();
 
     /**
-     * List of species present in the environment.
+     * The current season in the environment. Default is {@link Season#SPRING}.
      */
-    protected List<Species> speciesList = new ArrayList<>();
+    protected Season currentSeason = Season.SPRING;
 
     /**
-     * The current season in the environment. Default is "Spring".
+     * The registry counting the births and deaths of the species of the environment.
+     * It is replaced by the registry of the ecosystem when the environment joins one.
      */
-    protected String currentSeason = "Spring";
+    private PopulationRegistry populationRegistry = new PopulationRegistry();
 
     /**
-     * Retrieves the list of species in the environment.
+     * The number of species of each kind and resources of each type in the environment.
+     */
+    private final EnvironmentStatistics statistics = new EnvironmentStatistics();
+
+    /**
+     * The seasonal changes applied to the resources of the environment, which the
+     * resources read lazily.
+     */
+    private final ResourceLedger resourceLedger = new ResourceLedger();
+
+    /**
+     * The source of the random streams of the species of the environment. It is
+     * replaced by the service of the engine simulating the environment.
+     */
+    private RandomService randomService = RandomService.getDefault();
+
+    /**
+     * The continuous vegetation of the environment, or {@code null} if its vegetation
+     * is only made of discrete resources.
+     */
+    private VegetationField vegetation;
+
+    /**
+     * Retrieves the source of the random streams of the species of the environment.
+     *
+     * @return the random service.
+     */
+    public RandomService getRandomService() {
+        return randomService;
+    }
+
+    /**
+     * Sets the source of the random streams of the species of the environment. Species
+     * derive their stream from it the first time they need one.
+     *
+     * @param randomService the new random service.
+     */
+    public void setRandomService(RandomService randomService) {
+        this.randomService = randomService;
+    }
+
+    /**
+     * Retrieves the continuous vegetation of the environment.
+     *
+     * @return the vegetation field, or {@code null} if the environment has none.
+     */
+    public VegetationField getVegetation() {
+        return vegetation;
+    }
+
+    /**
+     * Sets the continuous vegetation of the environment. Herbivores graze it when no
+     * discrete resource is within reach.
+     *
+     * @param vegetation the vegetation field, or {@code null} to remove it.
+     */
+    public void setVegetation(VegetationField vegetation) {
+        this.vegetation = vegetation;
+    }
+
+    /**
+     * Retrieves the list of species in the environment. The list cannot be modified:
+     * species are added and removed through the environment so that its statistics
+     * stay up to date.
      *
      * @return the list of species.
      */
     public List<Species> getSpeciesList() {
-        return speciesList;
+        return entityRegistry.getSpecies(this);
     }
 
     /**
-     * Retrieves the list of resources in the environment.
+     * Retrieves the list of resources in the environment. The list cannot be modified:
+     * resources are added and removed through the environment so that its statistics
+     * stay up to date.
      *
      * @return the list of resources.
      */
     public List<Resource> getResources() {
-        return resources;
+        return entityRegistry.getResources(this);
+    }
+
+    /**
+     * Retrieves the species of the environment that are not sleeping. The simulation
+     * phases only visit these species. The list cannot be modified.
+     *
+     * @return the active species.
+     */
+    public List<Species> getActiveSpecies() {
+        return entityRegistry.getActiveSpecies(this);
+    }
+
+    /**
+     * Moves a species between the active and dormant species of the environment,
+     * according to its sleep state. Species call this method when they fall asleep or
+     * wake up.
+     *
+     * @param species the species whose sleep state changed.
+     */
+    public void actualiserActivite(Species species) {
+        if (contient(species)) {
+            entityRegistry.setActive(species, !species.isSleeping());
+        }
+    }
+
+    /**
+     * Retrieves the registry holding the species and resources of the environment.
+     *
+     * @return the entity registry.
+     */
+    public EntityRegistry getEntityRegistry() {
+        return entityRegistry;
+    }
+
+    /**
+     * Sets the registry holding the species and resources of the environment.
+     * The species and resources already present are moved to the new registry.
+     *
+     * @param entityRegistry the new entity registry.
+     */
+    public void setEntityRegistry(EntityRegistry entityRegistry) {
+        EntityRegistry previous = this.entityRegistry;
+        List<Species> species = new ArrayList<>(getSpeciesList());
+        List<Resource> resources = new ArrayList<>(getResources());
+        this.entityRegistry = entityRegistry;
+        for (Species current : species) {
+            previous.remove(current);
+            entityRegistry.register(current, this);
+        }
+        for (Resource resource : resources) {
+            previous.remove(resource);
+            entityRegistry.register(resource, this);
+        }
+    }
+
+    /**
+     * Retrieves the number of species of each kind and resources of each type in the environment.
+     *
+     * @return the statistics of the environment.
+     */
+    public EnvironmentStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Retrieves the registry counting the births and deaths of the species of the environment.
+     *
+     * @return the population registry.
+     */
+    public PopulationRegistry getPopulationRegistry() {
+        return populationRegistry;
+    }
+
+    /**
+     * Sets the registry counting the births and deaths of the species of the environment.
+     * The species already present are recorded as births in the new registry.
+     *
+     * @param populationRegistry the new population registry.
+     */
+    public void setPopulationRegistry(PopulationRegistry populationRegistry) {
+        this.populationRegistry = populationRegistry;
+        for (Species species : getSpeciesList()) {
+            populationRegistry.recordBirth(species.getKind());
+        }
     }
 
     /**
@@ -53,32 +209,67 @@ public abstract class Environment {
      */
     public abstract void appliquerReglesEnvironment();
 
+    /**
+     * Retrieves the current season in the environment.
+     *
+     * @return the current season.
+     */
+    public Season getSaison() {
+        return currentSeason;
+    }
+
+    /**
+     * Updates the current season in the environment from its name, ignoring the case.
+     * An unknown name leaves the season unchanged.
+     *
+     * @param newSeason the name of the new season.
+     */
+    public void mettreAJourSaison(String newSeason) {
+        Season season = Season.fromLabel(newSeason);
+        if (season == null) {
+            System.out.println("Saison inconnue, aucun effet appliqué.");
+            return;
+        }
+        mettreAJourSaison(season);
+    }
+
     /**
      * Updates the current season in the environment and applies
      * seasonal effects on the resources.
      *
      * @param newSeason the new season to set.
      */
-    public void mettreAJourSaison(String newSeason) {
+    public void mettreAJourSaison(Season newSeason) {
         this.currentSeason = newSeason;
-        System.out.println("Saison actuelle : " + currentSeason);
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new SeasonChanged(getClass().getSimpleName(), currentSeason.getLabel()));
+        }
 
         // Seasonal effects on resources
-        switch (currentSeason) {
-            case "Spring":
-                regenererRessources(10); // Spring: Increase resources
-                break;
-            case "Summer":
-                regenererRessources(5); // Summer: Moderate regeneration
-                break;
-            case "Autumn":
-                diminuerRessources(5); // Autumn: Moderate decrease
-                break;
-            case "Winter":
-                diminuerRessources(10); // Winter: Significant decrease
-                break;
-            default:
-                System.out.println("Saison inconnue, aucun effet appliqué.");
+        int change = currentSeason.getResourceChange();
+        if (change >= 0) {
+            regenererRessources(change);
+        } else {
+            diminuerRessources(-change);
+        }
+    }
+
+    /**
+     * Applies the energy and quantity factors of the current season to every species
+     * and resource of the environment, in one pass over each.
+     */
+    public void appliquerEffetsSaison() {
+        double energyMultiplier = currentSeason.getEnergyMultiplier();
+        if (energyMultiplier != 1.0) {
+            for (Species species : getSpeciesList()) {
+                species.setEnergy((int) (species.getEnergy() * energyMultiplier));
+            }
+        }
+        double quantityMultiplier = currentSeason.getQuantityMultiplier();
+        if (quantityMultiplier != 1.0) {
+            for (Resource resource : getResources()) {
+                resource.setQuantity((int) (resource.getQuantity() * quantityMultiplier));
+            }
         }
     }
 
@@ -88,55 +279,123 @@ public abstract class Environment {
      * @param species the species to add.
      */
     public void ajouterEspece(Species species) {
-        speciesList.add(species);
-        System.out.println("Espèce ajoutée : " + species.getName());
+        if (entityRegistry.register(species, this)) {
+            statistics.speciesAdded(species.getKind());
+            populationRegistry.recordBirth(species.getKind());
+        }
     }
 
     /**
-     * Removes a species from the environment.
+     * Removes a species from the environment, recording its death. The removal
+     * takes constant time.
      *
      * @param species the species to remove.
      */
     public void retirerEspece(Species species) {
-        if (speciesList.remove(species)) {
-            System.out.println("Species removed: " + species.getName());
-        } else {
-            System.out.println("Species not found: " + species.getName());
+        if (entityRegistry.getEnvironment(species.getId()) == this && entityRegistry.remove(species)) {
+            statistics.speciesRemoved(species.getKind());
+            populationRegistry.recordDeath(species.getKind());
         }
     }
 
+    /**
+     * Checks if a species or a resource is in the environment, in constant time.
+     *
+     * @param entity the species or resource to look for.
+     * @return {@code true} if the entity is in the environment, {@code false} otherwise.
+     */
+    public boolean contient(Identifiable entity) {
+        return entityRegistry.contains(entity) && entityRegistry.getEnvironment(entity.getId()) == this;
+    }
+
+    /**
+     * Removes every species matching the given condition, recording their deaths.
+     *
+     * @param filter the condition the species to remove must satisfy.
+     * @return the removed species.
+     */
+    public List<Species> retirerEspeces(Predicate<? super Species> filter) {
+        List<Species> removed = new ArrayList<>();
+        for (Species species : getSpeciesList()) {
+            if (filter.test(species)) {
+                removed.add(species);
+            }
+        }
+        for (Species species : removed) {
+            retirerEspece(species);
+        }
+        return removed;
+    }
+
     /**
      * Adds a resource to the environment.
      *
      * @param resource the resource to add.
      */
     public void ajouterResource(Resource resource) {
-        resources.add(resource);
-        System.out.println("Ressource ajoutée : " + resource.getType());
+        if (entityRegistry.register(resource, this)) {
+            resource.setLedger(resourceLedger);
+            statistics.resourceAdded(resource.getType());
+        }
     }
 
     /**
-     * Regenerates resources in the environment by a specified amount.
+     * Removes a resource from the environment. The removal takes constant time.
+     *
+     * @param resource the resource to remove.
+     */
+    public void retirerResource(Resource resource) {
+        if (entityRegistry.getEnvironment(resource.getId()) == this && entityRegistry.remove(resource)) {
+            resource.setLedger(null);
+            statistics.resourceRemoved(resource.getType());
+        }
+    }
+
+    /**
+     * Removes every resource matching the given condition.
+     *
+     * @param filter the condition the resources to remove must satisfy.
+     */
+    public void retirerResources(Predicate<? super Resource> filter) {
+        List<Resource> removed = new ArrayList<>();
+        for (Resource resource : getResources()) {
+            if (filter.test(resource)) {
+                removed.add(resource);
+            }
+        }
+        for (Resource resource : removed) {
+            retirerResource(resource);
+        }
+    }
+
+    /**
+     * Regenerates resources in the environment by a specified amount. The change is
+     * recorded in constant time, and each resource applies it when it is next read.
      *
      * @param amount the amount to regenerate.
      */
     protected void regenererRessources(int amount) {
-        for (Resource resource : resources) {
-            resource.setQuantity(resource.getQuantity() + amount);
-            System.out.println(resource.getType() + " régénéré(e) de " + amount + " unités.");
+        resourceLedger.add(amount);
+        if (SimulationEvents.isEnabled()) {
+            for (Resource resource : getResources()) {
+                SimulationEvents.publish(new ResourceChanged(resource.getType(), amount, resource.getQuantity()));
+            }
         }
     }
 
     /**
      * Decreases resources in the environment by a specified amount.
-     * Resource quantities cannot go below zero.
+     * Resource quantities cannot go below zero. The change is recorded in constant
+     * time, and each resource applies it when it is next read.
      *
      * @param amount the amount to decrease.
      */
     protected void diminuerRessources(int amount) {
-        for (Resource resource : resources) {
-            resource.setQuantity(Math.max(0, resource.getQuantity() - amount)); // Avoid negative quantities
-            System.out.println(resource.getType() + " diminué(e) de " + amount + " unités.");
+        resourceLedger.subtract(amount);
+        if (SimulationEvents.isEnabled()) {
+            for (Resource resource : getResources()) {
+                SimulationEvents.publish(new ResourceChanged(resource.getType(), -amount, resource.getQuantity()));
+            }
         }
     }
 }
@@ -0,0 +1,111 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.species.SpeciesKind;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The {@code EnvironmentStatistics} class holds the number of species of each kind and
+ * the number of resources of each type currently present in an {@link Environment}.
+ * <p>
+ * The counts are updated by the environment each time a species or a resource is added
+ * or removed, so reading them never walks the lists.
+ */
+public class EnvironmentStatistics {
+    /**
+     * The number of species of each kind, indexed by ordinal.
+     */
+    private final int[] species = new int[SpeciesKind.values().length];
+
+    /**
+     * The number of resources of each type.
+     */
+    private final Map<String, Integer> resources = new HashMap<>();
+
+    /**
+     * The total number of species.
+     */
+    private int speciesTotal;
+
+    /**
+     * The total number of resources.
+     */
+    private int resourceTotal;
+
+    /**
+     * Retrieves the number of species of the given kind.
+     *
+     * @param kind the kind of species.
+     * @return the number of species of this kind.
+     */
+    public int count(SpeciesKind kind) {
+        return species[kind.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of species whose kind matches the given condition,
+     * for instance {@code SpeciesKind::isHerbivore}.
+     *
+     * @param filter the condition on the kind.
+     * @return the number of matching species.
+     */
+    public int count(Predicate<SpeciesKind> filter) {
+        int count = 0;
+        for (SpeciesKind kind : SpeciesKind.values()) {
+            if (filter.test(kind)) {
+                count += species[kind.ordinal()];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the number of resources of the given type.
+     *
+     * @param type the type of resource, for instance {@code "Grass"}.
+     * @return the number of resources of this type.
+     */
+    public int countResources(String type) {
+        return resources.getOrDefault(type, 0);
+    }
+
+    /**
+     * Retrieves the total number of species.
+     *
+     * @return the number of species.
+     */
+    public int getSpeciesTotal() {
+        return speciesTotal;
+    }
+
+    /**
+     * Retrieves the total number of resources.
+     *
+     * @return the number of resources.
+     */
+    public int getResourceTotal() {
+        return resourceTotal;
+    }
+
+    void speciesAdded(SpeciesKind kind) {
+        species[kind.ordinal()]++;
+        speciesTotal++;
+    }
+
+    void speciesRemoved(SpeciesKind kind) {
+        species[kind.ordinal()]--;
+        speciesTotal--;
+    }
+
+    void resourceAdded(String type) {
+        resources.merge(type, 1, Integer::sum);
+        resourceTotal++;
+    }
+
+    void resourceRemoved(String type) {
+        resources.merge(type, -1, Integer::sum);
+        resourceTotal--;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.projectfx.ecosystem;
+
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The {@code EventScheduler} class is a discrete-event queue keyed by simulation time.
+ * <p>
+ * Timed behaviors, such as a sleep cycle, the regeneration of a resource or a
+ * reproduction cooldown, schedule their next occurrence instead of being checked on
+ * every entity at every tick. The events are kept in a binary heap, so advancing the
+ * clock only pops the events that are due: the cost of a tick follows the number of
+ * events that fire, not the size of the population.
+ * <p>
+ * Events due at the same time run in the order they were scheduled. An event may
+ * schedule other events, including at the current time, in which case they run during
+ * the same call to {@link #advanceTo(long)}.
+ */
+public class EventScheduler {
+    /**
+     * The pending events, earliest first.
+     */
+    private final PriorityQueue<ScheduledEvent> queue = new PriorityQueue<>();
+
+    /**
+     * The current simulation time.
+     */
+    private long time;
+
+    /**
+     * The number of events scheduled so far, used to order events due at the same time.
+     */
+    private long sequence;
+
+    /**
+     * Schedules an action at the given time.
+     *
+     * @param time   the time at which the action runs; a past time means the next advance.
+     * @param action the action to run.
+     * @return the scheduled event, which can be cancelled.
+     */
+    public ScheduledEvent schedule(long time, Runnable action) {
+        ScheduledEvent event = new ScheduledEvent(Math.max(time, this.time), sequence++, action);
+        queue.add(event);
+        return event;
+    }
+
+    /**
+     * Schedules an action after the given delay.
+     *
+     * @param delay  the delay from the current time.
+     * @param action the action to run.
+     * @return the scheduled event, which can be cancelled.
+     */
+    public ScheduledEvent scheduleAfter(long delay, Runnable action) {
+        return schedule(time + delay, action);
+    }
+
+    /**
+     * Schedules an action that runs every {@code period} time units, starting after one
+     * period, for as long as it returns {@code true}.
+     *
+     * @param period the time between two runs.
+     * @param action the action to run, returning {@code false} to stop repeating.
+     */
+    public void scheduleRepeating(long period, BooleanSupplier action) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive: " + period);
+        }
+        scheduleAfter(period, () -> {
+            if (action.getAsBoolean()) {
+                scheduleRepeating(period, action);
+            }
+        });
+    }
+
+    /**
+     * Cancels a pending event. Cancelled events stay in the queue until they are due,
+     * and are then dropped without running.
+     *
+     * @param event the event to cancel.
+     */
+    public void cancel(ScheduledEvent event) {
+        event.cancelled = true;
+    }
+
+    /**
+     * Advances the clock to the given time, running every event due until then in order.
+     *
+     * @param time the new current time.
+     * @return the number of events that ran.
+     */
+    public int advanceTo(long time) {
+        int processed = 0;
+        while (!queue.isEmpty() && queue.peek().time <= time) {
+            ScheduledEvent event = queue.poll();
+            this.time = event.time;
+            if (!event.cancelled) {
+                event.action.run();
+                processed++;
+            }
+        }
+        this.time = Math.max(this.time, time);
+        return processed;
+    }
+
+    /**
+     * Retrieves the current simulation time.
+     *
+     * @return the current time.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Retrieves the time of the earliest pending event.
+     *
+     * @return the time of the next event, or {@link Long#MAX_VALUE} if none is pending.
+     */
+    public long getNextTime() {
+        ScheduledEvent next = queue.peek();
+        return next == null ? Long.MAX_VALUE : next.time;
+    }
+
+    /**
+     * Retrieves the number of pending events, cancelled ones included.
+     *
+     * @return the number of pending events.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * An action scheduled at a given time.
+     */
+    public static final class ScheduledEvent implements Comparable<ScheduledEvent> {
+        private final long time;
+        private final long sequence;
+        private final Runnable action;
+        private boolean cancelled;
+
+        private ScheduledEvent(long time, long sequence, Runnable action) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        /**
+         * Retrieves the time at which the event runs.
+         *
+         * @return the time of the event.
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * Checks if the event was cancelled.
+         *
+         * @return {@code true} if the event was cancelled, {@code false} otherwise.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
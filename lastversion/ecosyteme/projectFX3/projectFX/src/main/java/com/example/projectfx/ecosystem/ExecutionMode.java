@@ -0,0 +1,18 @@
+package com.example.projectfx.ecosystem;
+
+/**
+ * The {@code ExecutionMode} enum defines how the environments of an {@link Ecosystem}
+ * are stepped during a simulation cycle.
+ */
+public enum ExecutionMode {
+    /**
+     * The environments are stepped one after the other on the calling thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Each environment is stepped on its own worker, and the cycle waits for
+     * all of them to finish before going on.
+     */
+    PARALLEL
+}
@@ -1,5 +1,10 @@
 package com.example.projectfx.ecosystem;
 
+import com.example.projectfx.events.EnvironmentAdjusted;
+import com.example.projectfx.events.SeasonEffect;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.species.SpeciesKind;
+
 /**
  * The {@code Forest} class represents a forest environment within the ecosystem.
  * It extends the {@code Environment} class and introduces specific attributes
@@ -27,15 +32,13 @@ public class Forest extends Environment {
      */
     @Override
     public void appliquerReglesEnvironment() {
-        System.out.println("Appliquer les règles spécifiques à la forêt.");
-
         // Adjust tree density based on the number of herbivores
-        if (!speciesList.isEmpty()) {
-            double herbivoresCount = speciesList.stream()
-                    .filter(species -> species.getClass().getSimpleName().equals("Herbivore"))
-                    .count();
+        if (!getSpeciesList().isEmpty()) {
+            double herbivoresCount = getStatistics().count(SpeciesKind::isHerbivore);
             this.treeDensity -= herbivoresCount * 0.01; // Example adjustment
-            System.out.println("Densité des arbres ajustée : " + treeDensity);
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new EnvironmentAdjusted(getClass().getSimpleName(), "Densité des arbres", treeDensity));
+            }
         }
     }
 
@@ -46,26 +49,18 @@ public class Forest extends Environment {
      * @param newSeason the new season to set.
      */
     @Override
-    public void mettreAJourSaison(String newSeason) {
+    public void mettreAJourSaison(Season newSeason) {
         super.mettreAJourSaison(newSeason);
 
         // Additional seasonal effects specific to forests
-        switch (currentSeason) {
-            case "Spring":
-                System.out.println("La forêt fleurit, attirant davantage d'herbivores.");
-                break;
-            case "Summer":
-                System.out.println("Les arbres produisent beaucoup de fruits en été.");
-                break;
-            case "Autumn":
-                System.out.println("Les feuilles tombent, limitant les ressources.");
-                break;
-            case "Winter":
-                System.out.println("Les arbres perdent toutes leurs feuilles, ressources réduites.");
-                break;
-            default:
-                System.out.println("Effets saisonniers inconnus.");
-                break;
+        if (SimulationEvents.isEnabled()) {
+            String effect = switch (currentSeason) {
+                case SPRING -> "La forêt fleurit, attirant davantage d'herbivores.";
+                case SUMMER -> "Les arbres produisent beaucoup de fruits en été.";
+                case AUTUMN -> "Les feuilles tombent, limitant les ressources.";
+                case WINTER -> "Les arbres perdent toutes leurs feuilles, ressources réduites.";
+            };
+            SimulationEvents.publish(new SeasonEffect(getClass().getSimpleName(), effect));
         }
     }
 
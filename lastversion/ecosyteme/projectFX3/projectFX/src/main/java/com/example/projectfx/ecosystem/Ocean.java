@@ -1,5 +1,10 @@
 package com.example.projectfx.ecosystem;
 
+import com.example.projectfx.events.EnvironmentAdjusted;
+import com.example.projectfx.events.SeasonEffect;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.species.SpeciesKind;
+
 /**
  * The {@code Ocean} class represents an ocean environment within the ecosystem.
  * It extends the {@code Environment} class and introduces specific attributes
@@ -26,15 +31,13 @@ public class Ocean extends Environment {
      */
     @Override
     public void appliquerReglesEnvironment() {
-        System.out.println("Appliquer les règles spécifiques à l'océan.");
-
         // Adjust salinity based on the number of marine herbivores
-        if (!speciesList.isEmpty()) {
-            long marineHerbivoresCount = speciesList.stream()
-                    .filter(species -> species.getClass().getSimpleName().equals("MarineHerbivore"))
-                    .count();
+        if (!getSpeciesList().isEmpty()) {
+            long marineHerbivoresCount = getStatistics().count(kind -> kind.isHerbivore() && kind.isMarine());
             this.salinity -= marineHerbivoresCount * 0.1; // Example adjustment
-            System.out.println("Niveau de salinité ajusté : " + salinity);
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new EnvironmentAdjusted(getClass().getSimpleName(), "Niveau de salinité", salinity));
+            }
         }
     }
 
@@ -45,26 +48,18 @@ public class Ocean extends Environment {
      * @param newSeason the new season to set.
      */
     @Override
-    public void mettreAJourSaison(String newSeason) {
+    public void mettreAJourSaison(Season newSeason) {
         super.mettreAJourSaison(newSeason);
 
         // Additional seasonal effects specific to oceans
-        switch (currentSeason) {
-            case "Spring":
-                System.out.println("Les algues prolifèrent grâce aux conditions favorables.");
-                break;
-            case "Summer":
-                System.out.println("Les températures élevées augmentent la productivité marine.");
-                break;
-            case "Autumn":
-                System.out.println("Les tempêtes automnales affectent les ressources marines.");
-                break;
-            case "Winter":
-                System.out.println("La température de l'eau baisse, ralentissant la reproduction.");
-                break;
-            default:
-                System.out.println("Effets saisonniers inconnus.");
-                break;
+        if (SimulationEvents.isEnabled()) {
+            String effect = switch (currentSeason) {
+                case SPRING -> "Les algues prolifèrent grâce aux conditions favorables.";
+                case SUMMER -> "Les températures élevées augmentent la productivité marine.";
+                case AUTUMN -> "Les tempêtes automnales affectent les ressources marines.";
+                case WINTER -> "La température de l'eau baisse, ralentissant la reproduction.";
+            };
+            SimulationEvents.publish(new SeasonEffect(getClass().getSimpleName(), effect));
         }
     }
 
@@ -0,0 +1,109 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.species.SpeciesKind;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code PopulationRegistry} class counts the births and deaths of each kind of
+ * species in an ecosystem.
+ * <p>
+ * Each counter is a {@link LongAdder}, so environments stepped on different threads
+ * can update the registry without contending on a single value. Since a registry
+ * belongs to one {@link Ecosystem}, several ecosystems can run in the same process
+ * without sharing their counts.
+ */
+public class PopulationRegistry {
+    /**
+     * The number of births of each kind, indexed by ordinal.
+     */
+    private final LongAdder[] births = new LongAdder[SpeciesKind.values().length];
+
+    /**
+     * The number of deaths of each kind, indexed by ordinal.
+     */
+    private final LongAdder[] deaths = new LongAdder[SpeciesKind.values().length];
+
+    /**
+     * Constructs an empty {@code PopulationRegistry}.
+     */
+    public PopulationRegistry() {
+        for (int i = 0; i < births.length; i++) {
+            births[i] = new LongAdder();
+            deaths[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the birth of a species of the given kind.
+     *
+     * @param kind the kind of the new species.
+     */
+    public void recordBirth(SpeciesKind kind) {
+        births[kind.ordinal()].increment();
+    }
+
+    /**
+     * Records the death of a species of the given kind.
+     *
+     * @param kind the kind of the dead species.
+     */
+    public void recordDeath(SpeciesKind kind) {
+        deaths[kind.ordinal()].increment();
+    }
+
+    /**
+     * Retrieves the number of living species of the given kind. The value is exact
+     * when no update is running concurrently.
+     *
+     * @param kind the kind of species.
+     * @return the number of births minus the number of deaths.
+     */
+    public long count(SpeciesKind kind) {
+        return births[kind.ordinal()].sum() - deaths[kind.ordinal()].sum();
+    }
+
+    /**
+     * Retrieves the number of births of the given kind.
+     *
+     * @param kind the kind of species.
+     * @return the number of births.
+     */
+    public long getBirths(SpeciesKind kind) {
+        return births[kind.ordinal()].sum();
+    }
+
+    /**
+     * Retrieves the number of deaths of the given kind.
+     *
+     * @param kind the kind of species.
+     * @return the number of deaths.
+     */
+    public long getDeaths(SpeciesKind kind) {
+        return deaths[kind.ordinal()].sum();
+    }
+
+    /**
+     * Sets the counters of a kind of species, to restore a {@link Checkpoint}.
+     *
+     * @param kind   the kind of species.
+     * @param births the number of births.
+     * @param deaths the number of deaths.
+     */
+    public void restore(SpeciesKind kind, long births, long deaths) {
+        this.births[kind.ordinal()].reset();
+        this.births[kind.ordinal()].add(births);
+        this.deaths[kind.ordinal()].reset();
+        this.deaths[kind.ordinal()].add(deaths);
+    }
+
+    /**
+     * Resets every counter to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < births.length; i++) {
+            births[i].reset();
+            deaths[i].reset();
+        }
+    }
+}
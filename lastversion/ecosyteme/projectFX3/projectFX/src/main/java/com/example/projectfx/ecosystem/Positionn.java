@@ -1,12 +1,19 @@
 package com.example.projectfx.ecosystem;
 
+import com.example.projectfx.exceptions.EcosystemException;
+
 import java.util.List;
-import java.util.Random;
 
 /**
  * The {@code Positionn} class represents a two-dimensional position in an ecosystem.
  * It provides methods for managing coordinates, calculating distances, and ensuring
  * valid positioning within a specified range and minimum distance constraints.
+ * <p>
+ * Species and resources do not hold a {@code Positionn}: they keep their coordinates
+ * packed in a single {@code long} (see {@link #pack(int, int)}), and
+ * {@code getPosition()} returns a copy. A position can therefore never be shared by two
+ * entities, and moving an entity changes no other one. The static helpers work directly
+ * on coordinates and packed values, so distance checks do not allocate.
  */
 public class Positionn {
     /**
@@ -33,6 +40,9 @@ public class Positionn {
     /**
      * Constructs a {@code Positionn} with random coordinates within a specified range,
      * ensuring that the new position does not overlap with existing positions by a minimum distance.
+     * <p>
+     * The existing positions are indexed in a {@link SpawnPlacer} for each call; callers
+     * placing many positions should keep a {@code SpawnPlacer} instead.
      *
      * @param rangeMinX          the minimum X-coordinate.
      * @param rangeMaxX          the maximum X-coordinate.
@@ -40,26 +50,22 @@ public class Positionn {
      * @param rangeMaxY          the maximum Y-coordinate.
      * @param existingPositions  a list of existing positions to avoid overlap.
      * @param minDistance        the minimum allowed distance from other positions.
+     * @throws IllegalStateException if there is no room left in the range.
+     * @deprecated use {@link SpawnPlacer#place()}, which reports a full area with an
+     *             {@link com.example.projectfx.exceptions.EcosystemException}.
      */
+    @Deprecated
     public Positionn(int rangeMinX, int rangeMaxX, int rangeMinY, int rangeMaxY,
                      List<Positionn> existingPositions, int minDistance) {
-        Random random = new Random();
-        boolean isValidPosition;
-
-        // Ensure a valid random position that doesn't overlap
-        do {
-            this.x = random.nextInt(rangeMaxX - rangeMinX + 1) + rangeMinX;
-            this.y = random.nextInt(rangeMaxY - rangeMinY + 1) + rangeMinY;
-            isValidPosition = true;
-
-            // Check against existing positions to avoid overlap
-            for (Positionn existingPos : existingPositions) {
-                if (calculateDistance(existingPos) < minDistance) {
-                    isValidPosition = false;
-                    break;
-                }
-            }
-        } while (!isValidPosition);
+        SpawnPlacer placer = new SpawnPlacer(rangeMinX, rangeMaxX, rangeMinY, rangeMaxY, minDistance);
+        existingPositions.forEach(placer::occupy);
+        try {
+            Positionn placed = placer.place();
+            this.x = placed.x;
+            this.y = placed.y;
+        } catch (EcosystemException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -75,7 +81,10 @@ public class Positionn {
      * Sets the X-coordinate of the position.
      *
      * @param x the new X-coordinate.
+     * @deprecated positions returned by entities are copies; move an entity with
+     *             {@code moveTo(int, int)} instead.
      */
+    @Deprecated
     public void setX(int x) {
         this.x = x;
     }
@@ -93,7 +102,10 @@ public class Positionn {
      * Sets the Y-coordinate of the position.
      *
      * @param y the new Y-coordinate.
+     * @deprecated positions returned by entities are copies; move an entity with
+     *             {@code moveTo(int, int)} instead.
      */
+    @Deprecated
     public void setY(int y) {
         this.y = y;
     }
@@ -105,9 +117,19 @@ public class Positionn {
      * @return the distance between the two positions.
      */
     public double calculateDistance(Positionn other) {
-        int deltaX = this.x - other.x;
-        int deltaY = this.y - other.y;
-        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        return Math.sqrt(distanceSquared(x, y, other.x, other.y));
+    }
+
+    /**
+     * Checks if another position is within a given distance of this position.
+     * Unlike {@link #calculateDistance(Positionn)}, no square root is computed.
+     *
+     * @param other    the other position.
+     * @param distance the maximum distance, inclusive.
+     * @return {@code true} if the positions are at most {@code distance} apart, {@code false} otherwise.
+     */
+    public boolean isWithin(Positionn other, int distance) {
+        return distanceSquared(x, y, other.x, other.y) <= (long) distance * distance;
     }
 
     /**
@@ -118,7 +140,7 @@ public class Positionn {
      * @return {@code true} if the positions are too close, {@code false} otherwise.
      */
     public boolean isTooClose(Positionn other, int minDistance) {
-        return calculateDistance(other) < minDistance;
+        return distanceSquared(x, y, other.x, other.y) < (long) minDistance * minDistance;
     }
 
     /**
@@ -126,11 +148,13 @@ public class Positionn {
      *
      * @param deltaX the offset for the X-coordinate.
      * @param deltaY the offset for the Y-coordinate.
+     * @deprecated positions returned by entities are copies; move an entity with
+     *             {@code moveTo(int, int)} instead.
      */
+    @Deprecated
     public void moveBy(int deltaX, int deltaY) {
         this.x += deltaX;
         this.y += deltaY;
-        System.out.println("Position mise à jour : (" + this.x + ", " + this.y + ")");
     }
 
     /**
@@ -142,4 +166,93 @@ public class Positionn {
     public String toString() {
         return "(" + x + ", " + y + ")";
     }
+
+    /**
+     * Packs this position in a single {@code long}.
+     *
+     * @return the packed position.
+     */
+    public long pack() {
+        return pack(x, y);
+    }
+
+    /**
+     * Packs two coordinates in a single {@code long}: the X-coordinate in the high
+     * 32 bits and the Y-coordinate in the low 32 bits.
+     *
+     * @param x the X-coordinate.
+     * @param y the Y-coordinate.
+     * @return the packed position.
+     */
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Creates a position from a packed value.
+     *
+     * @param packed the packed position.
+     * @return a new position with the packed coordinates.
+     */
+    public static Positionn unpack(long packed) {
+        return new Positionn(packedX(packed), packedY(packed));
+    }
+
+    /**
+     * Retrieves the X-coordinate of a packed position.
+     *
+     * @param packed the packed position.
+     * @return the X-coordinate.
+     */
+    public static int packedX(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Retrieves the Y-coordinate of a packed position.
+     *
+     * @param packed the packed position.
+     * @return the Y-coordinate.
+     */
+    public static int packedY(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Calculates the squared distance between two points, without overflow.
+     *
+     * @param x1 the X-coordinate of the first point.
+     * @param y1 the Y-coordinate of the first point.
+     * @param x2 the X-coordinate of the second point.
+     * @param y2 the Y-coordinate of the second point.
+     * @return the squared distance.
+     */
+    public static long distanceSquared(int x1, int y1, int x2, int y2) {
+        long deltaX = (long) x1 - x2;
+        long deltaY = (long) y1 - y2;
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    /**
+     * Calculates the squared distance between two packed positions.
+     *
+     * @param first  the first packed position.
+     * @param second the second packed position.
+     * @return the squared distance.
+     */
+    public static long distanceSquared(long first, long second) {
+        return distanceSquared(packedX(first), packedY(first), packedX(second), packedY(second));
+    }
+
+    /**
+     * Checks if two packed positions are within a given distance of each other.
+     *
+     * @param first    the first packed position.
+     * @param second   the second packed position.
+     * @param distance the maximum distance, inclusive.
+     * @return {@code true} if the positions are at most {@code distance} apart, {@code false} otherwise.
+     */
+    public static boolean isWithin(long first, long second, int distance) {
+        return distanceSquared(first, second) <= (long) distance * distance;
+    }
 }
@@ -0,0 +1,127 @@
+package com.example.projectfx.ecosystem;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code RandomService} class is the single source of randomness of a simulation.
+ * <p>
+ * Every random stream is derived from one seed, so a run can be repeated by reusing
+ * the seed. The service never hands out a shared generator: {@link #split()} gives each
+ * entity or worker its own {@link SplittableRandom}, and {@link #stream(long, long)}
+ * derives a stream from keys such as a tick and an entity index without touching any
+ * shared state, so parallel workers never contend on a generator.
+ * <p>
+ * The default service is seeded from the {@value #SEED_PROPERTY} system property when
+ * it is set, and from the clock otherwise.
+ */
+public final class RandomService {
+    /**
+     * The name of the system property holding the seed of the default service.
+     */
+    public static final String SEED_PROPERTY = "ecosystem.seed";
+
+    /**
+     * The service used by entities that are not given one explicitly.
+     */
+    private static volatile RandomService defaultService =
+            new RandomService(Long.getLong(SEED_PROPERTY, System.nanoTime()));
+
+    /**
+     * The seed every stream is derived from.
+     */
+    private final long seed;
+
+    /**
+     * The generator splitting off the independent streams.
+     */
+    private final SplittableRandom root;
+
+    /**
+     * Constructs a {@code RandomService} with the given seed.
+     *
+     * @param seed the seed every stream is derived from.
+     */
+    public RandomService(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Retrieves the service used by entities that are not given one explicitly.
+     *
+     * @return the default service.
+     */
+    public static RandomService getDefault() {
+        return defaultService;
+    }
+
+    /**
+     * Replaces the default service, for instance to reseed a run before creating its entities.
+     *
+     * @param service the new default service.
+     */
+    public static void setDefault(RandomService service) {
+        defaultService = service;
+    }
+
+    /**
+     * Retrieves the seed every stream is derived from.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates a new independent stream. The streams depend on the seed and on the
+     * order of the calls, so entities created in the same order get the same streams.
+     * The returned generator must only be used by one thread at a time.
+     *
+     * @return the new stream.
+     */
+    public synchronized SplittableRandom split() {
+        return root.split();
+    }
+
+    /**
+     * Creates a new independent service, for a component that derives its own streams.
+     *
+     * @return the new service.
+     */
+    public RandomService fork() {
+        return new RandomService(split().nextLong());
+    }
+
+    /**
+     * Derives a stream from the seed and a key, without consuming any shared state.
+     * The same key always gives the same stream.
+     *
+     * @param key the key of the stream, for instance an entity index.
+     * @return the stream.
+     */
+    public SplittableRandom stream(long key) {
+        return new SplittableRandom(mix(seed ^ mix(key)));
+    }
+
+    /**
+     * Derives a stream from the seed and two keys, without consuming any shared state.
+     * The same keys always give the same stream.
+     *
+     * @param key      the first key of the stream, for instance a tick.
+     * @param subKey   the second key of the stream, for instance an entity index.
+     * @return the stream.
+     */
+    public SplittableRandom stream(long key, long subKey) {
+        return new SplittableRandom(mix(seed ^ mix(mix(key) + subKey)));
+    }
+
+    /**
+     * Scrambles a value so that consecutive keys give unrelated streams.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.exceptions.EcosystemException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The {@code ReplayEngine} class replays a run recorded by a {@link RunRecorder}, at a
+ * chosen speed or by jumping to any tick.
+ * <p>
+ * The movements of a tick only depend on the seed of the run, the tick and the order of
+ * the species, all of which the checkpoints hold, so a tick is reconstructed by restoring
+ * the nearest checkpoint before it and stepping a {@link SimulationEngine} from there.
+ * {@link #seek(long) Seeking} therefore costs at most one restore and one checkpoint
+ * interval of ticks, wherever the tick is in the run. The listeners are only notified of
+ * the ticks played by {@link #advance(long)} and {@link #step()}, not of the ticks
+ * skipped by a seek.
+ * <p>
+ * Nothing is recorded between two checkpoints: stepping a seeded engine reproduces the
+ * ticks exactly, and costs less than journaling every event of every tick during the
+ * original run and applying them back during the replay.
+ * <p>
+ * The engine does not depend on the JavaFX toolkit: a view calls {@link #advance(long)}
+ * on each frame with the time elapsed since the previous one, and the replay runs as
+ * many ticks as the speed asks for, from {@value #MIN_SPEED} to {@value #MAX_SPEED}
+ * times the pace of the original run.
+ * <p>
+ * The changes made between two checkpoints from outside the engine, such as a season
+ * picked by the user, are not replayed: they only show from the next checkpoint on.
+ */
+public class ReplayEngine {
+    /**
+     * The slowest replay speed, the pace of the original run.
+     */
+    public static final double MIN_SPEED = 1;
+
+    /**
+     * The fastest replay speed.
+     */
+    public static final double MAX_SPEED = 1000;
+
+    /**
+     * The checkpoints of the run, by tick.
+     */
+    private final NavigableMap<Long, Checkpoint> checkpoints = new TreeMap<>();
+
+    /**
+     * The index of the replayed environment in the ecosystem.
+     */
+    private final int environmentIndex;
+
+    /**
+     * The width of the simulated world.
+     */
+    private final int worldWidth;
+
+    /**
+     * The height of the simulated world.
+     */
+    private final int worldHeight;
+
+    /**
+     * The number of ticks per second of the original run.
+     */
+    private final double ticksPerSecond;
+
+    /**
+     * The listeners notified of the results of each played tick.
+     */
+    private final List<SimulationListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The action configuring each engine built from a checkpoint.
+     */
+    private Consumer<SimulationEngine> engineSetup = engine -> {
+    };
+
+    /**
+     * The ecosystem at the current tick, or {@code null} before the first seek.
+     */
+    private Ecosystem ecosystem;
+
+    /**
+     * The engine stepping the replayed environment, or {@code null} before the first seek.
+     */
+    private SimulationEngine engine;
+
+    /**
+     * The factor applied to the pace of the original run.
+     */
+    private double speed = MIN_SPEED;
+
+    /**
+     * The fraction of a tick due but not played yet.
+     */
+    private double pendingTicks;
+
+    /**
+     * Constructs a {@code ReplayEngine} from the checkpoints of a run.
+     *
+     * @param checkpoints      the checkpoints of the run, at least one.
+     * @param environmentIndex the index of the environment stepped by the engine of the run.
+     * @param worldWidth       the width of the simulated world.
+     * @param worldHeight      the height of the simulated world.
+     * @param ticksPerSecond   the number of ticks per second of the original run.
+     */
+    public ReplayEngine(Collection<Checkpoint> checkpoints, int environmentIndex, int worldWidth, int worldHeight,
+                        double ticksPerSecond) {
+        if (checkpoints.isEmpty()) {
+            throw new IllegalArgumentException("A replay needs at least one checkpoint.");
+        }
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("The number of ticks per second must be positive: " + ticksPerSecond);
+        }
+        for (Checkpoint checkpoint : checkpoints) {
+            this.checkpoints.put(checkpoint.getTick(), checkpoint);
+        }
+        this.environmentIndex = environmentIndex;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Opens the checkpoints recorded in a directory by a {@link RunRecorder}.
+     *
+     * @param directory        the directory of the checkpoints.
+     * @param environmentIndex the index of the environment stepped by the engine of the run.
+     * @param worldWidth       the width of the simulated world.
+     * @param worldHeight      the height of the simulated world.
+     * @param ticksPerSecond   the number of ticks per second of the original run.
+     * @return the replay engine, positioned before the first seek.
+     * @throws EcosystemException if the directory holds no checkpoint or a checkpoint cannot be read.
+     */
+    public static ReplayEngine open(Path directory, int environmentIndex, int worldWidth, int worldHeight,
+                                    double ticksPerSecond) throws EcosystemException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(RunRecorder::isCheckpoint).sorted().toList();
+        } catch (IOException e) {
+            throw new EcosystemException("Cannot list the checkpoints of " + directory, e);
+        }
+        if (files.isEmpty()) {
+            throw new EcosystemException("No checkpoint in " + directory);
+        }
+        List<Checkpoint> checkpoints = new ArrayList<>(files.size());
+        for (Path file : files) {
+            checkpoints.add(Checkpoint.read(file));
+        }
+        return new ReplayEngine(checkpoints, environmentIndex, worldWidth, worldHeight, ticksPerSecond);
+    }
+
+    /**
+     * Reconstructs the state of the run at a tick. The current state is stepped forward
+     * when it is between the nearest checkpoint and the tick; otherwise the nearest
+     * checkpoint is restored, giving a new ecosystem.
+     *
+     * @param tick the tick to reach.
+     * @return the ecosystem at the tick.
+     * @throws EcosystemException if the checkpoint cannot be restored.
+     */
+    public Ecosystem seek(long tick) throws EcosystemException {
+        Map.Entry<Long, Checkpoint> nearest = checkpoints.floorEntry(tick);
+        if (nearest == null) {
+            throw new IllegalArgumentException("The replay starts at tick " + getFirstTick() + ": " + tick);
+        }
+        if (engine == null || engine.getTick() > tick || engine.getTick() < nearest.getKey()) {
+            load(nearest.getValue());
+        }
+        // The skipped ticks are not shown to the listeners
+        listeners.forEach(engine::removeListener);
+        try {
+            engine.run(tick - engine.getTick());
+        } finally {
+            listeners.forEach(engine::addListener);
+        }
+        pendingTicks = 0;
+        return ecosystem;
+    }
+
+    /**
+     * Plays the ticks due after some time has elapsed at the current speed. At most one
+     * second of replay is played at once, so a view that stalled does not have to catch up.
+     *
+     * @param elapsedNanos the time elapsed since the previous call.
+     * @return the number of ticks played.
+     */
+    public int advance(long elapsedNanos) {
+        requireLoaded();
+        double perSecond = ticksPerSecond * speed;
+        pendingTicks = Math.min(pendingTicks + elapsedNanos * 1e-9 * perSecond, Math.max(1, perSecond));
+        int ticks = (int) pendingTicks;
+        pendingTicks -= ticks;
+        for (int i = 0; i < ticks; i++) {
+            engine.step();
+        }
+        return ticks;
+    }
+
+    /**
+     * Plays the next tick, whatever the speed.
+     *
+     * @return the population statistics at the end of the tick.
+     */
+    public TickStatistics step() {
+        requireLoaded();
+        return engine.step();
+    }
+
+    /**
+     * Registers a listener notified of the results of each played tick.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(SimulationListener listener) {
+        listeners.add(listener);
+        if (engine != null) {
+            engine.addListener(listener);
+        }
+    }
+
+    /**
+     * Unregisters a previously added listener.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+        if (engine != null) {
+            engine.removeListener(listener);
+        }
+    }
+
+    /**
+     * Sets the action configuring each engine built from a checkpoint, once its tick is
+     * set. It schedules the timed behaviors of the run, which the checkpoints do not hold,
+     * for instance with {@link SimulationEngine#resumeRegeneration}.
+     *
+     * @param engineSetup the action receiving the new engine.
+     */
+    public void setEngineSetup(Consumer<SimulationEngine> engineSetup) {
+        this.engineSetup = engineSetup;
+    }
+
+    /**
+     * Retrieves the factor applied to the pace of the original run.
+     *
+     * @return the speed.
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the factor applied to the pace of the original run.
+     *
+     * @param speed the speed, between {@value #MIN_SPEED} and {@value #MAX_SPEED}.
+     */
+    public void setSpeed(double speed) {
+        if (!(speed >= MIN_SPEED && speed <= MAX_SPEED)) {
+            throw new IllegalArgumentException("The speed must be between " + MIN_SPEED + " and " + MAX_SPEED + ": " + speed);
+        }
+        this.speed = speed;
+    }
+
+    /**
+     * Retrieves the current tick of the replay.
+     *
+     * @return the current tick, or the first tick before the first seek.
+     */
+    public long getTick() {
+        return engine == null ? getFirstTick() : engine.getTick();
+    }
+
+    /**
+     * Retrieves the tick of the first checkpoint, where the replay starts.
+     *
+     * @return the first tick.
+     */
+    public long getFirstTick() {
+        return checkpoints.firstKey();
+    }
+
+    /**
+     * Retrieves the tick of the last checkpoint. The replay can go on after it, as the
+     * run would have without any change from outside the engine.
+     *
+     * @return the tick of the last checkpoint.
+     */
+    public long getLastCheckpointTick() {
+        return checkpoints.lastKey();
+    }
+
+    /**
+     * Retrieves the ecosystem at the current tick.
+     *
+     * @return the ecosystem, or {@code null} before the first seek.
+     */
+    public Ecosystem getEcosystem() {
+        return ecosystem;
+    }
+
+    /**
+     * Retrieves the replayed environment at the current tick.
+     *
+     * @return the environment, or {@code null} before the first seek.
+     */
+    public Environment getEnvironment() {
+        return engine == null ? null : engine.getEnvironment();
+    }
+
+    /**
+     * Retrieves the engine stepping the replayed environment. A seek may replace it.
+     *
+     * @return the engine, or {@code null} before the first seek.
+     */
+    public SimulationEngine getEngine() {
+        return engine;
+    }
+
+    private void load(Checkpoint checkpoint) throws EcosystemException {
+        Ecosystem restored = checkpoint.restore();
+        List<Environment> environments = restored.getEnvironnements();
+        if (environmentIndex < 0 || environmentIndex >= environments.size()) {
+            throw new EcosystemException("The checkpoint of tick " + checkpoint.getTick() + " has no environment "
+                    + environmentIndex);
+        }
+        SimulationEngine restoredEngine = new SimulationEngine(environments.get(environmentIndex), worldWidth,
+                worldHeight, checkpoint.getSeed());
+        restoredEngine.setTick(checkpoint.getTick());
+        engineSetup.accept(restoredEngine);
+        ecosystem = restored;
+        engine = restoredEngine;
+    }
+
+    private void requireLoaded() {
+        if (engine == null) {
+            throw new IllegalStateException("Seek a tick before playing the replay.");
+        }
+    }
+}
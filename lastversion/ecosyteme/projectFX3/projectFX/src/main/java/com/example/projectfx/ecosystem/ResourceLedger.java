@@ -0,0 +1,116 @@
+package com.example.projectfx.ecosystem;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ResourceLedger} class records the seasonal changes applied to every
+ * resource of an environment, so that each resource can compute its quantity when it
+ * is read instead of being updated at every season.
+ * <p>
+ * A season either adds an amount to every quantity, or removes an amount without going
+ * below zero. Each change starts a new epoch. The ledger keeps the total amount added
+ * at the end of each epoch, and a stack of the epochs ending with a decrease, whose
+ * totals strictly increase from the bottom to the top. A resource whose quantity was
+ * {@code q} at epoch {@code t} then has, at the current epoch {@code n}, the quantity
+ * <pre>
+ *     max(q + total(n) - total(t), total(n) - min { total(k) : k &gt; t, k ends with a decrease })
+ * </pre>
+ * where the minimum is found by a binary search on the stack. Recording a season takes
+ * amortized constant time, and reading a quantity logarithmic time in the number of
+ * seasons, whatever the number of resources.
+ */
+public class ResourceLedger {
+    /**
+     * The total amount added at the end of each epoch.
+     */
+    private long[] totals = new long[16];
+
+    /**
+     * The current epoch.
+     */
+    private int epoch;
+
+    /**
+     * The epochs ending with a decrease that can still bound a quantity, oldest first.
+     */
+    private int[] floorEpochs = new int[16];
+
+    /**
+     * The number of epochs in {@link #floorEpochs}.
+     */
+    private int floorCount;
+
+    /**
+     * Adds an amount to every quantity.
+     *
+     * @param amount the amount to add.
+     */
+    public void add(int amount) {
+        next(amount);
+    }
+
+    /**
+     * Removes an amount from every quantity, without going below zero.
+     *
+     * @param amount the amount to remove.
+     */
+    public void subtract(int amount) {
+        next(-amount);
+        // A decrease with a lower total makes the older ones irrelevant
+        while (floorCount > 0 && totals[floorEpochs[floorCount - 1]] >= totals[epoch]) {
+            floorCount--;
+        }
+        if (floorCount == floorEpochs.length) {
+            floorEpochs = Arrays.copyOf(floorEpochs, floorCount * 2);
+        }
+        floorEpochs[floorCount++] = epoch;
+    }
+
+    /**
+     * Retrieves the current epoch.
+     *
+     * @return the number of seasonal changes recorded so far.
+     */
+    public int getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Computes the current value of a quantity known at a past epoch.
+     *
+     * @param quantity the quantity at the given epoch.
+     * @param since    the epoch at which the quantity was known.
+     * @return the current quantity.
+     */
+    public int quantityOf(int quantity, int since) {
+        long total = totals[epoch];
+        long value = quantity + total - totals[since];
+        int floor = firstFloorAfter(since);
+        if (floor < floorCount) {
+            value = Math.max(value, total - totals[floorEpochs[floor]]);
+        }
+        return Math.clamp(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private void next(int amount) {
+        if (epoch + 1 == totals.length) {
+            totals = Arrays.copyOf(totals, totals.length * 2);
+        }
+        totals[epoch + 1] = totals[epoch] + amount;
+        epoch++;
+    }
+
+    private int firstFloorAfter(int since) {
+        int low = 0;
+        int high = floorCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (floorEpochs[middle] > since) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
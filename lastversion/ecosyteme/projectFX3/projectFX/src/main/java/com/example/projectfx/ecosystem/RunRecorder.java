@@ -0,0 +1,145 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.exceptions.EcosystemException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The {@code RunRecorder} class records a seeded run as a directory of
+ * {@link Checkpoint checkpoints}, that a {@link ReplayEngine} can replay afterwards.
+ * <p>
+ * Registered as a {@link SimulationListener} of the engine of the run, it captures the
+ * ecosystem every {@code interval} ticks and writes the checkpoint on an executor, so
+ * the simulation thread only pays for the encoding. The checkpoints are named after
+ * their tick, {@code checkpoint-000000000030.ckpt} for tick 30.
+ */
+public class RunRecorder implements SimulationListener {
+    private static final String PREFIX = "checkpoint-";
+    private static final String SUFFIX = ".ckpt";
+
+    /**
+     * The recorded ecosystem.
+     */
+    private final Ecosystem ecosystem;
+
+    /**
+     * The seed of the engine of the run.
+     */
+    private final long seed;
+
+    /**
+     * The directory holding the checkpoints.
+     */
+    private final Path directory;
+
+    /**
+     * The number of ticks between two checkpoints.
+     */
+    private final long interval;
+
+    /**
+     * The executor writing the checkpoints.
+     */
+    private final Executor executor;
+
+    /**
+     * The checkpoint writes that may not be finished yet.
+     */
+    private CompletableFuture<?> pendingWrites = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructs a {@code RunRecorder}.
+     *
+     * @param ecosystem the ecosystem of the run.
+     * @param seed      the seed of the engine of the run.
+     * @param directory the directory of the checkpoints, created if needed.
+     * @param interval  the number of ticks between two checkpoints.
+     * @param executor  the executor writing the checkpoints.
+     * @throws IOException if the directory cannot be created.
+     */
+    public RunRecorder(Ecosystem ecosystem, long seed, Path directory, long interval, Executor executor) throws IOException {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The interval must be positive: " + interval);
+        }
+        this.ecosystem = ecosystem;
+        this.seed = seed;
+        this.directory = Files.createDirectories(directory);
+        this.interval = interval;
+        this.executor = executor;
+    }
+
+    /**
+     * Captures the ecosystem now and writes the checkpoint in the background. The
+     * recording usually starts with a checkpoint at tick zero.
+     *
+     * @param tick the current tick of the run.
+     * @return a future completed with the path once the checkpoint is on the disk.
+     * @throws EcosystemException if the ecosystem cannot be captured.
+     */
+    public synchronized CompletableFuture<Path> record(long tick) throws EcosystemException {
+        CompletableFuture<Path> write = Checkpoint.capture(ecosystem, tick, seed)
+                .writeAsync(checkpointPath(directory, tick), executor);
+        pendingWrites = CompletableFuture.allOf(pendingWrites, write);
+        return write;
+    }
+
+    /**
+     * Waits until every checkpoint recorded so far is on the disk.
+     *
+     * @throws IOException if a checkpoint could not be written.
+     */
+    public void awaitWrites() throws IOException {
+        CompletableFuture<?> writes;
+        synchronized (this) {
+            writes = pendingWrites;
+        }
+        try {
+            writes.join();
+        } catch (RuntimeException e) {
+            throw new IOException("Cannot write the checkpoints to " + directory, e);
+        }
+    }
+
+    /**
+     * Retrieves the directory holding the checkpoints.
+     *
+     * @return the directory.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieves the number of ticks between two checkpoints.
+     *
+     * @return the interval.
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    @Override
+    public void onTickCompleted(TickStatistics statistics) {
+        if (statistics.tick() % interval != 0) {
+            return;
+        }
+        try {
+            record(statistics.tick());
+        } catch (EcosystemException e) {
+            throw new IllegalStateException("Cannot capture the checkpoint of tick " + statistics.tick(), e);
+        }
+    }
+
+    static Path checkpointPath(Path directory, long tick) {
+        return directory.resolve(String.format("%s%012d%s", PREFIX, tick, SUFFIX));
+    }
+
+    static boolean isCheckpoint(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+}
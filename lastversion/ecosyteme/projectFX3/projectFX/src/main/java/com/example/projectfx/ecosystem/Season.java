@@ -0,0 +1,141 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.species.SpeciesKind;
+
+/**
+ * The {@code Season} enum lists the seasons of the simulation, with the effects each
+ * one has on the environments.
+ * <p>
+ * The effects are fixed when the enum is loaded, so a season change only reads them:
+ * the amount added to or removed from every resource, the factors applied to the
+ * energy of the species and to the quantity of the resources, and the species that
+ * get a chance to reproduce.
+ */
+public enum Season {
+    SPRING("Spring", 10, 1.0, 1.5, SpeciesKind.RABBIT, 2),
+    SUMMER("Summer", 5, 1.2, 1.0, SpeciesKind.WOLF, 1),
+    AUTUMN("Autumn", -5, 1.0, 1.2, null, 0),
+    WINTER("Winter", -10, 0.8, 0.5, null, 0);
+
+    /**
+     * The chance of each reproduction attempt of a season to give a newborn.
+     */
+    public static final double REPRODUCTION_CHANCE = 0.5;
+
+    private static final Season[] VALUES = values();
+
+    /**
+     * The name of the season, as shown to the user.
+     */
+    private final String label;
+
+    /**
+     * The amount added to every resource, negative for a decrease.
+     */
+    private final int resourceChange;
+
+    /**
+     * The factor applied to the energy of every species.
+     */
+    private final double energyMultiplier;
+
+    /**
+     * The factor applied to the quantity of every resource.
+     */
+    private final double quantityMultiplier;
+
+    /**
+     * The kind of the species that can reproduce during the season, or {@code null}.
+     */
+    private final SpeciesKind reproducingKind;
+
+    /**
+     * The number of reproduction attempts of the season.
+     */
+    private final int reproductionAttempts;
+
+    Season(String label, int resourceChange, double energyMultiplier, double quantityMultiplier,
+           SpeciesKind reproducingKind, int reproductionAttempts) {
+        this.label = label;
+        this.resourceChange = resourceChange;
+        this.energyMultiplier = energyMultiplier;
+        this.quantityMultiplier = quantityMultiplier;
+        this.reproducingKind = reproducingKind;
+        this.reproductionAttempts = reproductionAttempts;
+    }
+
+    /**
+     * Finds a season from its name, ignoring the case.
+     *
+     * @param label the name of the season.
+     * @return the season, or {@code null} if no season has this name.
+     */
+    public static Season fromLabel(String label) {
+        for (Season season : VALUES) {
+            if (season.label.equalsIgnoreCase(label)) {
+                return season;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the season following this one.
+     *
+     * @return the next season.
+     */
+    public Season next() {
+        return VALUES[(ordinal() + 1) % VALUES.length];
+    }
+
+    /**
+     * Retrieves the name of the season, as shown to the user.
+     *
+     * @return the name of the season.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Retrieves the amount added to every resource at the start of the season.
+     *
+     * @return the amount, negative for a decrease.
+     */
+    public int getResourceChange() {
+        return resourceChange;
+    }
+
+    /**
+     * Retrieves the factor applied to the energy of every species.
+     *
+     * @return the energy factor.
+     */
+    public double getEnergyMultiplier() {
+        return energyMultiplier;
+    }
+
+    /**
+     * Retrieves the factor applied to the quantity of every resource.
+     *
+     * @return the quantity factor.
+     */
+    public double getQuantityMultiplier() {
+        return quantityMultiplier;
+    }
+
+    /**
+     * Retrieves the number of reproduction attempts the season gives to a kind of species.
+     *
+     * @param kind the kind of species.
+     * @return the number of attempts, zero if the kind does not reproduce this season.
+     */
+    public int getReproductionAttempts(SpeciesKind kind) {
+        return kind == reproducingKind ? reproductionAttempts : 0;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
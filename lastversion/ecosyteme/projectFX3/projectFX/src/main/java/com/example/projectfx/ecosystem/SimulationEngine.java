@@ -0,0 +1,756 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.events.TickCompleted;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Carnivore;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+import com.example.projectfx.species.Wolf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code SimulationEngine} class owns the tick loop of an environment.
+ * <p>
+ * Each call to {@link #step()} runs the simulation phases in order:
+ * <ol>
+ *     <li>Moving every awake species randomly.</li>
+ *     <li>Removing dead species.</li>
+ *     <li>Letting rabbits eat nearby grass, or graze the
+ *     {@link VegetationField vegetation field} of the environment if it has one.</li>
+ *     <li>Letting wolves hunt nearby rabbits.</li>
+ *     <li>Computing the population statistics.</li>
+ * </ol>
+ * The engine does not depend on the JavaFX toolkit: it can be stepped as fast as the
+ * CPU allows for batch runs, while a graphical front end only subscribes to the
+ * results through a {@link SimulationListener}.
+ * <p>
+ * Neighbor queries go through {@link SpatialGrid} indexes whose cell size is the
+ * interaction radius, so that finding the grass or the prey near a species does not
+ * require scanning the whole population.
+ * <p>
+ * Each phase is split in two steps. The planning step reads the state left by the
+ * previous phase and writes its decision (a new position, the grass to eat, the prey
+ * to hunt) in a buffer slot owned by the species, without changing any species or
+ * resource. The commit step then applies the decisions one species at a time, in the
+ * order of the species list, and notifies the listeners. When two species pick the
+ * same target, the first one in that order wins it. Movements draw from a stream
+ * that the {@link RandomService} derives from the tick and the index of the species,
+ * so a tick gives the same result whichever thread plans which species.
+ * <p>
+ * In {@link ExecutionMode#PARALLEL} mode, the planning steps run on a work-stealing
+ * {@link ForkJoinPool}: the species are split into spatial tiles holding at most
+ * {@link #getTileCapacity()} species each, by cutting the populated area at the
+ * median position along its longest side. The tiles are rebuilt at each tick, so
+ * they follow the population as it clusters. A parallel run gives exactly the same
+ * results as a sequential run with the same seed.
+ * <p>
+ * Timed behaviors, such as the regeneration of a resource, a sleep cycle or a
+ * reproduction cooldown, are not checked on every entity at every tick: they are
+ * scheduled on an {@link EventScheduler} whose clock is the tick, and only the events
+ * due at a tick run at the start of its step.
+ * <p>
+ * The phases only visit the {@link Environment#getActiveSpecies() active species} of
+ * the environment: a sleeping species does not move, eat or hunt, and waking it up
+ * brings it back in the next tick, so a mostly dormant population costs little.
+ */
+public class SimulationEngine {
+    /**
+     * The default distance under which a species can interact with a resource or a prey.
+     */
+    public static final int DEFAULT_INTERACTION_RADIUS = 100;
+
+    /**
+     * The default maximum number of species in a tile of a parallel tick.
+     */
+    public static final int DEFAULT_TILE_CAPACITY = 2048;
+
+    /**
+     * The direction given to a species once it is at its planned position. Its
+     * {@link com.example.projectfx.events.Moved Moved} event reports that position, so
+     * nothing is formatted per move when the events are disabled.
+     */
+    private static final String PLANNED_DIRECTION = "planned";
+
+    /**
+     * The environment driven by this engine.
+     */
+    private final Environment environment;
+
+    /**
+     * The width of the simulated world.
+     */
+    private final int worldWidth;
+
+    /**
+     * The height of the simulated world.
+     */
+    private final int worldHeight;
+
+    /**
+     * The source of the random streams used for the movements.
+     */
+    private final RandomService randomService;
+
+    /**
+     * The listeners notified of the results of each phase.
+     */
+    private final List<SimulationListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The distance under which a species can interact with a resource or a prey.
+     */
+    private int interactionRadius = DEFAULT_INTERACTION_RADIUS;
+
+    /**
+     * The spatial index of the grass, rebuilt at the start of each tick.
+     */
+    private SpatialGrid<Resource> grassGrid = new SpatialGrid<>(DEFAULT_INTERACTION_RADIUS);
+
+    /**
+     * The spatial index of the rabbits, rebuilt at the start of each tick
+     * and kept up to date as they move.
+     */
+    private SpatialGrid<Species> rabbitGrid = new SpatialGrid<>(DEFAULT_INTERACTION_RADIUS);
+
+    /**
+     * The number of ticks executed so far.
+     */
+    private long tick;
+
+    /**
+     * The queue of the timed behaviors, whose clock is the tick.
+     */
+    private final EventScheduler scheduler = new EventScheduler();
+
+    /**
+     * The way each phase processes the species.
+     */
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+
+    /**
+     * The pool processing the tiles in {@link ExecutionMode#PARALLEL} mode.
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * The maximum number of species in a tile of a parallel tick.
+     */
+    private int tileCapacity = DEFAULT_TILE_CAPACITY;
+
+    /**
+     * Constructs a {@code SimulationEngine} for the given environment and world size.
+     *
+     * @param environment the environment to simulate.
+     * @param worldWidth  the width of the world.
+     * @param worldHeight the height of the world.
+     */
+    public SimulationEngine(Environment environment, int worldWidth, int worldHeight) {
+        this(environment, worldWidth, worldHeight, RandomService.getDefault().fork());
+    }
+
+    /**
+     * Constructs a {@code SimulationEngine} for the given environment and world size,
+     * seeding the random generator so that runs can be repeated.
+     *
+     * @param environment the environment to simulate.
+     * @param worldWidth  the width of the world.
+     * @param worldHeight the height of the world.
+     * @param seed        the seed of the random generator.
+     */
+    public SimulationEngine(Environment environment, int worldWidth, int worldHeight, long seed) {
+        this(environment, worldWidth, worldHeight, new RandomService(seed));
+    }
+
+    /**
+     * Constructs a {@code SimulationEngine} for the given environment and world size,
+     * drawing the movements from the given random service. The species of the
+     * environment also derive their own streams from it.
+     *
+     * @param environment   the environment to simulate.
+     * @param worldWidth    the width of the world.
+     * @param worldHeight   the height of the world.
+     * @param randomService the source of the random streams.
+     */
+    public SimulationEngine(Environment environment, int worldWidth, int worldHeight, RandomService randomService) {
+        this.environment = environment;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.randomService = randomService;
+        environment.setRandomService(randomService);
+    }
+
+    /**
+     * Registers a listener notified of the results of each phase.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(SimulationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously added listener.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Runs the given number of ticks back to back.
+     *
+     * @param ticks the number of ticks to run.
+     * @return the statistics of the last tick, or {@code null} if no tick was run.
+     */
+    public TickStatistics run(long ticks) {
+        TickStatistics statistics = null;
+        for (long i = 0; i < ticks; i++) {
+            statistics = step();
+        }
+        return statistics;
+    }
+
+    /**
+     * Executes one tick of the simulation.
+     *
+     * @return the population statistics at the end of the tick.
+     */
+    public TickStatistics step() {
+        scheduler.advanceTo(tick);
+
+        List<Species> species = new ArrayList<>(environment.getActiveSpecies());
+        int count = species.size();
+        // A population that fits in a single tile is planned on the calling thread
+        List<Tile> tiles = executionMode == ExecutionMode.PARALLEL && count > tileCapacity
+                ? Tile.partition(species, tileCapacity)
+                : null;
+
+        indexGrass();
+        VegetationField vegetation = environment.getVegetation();
+        if (vegetation != null) {
+            vegetation.update();
+        }
+
+        int[] nextX = new int[count];
+        int[] nextY = new int[count];
+        plan(tiles, count, i -> planMove(species.get(i), i, nextX, nextY));
+        commitMoves(species, nextX, nextY);
+        removeDeadSpecies(species);
+        indexRabbits();
+
+        Resource[] food = new Resource[count];
+        plan(tiles, count, i -> food[i] = planEating(species.get(i)));
+        commitEating(species, food, vegetation);
+        indexRabbits();
+
+        Species[] prey = new Species[count];
+        plan(tiles, count, i -> prey[i] = planHunting(species.get(i)));
+        commitHunting(species, prey);
+
+        tick++;
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new TickCompleted(tick));
+        }
+
+        TickStatistics statistics = getStatistics();
+        for (SimulationListener listener : listeners) {
+            listener.onTickCompleted(statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Makes a predator hunt a prey. On success the predator moves to the position
+     * of the prey and the prey is removed from the environment.
+     *
+     * @param predator the hunting carnivore.
+     * @param prey     the hunted species.
+     * @return {@code true} if the hunt succeeded, {@code false} otherwise.
+     */
+    public boolean hunt(Carnivore predator, Species prey) {
+        boolean success = predator.hunt(prey);
+        if (success) {
+            predator.moveTo(prey.getX(), prey.getY());
+            environment.retirerEspece(prey);
+            rabbitGrid.remove(prey);
+        }
+        for (SimulationListener listener : listeners) {
+            listener.onHunt(predator, prey, success);
+        }
+        return success;
+    }
+
+    /**
+     * Makes a resource regenerate every {@code period} ticks, for as long as it stays
+     * in the environment.
+     *
+     * @param resource the resource to regenerate.
+     * @param period   the number of ticks between two regenerations.
+     */
+    public void scheduleRegeneration(Resource resource, long period) {
+        scheduler.scheduleRepeating(period, () -> regenerate(resource));
+    }
+
+    /**
+     * Makes a resource regenerate at every tick that is a positive multiple of
+     * {@code period}, as if {@link #scheduleRegeneration(Resource, long)} had been called
+     * before the first tick. A run resumed from a {@link Checkpoint} calls this method for
+     * its resources, so that they regenerate at the same ticks as in the original run.
+     *
+     * @param resource the resource to regenerate.
+     * @param period   the number of ticks between two regenerations.
+     */
+    public void resumeRegeneration(Resource resource, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive: " + period);
+        }
+        long first = Math.max(period, (tick + period - 1) / period * period);
+        scheduler.schedule(first, () -> {
+            if (regenerate(resource)) {
+                scheduleRegeneration(resource, period);
+            }
+        });
+    }
+
+    /**
+     * Makes a species fall asleep after {@code awakeTicks} ticks and wake up
+     * {@code sleepingTicks} ticks later, over and over, for as long as it stays in the
+     * environment.
+     *
+     * @param species       the species to put to sleep.
+     * @param awakeTicks    the number of ticks the species stays awake.
+     * @param sleepingTicks the number of ticks the species sleeps.
+     */
+    public void scheduleSleepCycle(Species species, long awakeTicks, long sleepingTicks) {
+        scheduler.scheduleAfter(awakeTicks, () -> {
+            if (!environment.contient(species)) {
+                return;
+            }
+            species.sleep();
+            scheduler.scheduleAfter(sleepingTicks, () -> {
+                if (environment.contient(species)) {
+                    species.wakeUp();
+                    scheduleSleepCycle(species, awakeTicks, sleepingTicks);
+                }
+            });
+        });
+    }
+
+    /**
+     * Makes a species try to reproduce every {@code cooldown} ticks, for as long as it
+     * stays in the environment.
+     *
+     * @param species  the species to reproduce.
+     * @param cooldown the number of ticks between two attempts.
+     */
+    public void scheduleReproduction(Species species, long cooldown) {
+        scheduler.scheduleRepeating(cooldown, () -> {
+            if (!environment.contient(species)) {
+                return false;
+            }
+            species.reproduce();
+            return true;
+        });
+    }
+
+    private void indexGrass() {
+        grassGrid.clear();
+        for (Resource resource : environment.getResources()) {
+            if (resource instanceof Grass) {
+                grassGrid.insert(resource, resource.getX(), resource.getY());
+            }
+        }
+    }
+
+    private void indexRabbits() {
+        rabbitGrid.clear();
+        for (Species species : environment.getSpeciesList()) {
+            if (species instanceof Rabbit) {
+                rabbitGrid.insert(species, species.getX(), species.getY());
+            }
+        }
+    }
+
+    /**
+     * Runs the planning step of a phase for every species index. Planning only reads
+     * the state of the tick and writes to the slot of its own index, so the indexes
+     * can be planned in any order, on any thread.
+     */
+    private void plan(List<Tile> tiles, int count, IntConsumer planner) {
+        if (tiles == null) {
+            for (int i = 0; i < count; i++) {
+                planner.accept(i);
+            }
+        } else if (!tiles.isEmpty()) {
+            pool.invoke(new TileTask(tiles, 0, tiles.size(), planner));
+        }
+    }
+
+    private void planMove(Species species, int index, int[] nextX, int[] nextY) {
+        // Each species draws from its own stream, so the result does not depend on the tiling
+        SplittableRandom random = randomService.stream(tick, index);
+        int dx = random.nextInt(61) - 20;
+        int dy = random.nextInt(61) - 20;
+
+        int currentX = species.getX();
+        int currentY = species.getY();
+
+        nextX[index] = Math.min(Math.max(currentX + (currentY > 100 && currentX < 700 ? dx : -dx), 0), worldWidth - 1);
+        nextY[index] = Math.min(Math.max(currentY + dy, 0), worldHeight - 1);
+    }
+
+    private void commitMoves(List<Species> species, int[] nextX, int[] nextY) {
+        for (int i = 0; i < species.size(); i++) {
+            Species current = species.get(i);
+            if (current.checkDeath()) {
+                notifyDeath(current);
+                continue;
+            }
+            current.moveTo(nextX[i], nextY[i]);
+            current.move(PLANNED_DIRECTION);
+            for (SimulationListener listener : listeners) {
+                listener.onSpeciesMoved(current);
+            }
+        }
+    }
+
+    private void removeDeadSpecies(List<Species> species) {
+        // Only the species that moved can have run out of energy
+        for (Species current : species) {
+            if ((current.getEnergy() <= 0 || !current.isAlive()) && environment.contient(current)) {
+                environment.retirerEspece(current);
+                notifyDeath(current);
+            }
+        }
+    }
+
+    private Resource planEating(Species species) {
+        if (species instanceof Rabbit && species.isAlive()) {
+            return grassGrid.nearest(species.getX(), species.getY(), interactionRadius, grass -> true);
+        }
+        return null;
+    }
+
+    private void commitEating(List<Species> species, Resource[] food, VegetationField vegetation) {
+        Set<Resource> eaten = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < species.size(); i++) {
+            Species current = species.get(i);
+            Resource resource = food[i];
+            if (resource == null && vegetation != null && current instanceof Rabbit && current.isAlive()) {
+                // Without grass within reach, a rabbit grazes the cell it stands on
+                current.eat(vegetation);
+                continue;
+            }
+            // The species with the lowest index wins a contended grass
+            if (resource == null || eaten.contains(resource) || !current.eat(resource)) {
+                continue;
+            }
+            eaten.add(resource);
+            current.moveTo(resource.getX(), resource.getY());
+            for (SimulationListener listener : listeners) {
+                listener.onResourceEaten(current, resource);
+            }
+        }
+        if (!eaten.isEmpty()) {
+            environment.retirerResources(eaten::contains);
+            eaten.forEach(grassGrid::remove);
+        }
+    }
+
+    private Species planHunting(Species species) {
+        if (species instanceof Wolf && species.isAlive()) {
+            return rabbitGrid.nearest(species.getX(), species.getY(), interactionRadius, Species::isAlive);
+        }
+        return null;
+    }
+
+    private void commitHunting(List<Species> species, Species[] prey) {
+        for (int i = 0; i < species.size(); i++) {
+            // A prey already caught by a predator with a lower index is no longer in the grid
+            if (prey[i] != null && rabbitGrid.contains(prey[i])) {
+                hunt((Carnivore) species.get(i), prey[i]);
+            }
+        }
+    }
+
+    /**
+     * Regenerates a resource if it is still in the environment.
+     */
+    private boolean regenerate(Resource resource) {
+        if (!environment.contient(resource)) {
+            return false;
+        }
+        resource.regenerate();
+        return true;
+    }
+
+    /**
+     * Computes the population statistics of the environment at the current tick.
+     *
+     * @return the population statistics.
+     */
+    public TickStatistics getStatistics() {
+        EnvironmentStatistics statistics = environment.getStatistics();
+        return new TickStatistics(tick, statistics.count(SpeciesKind.RABBIT), statistics.count(SpeciesKind.WOLF),
+                statistics.countResources("Grass"));
+    }
+
+    private void notifyDeath(Species species) {
+        for (SimulationListener listener : listeners) {
+            listener.onSpeciesDied(species);
+        }
+    }
+
+    /**
+     * Retrieves the environment driven by this engine.
+     *
+     * @return the environment.
+     */
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Retrieves the number of ticks executed so far.
+     *
+     * @return the current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Sets the number of ticks executed so far, to resume a run restored from a
+     * {@link Checkpoint}. The movements of the next ticks then draw from the same
+     * streams as in the original run. The timed behaviors due before the tick run now.
+     *
+     * @param tick the current tick.
+     */
+    public void setTick(long tick) {
+        this.tick = tick;
+        // The clock of the scheduler is the tick of the last step
+        scheduler.advanceTo(tick - 1);
+    }
+
+    /**
+     * Retrieves the queue of the timed behaviors. Its clock is the tick: an event scheduled
+     * at time {@code t} runs at the start of the step executing tick {@code t}.
+     *
+     * @return the event scheduler.
+     */
+    public EventScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Retrieves the distance under which a species can interact with a resource or a prey.
+     *
+     * @return the interaction radius.
+     */
+    public int getInteractionRadius() {
+        return interactionRadius;
+    }
+
+    /**
+     * Sets the distance under which a species can interact with a resource or a prey.
+     *
+     * @param interactionRadius the new interaction radius.
+     */
+    public void setInteractionRadius(int interactionRadius) {
+        this.interactionRadius = interactionRadius;
+        this.grassGrid = new SpatialGrid<>(interactionRadius);
+        this.rabbitGrid = new SpatialGrid<>(interactionRadius);
+    }
+
+    /**
+     * Retrieves the way each phase processes the species.
+     *
+     * @return the execution mode.
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets the way each phase processes the species.
+     *
+     * @param executionMode the new execution mode.
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Sets the pool processing the tiles in {@link ExecutionMode#PARALLEL} mode.
+     * The engine does not shut the pool down.
+     *
+     * @param pool the new pool.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Retrieves the maximum number of species in a tile of a parallel tick.
+     *
+     * @return the tile capacity.
+     */
+    public int getTileCapacity() {
+        return tileCapacity;
+    }
+
+    /**
+     * Sets the maximum number of species in a tile of a parallel tick.
+     *
+     * @param tileCapacity the new tile capacity.
+     */
+    public void setTileCapacity(int tileCapacity) {
+        if (tileCapacity <= 0) {
+            throw new IllegalArgumentException("The tile capacity must be positive: " + tileCapacity);
+        }
+        this.tileCapacity = tileCapacity;
+    }
+
+    /**
+     * A group of neighboring species, planned by a single worker: a range of a shared
+     * array of species indexes.
+     */
+    private static final class Tile {
+        private final int[] order;
+        private final int from;
+        private final int to;
+
+        private Tile(int[] order, int from, int to) {
+            this.order = order;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Splits the species into tiles by recursively cutting the populated area
+         * in two at the median position, along its longest side. The coordinates are
+         * copied once into primitive arrays and each cut selects the median in linear
+         * time, without sorting.
+         */
+        private static List<Tile> partition(List<Species> species, int capacity) {
+            int count = species.size();
+            int[] order = new int[count];
+            int[] xs = new int[count];
+            int[] ys = new int[count];
+            for (int i = 0; i < count; i++) {
+                Species current = species.get(i);
+                order[i] = i;
+                xs[i] = current.getX();
+                ys[i] = current.getY();
+            }
+            List<Tile> tiles = new ArrayList<>();
+            split(order, xs, ys, 0, count, capacity, tiles);
+            return tiles;
+        }
+
+        private static void split(int[] order, int[] xs, int[] ys, int from, int to, int capacity, List<Tile> tiles) {
+            if (to - from <= capacity) {
+                if (to > from) {
+                    tiles.add(new Tile(order, from, to));
+                }
+                return;
+            }
+            int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+            int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                int index = order[i];
+                minX = Math.min(minX, xs[index]);
+                maxX = Math.max(maxX, xs[index]);
+                minY = Math.min(minY, ys[index]);
+                maxY = Math.max(maxY, ys[index]);
+            }
+            int middle = (from + to) >>> 1;
+            select(order, maxX - minX >= maxY - minY ? xs : ys, from, to - 1, middle);
+            split(order, xs, ys, from, middle, capacity, tiles);
+            split(order, xs, ys, middle, to, capacity, tiles);
+        }
+
+        /**
+         * Reorders a range of indexes so that the k-th one has the k-th smallest
+         * coordinate, the smaller ones before it and the larger ones after it, in
+         * expected linear time (Hoare's quickselect).
+         */
+        private static void select(int[] order, int[] axis, int left, int right, int k) {
+            while (left < right) {
+                int pivot = medianOfThree(axis[order[left]], axis[order[(left + right) >>> 1]], axis[order[right]]);
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (axis[order[i]] < pivot) {
+                        i++;
+                    }
+                    while (axis[order[j]] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swapped = order[i];
+                        order[i++] = order[j];
+                        order[j--] = swapped;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private static int medianOfThree(int a, int b, int c) {
+            return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        }
+    }
+
+    /**
+     * Plans a range of tiles, splitting the range so that idle workers can steal
+     * the other half.
+     */
+    @SuppressWarnings("serial")
+    private static final class TileTask extends RecursiveAction {
+        private final List<Tile> tiles;
+        private final int from;
+        private final int to;
+        private final IntConsumer planner;
+
+        private TileTask(List<Tile> tiles, int from, int to, IntConsumer planner) {
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+            this.planner = planner;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                Tile tile = tiles.get(from);
+                for (int i = tile.from; i < tile.to; i++) {
+                    planner.accept(tile.order[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(tiles, from, middle, planner), new TileTask(tiles, middle, to, planner));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Carnivore;
+import com.example.projectfx.species.Species;
+
+/**
+ * The {@code SimulationListener} interface receives the results of each phase
+ * executed by a {@link SimulationEngine}.
+ * <p>
+ * All callbacks are invoked on the thread that calls {@link SimulationEngine#step()}.
+ * Every method has an empty default implementation, so implementing classes only
+ * need to override the notifications they care about.
+ */
+public interface SimulationListener {
+
+    /**
+     * Called after a species has been moved to a new position.
+     *
+     * @param species the species that moved.
+     */
+    default void onSpeciesMoved(Species species) {
+    }
+
+    /**
+     * Called after a dead species has been removed from the environment.
+     *
+     * @param species the species that died.
+     */
+    default void onSpeciesDied(Species species) {
+    }
+
+    /**
+     * Called after a species has eaten a resource. The resource has already been
+     * removed from the environment when this method is invoked.
+     *
+     * @param species  the species that ate.
+     * @param resource the resource that was eaten.
+     */
+    default void onResourceEaten(Species species, Resource resource) {
+    }
+
+    /**
+     * Called after a predator has attempted to hunt a prey. On success the prey
+     * has already been removed from the environment.
+     *
+     * @param predator the hunting carnivore.
+     * @param prey     the hunted species.
+     * @param success  {@code true} if the hunt succeeded, {@code false} otherwise.
+     */
+    default void onHunt(Carnivore predator, Species prey, boolean success) {
+    }
+
+    /**
+     * Called once all the phases of a tick have been executed.
+     *
+     * @param statistics the population statistics at the end of the tick.
+     */
+    default void onTickCompleted(TickStatistics statistics) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.projectfx.ecosystem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The {@code SpatialGrid} class is a uniform-grid spatial hash used to answer
+ * neighbor queries ("entities within r of p") without scanning every entity.
+ * <p>
+ * The plane is divided into square cells of a fixed size, and each entity is stored
+ * in the bucket of the cell containing its coordinates. When the cell size is equal
+ * to the query radius, a query only visits the 3x3 block of cells around the point.
+ * Distances are compared squared, so no square root is computed.
+ * <p>
+ * Entities are compared by identity. The grid keeps its own copy of the coordinates,
+ * so it must be told through {@link #move(Object, int, int)} when an entity moves.
+ *
+ * @param <T> the type of the indexed entities.
+ */
+public class SpatialGrid<T> {
+    /**
+     * The size of a cell.
+     */
+    private final int cellSize;
+
+    /**
+     * The non-empty cells, indexed by their packed cell coordinates.
+     */
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+
+    /**
+     * The location of each indexed entity.
+     */
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty {@code SpatialGrid} with the given cell size.
+     *
+     * @param cellSize the size of a cell, usually the interaction radius.
+     */
+    public SpatialGrid(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds an entity at the given coordinates. If the entity is already indexed,
+     * it is moved to the new coordinates.
+     *
+     * @param entity the entity to add.
+     * @param x      the X-coordinate of the entity.
+     * @param y      the Y-coordinate of the entity.
+     */
+    public void insert(T entity, int x, int y) {
+        if (entries.containsKey(entity)) {
+            move(entity, x, y);
+            return;
+        }
+        Entry<T> entry = new Entry<>(entity, x, y);
+        entries.put(entity, entry);
+        addToCell(entry, cellKey(x, y));
+    }
+
+    /**
+     * Removes an entity from the grid.
+     *
+     * @param entity the entity to remove.
+     * @return {@code true} if the entity was indexed, {@code false} otherwise.
+     */
+    public boolean remove(T entity) {
+        Entry<T> entry = entries.remove(entity);
+        if (entry == null) {
+            return false;
+        }
+        removeFromCell(entry);
+        return true;
+    }
+
+    /**
+     * Updates the coordinates of an indexed entity. The entity only changes of
+     * bucket when it crosses a cell border.
+     *
+     * @param entity the entity that moved.
+     * @param x      the new X-coordinate.
+     * @param y      the new Y-coordinate.
+     */
+    public void move(T entity, int x, int y) {
+        Entry<T> entry = entries.get(entity);
+        if (entry == null) {
+            insert(entity, x, y);
+            return;
+        }
+        entry.x = x;
+        entry.y = y;
+        long key = cellKey(x, y);
+        if (key != entry.cell) {
+            removeFromCell(entry);
+            addToCell(entry, key);
+        }
+    }
+
+    /**
+     * Checks if an entity is indexed in the grid.
+     *
+     * @param entity the entity to look for.
+     * @return {@code true} if the entity is indexed, {@code false} otherwise.
+     */
+    public boolean contains(T entity) {
+        return entries.containsKey(entity);
+    }
+
+    /**
+     * Finds the entity closest to a point, strictly within the given radius.
+     *
+     * @param x      the X-coordinate of the point.
+     * @param y      the Y-coordinate of the point.
+     * @param radius the search radius.
+     * @param filter the condition the entity must satisfy.
+     * @return the closest matching entity, or {@code null} if there is none.
+     */
+    public T nearest(int x, int y, int radius, Predicate<? super T> filter) {
+        long radiusSquared = (long) radius * radius;
+        T nearest = null;
+        long bestDistance = radiusSquared;
+
+        int minCellX = Math.floorDiv(x - radius, cellSize);
+        int maxCellX = Math.floorDiv(x + radius, cellSize);
+        int minCellY = Math.floorDiv(y - radius, cellSize);
+        int maxCellY = Math.floorDiv(y + radius, cellSize);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                List<Entry<T>> bucket = cells.get(pack(cellX, cellY));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry<T> entry : bucket) {
+                    long distance = distanceSquared(entry, x, y);
+                    if (distance < bestDistance && filter.test(entry.value)) {
+                        bestDistance = distance;
+                        nearest = entry.value;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Performs an action on every entity strictly within the given radius of a point.
+     * The grid must not be modified by the action.
+     *
+     * @param x      the X-coordinate of the point.
+     * @param y      the Y-coordinate of the point.
+     * @param radius the search radius.
+     * @param action the action to perform.
+     */
+    public void forEachWithin(int x, int y, int radius, Consumer<? super T> action) {
+        long radiusSquared = (long) radius * radius;
+        int minCellX = Math.floorDiv(x - radius, cellSize);
+        int maxCellX = Math.floorDiv(x + radius, cellSize);
+        int minCellY = Math.floorDiv(y - radius, cellSize);
+        int maxCellY = Math.floorDiv(y + radius, cellSize);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                List<Entry<T>> bucket = cells.get(pack(cellX, cellY));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry<T> entry : bucket) {
+                    if (distanceSquared(entry, x, y) < radiusSquared) {
+                        action.accept(entry.value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every entity from the grid.
+     */
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    /**
+     * Retrieves the number of indexed entities.
+     *
+     * @return the number of entities.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieves the size of a cell.
+     *
+     * @return the cell size.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    private void addToCell(Entry<T> entry, long key) {
+        List<Entry<T>> bucket = cells.computeIfAbsent(key, k -> new ArrayList<>());
+        entry.cell = key;
+        entry.slot = bucket.size();
+        bucket.add(entry);
+    }
+
+    private void removeFromCell(Entry<T> entry) {
+        List<Entry<T>> bucket = cells.get(entry.cell);
+        // Swap with the last entry of the bucket to remove in constant time
+        Entry<T> last = bucket.remove(bucket.size() - 1);
+        if (last != entry) {
+            bucket.set(entry.slot, last);
+            last.slot = entry.slot;
+        }
+        if (bucket.isEmpty()) {
+            cells.remove(entry.cell);
+        }
+    }
+
+    private long cellKey(int x, int y) {
+        return pack(Math.floorDiv(x, cellSize), Math.floorDiv(y, cellSize));
+    }
+
+    private static long pack(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private static long distanceSquared(Entry<?> entry, int x, int y) {
+        long deltaX = entry.x - x;
+        long deltaY = entry.y - y;
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    /**
+     * The location of an indexed entity.
+     */
+    private static final class Entry<T> {
+        private final T value;
+        private int x;
+        private int y;
+        private long cell;
+        private int slot;
+
+        private Entry(T value, int x, int y) {
+            this.value = value;
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
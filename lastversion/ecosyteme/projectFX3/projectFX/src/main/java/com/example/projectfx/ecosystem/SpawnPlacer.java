@@ -0,0 +1,202 @@
+package com.example.projectfx.ecosystem;
+
+import com.example.projectfx.exceptions.EcosystemException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code SpawnPlacer} class chooses random spawn positions inside a rectangular
+ * area while keeping a minimum distance between every pair of positions.
+ * <p>
+ * Occupied positions are indexed in a {@link SpatialGrid} whose cell size is the
+ * minimum distance, so checking a candidate only looks at the 3x3 block of cells
+ * around it instead of every existing position. Each placement tries a bounded
+ * number of candidates, which makes seeding N entities O(N) and lets the placer
+ * report an {@link EcosystemException} when the area is full instead of looping forever.
+ */
+public class SpawnPlacer {
+    /**
+     * The default number of candidates tried before a placement is reported as failed.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 30;
+
+    /**
+     * The minimum X-coordinate of the area.
+     */
+    private final int rangeMinX;
+
+    /**
+     * The maximum X-coordinate of the area.
+     */
+    private final int rangeMaxX;
+
+    /**
+     * The minimum Y-coordinate of the area.
+     */
+    private final int rangeMinY;
+
+    /**
+     * The maximum Y-coordinate of the area.
+     */
+    private final int rangeMaxY;
+
+    /**
+     * The minimum allowed distance between two positions.
+     */
+    private final int minDistance;
+
+    /**
+     * The random generator used to draw the candidates.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * The index of the occupied positions.
+     */
+    private final SpatialGrid<Positionn> occupied;
+
+    /**
+     * The number of candidates tried before a placement is reported as failed.
+     */
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /**
+     * Constructs a {@code SpawnPlacer} for the given area and minimum distance,
+     * drawing the candidates from a stream of the default {@link RandomService}.
+     *
+     * @param rangeMinX   the minimum X-coordinate.
+     * @param rangeMaxX   the maximum X-coordinate.
+     * @param rangeMinY   the minimum Y-coordinate.
+     * @param rangeMaxY   the maximum Y-coordinate.
+     * @param minDistance the minimum allowed distance between two positions.
+     */
+    public SpawnPlacer(int rangeMinX, int rangeMaxX, int rangeMinY, int rangeMaxY, int minDistance) {
+        this(rangeMinX, rangeMaxX, rangeMinY, rangeMaxY, minDistance, RandomService.getDefault().split());
+    }
+
+    /**
+     * Constructs a {@code SpawnPlacer} for the given area and minimum distance,
+     * drawing the candidates from the given random generator.
+     *
+     * @param rangeMinX   the minimum X-coordinate.
+     * @param rangeMaxX   the maximum X-coordinate.
+     * @param rangeMinY   the minimum Y-coordinate.
+     * @param rangeMaxY   the maximum Y-coordinate.
+     * @param minDistance the minimum allowed distance between two positions.
+     * @param random      the random generator.
+     */
+    public SpawnPlacer(int rangeMinX, int rangeMaxX, int rangeMinY, int rangeMaxY, int minDistance, RandomGenerator random) {
+        if (rangeMaxX < rangeMinX || rangeMaxY < rangeMinY) {
+            throw new IllegalArgumentException("Invalid spawn area.");
+        }
+        this.rangeMinX = rangeMinX;
+        this.rangeMaxX = rangeMaxX;
+        this.rangeMinY = rangeMinY;
+        this.rangeMaxY = rangeMaxY;
+        this.minDistance = minDistance;
+        this.random = random;
+        this.occupied = new SpatialGrid<>(Math.max(1, minDistance));
+    }
+
+    /**
+     * Chooses a new random position at least {@code minDistance} away from every
+     * occupied position, and marks it as occupied.
+     *
+     * @return the new position.
+     * @throws EcosystemException if no free position was found, meaning the area is full.
+     */
+    public Positionn place() throws EcosystemException {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            int x = random.nextInt(rangeMaxX - rangeMinX + 1) + rangeMinX;
+            int y = random.nextInt(rangeMaxY - rangeMinY + 1) + rangeMinY;
+            if (isFree(x, y)) {
+                Positionn positionn = new Positionn(x, y);
+                occupied.insert(positionn, x, y);
+                return positionn;
+            }
+        }
+        throw new EcosystemException("No room left in the environment to place a new position after "
+                + maxAttempts + " attempts (" + occupied.size() + " positions occupied).");
+    }
+
+    /**
+     * Chooses several new positions at once.
+     *
+     * @param count the number of positions to place.
+     * @return the new positions.
+     * @throws EcosystemException if the area is full before all the positions are placed.
+     */
+    public List<Positionn> placeAll(int count) throws EcosystemException {
+        List<Positionn> placed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            placed.add(place());
+        }
+        return placed;
+    }
+
+    /**
+     * Checks if a point is at least {@code minDistance} away from every occupied position.
+     *
+     * @param x the X-coordinate of the point.
+     * @param y the Y-coordinate of the point.
+     * @return {@code true} if the point is free, {@code false} otherwise.
+     */
+    public boolean isFree(int x, int y) {
+        return occupied.nearest(x, y, minDistance, positionn -> true) == null;
+    }
+
+    /**
+     * Marks an existing position as occupied, using its current coordinates.
+     *
+     * @param positionn the position to mark.
+     */
+    public void occupy(Positionn positionn) {
+        occupied.insert(positionn, positionn.getX(), positionn.getY());
+    }
+
+    /**
+     * Frees a position previously placed or occupied.
+     *
+     * @param positionn the position to free.
+     * @return {@code true} if the position was occupied, {@code false} otherwise.
+     */
+    public boolean release(Positionn positionn) {
+        return occupied.remove(positionn);
+    }
+
+    /**
+     * Frees every occupied position.
+     */
+    public void clear() {
+        occupied.clear();
+    }
+
+    /**
+     * Retrieves the number of occupied positions.
+     *
+     * @return the number of occupied positions.
+     */
+    public int size() {
+        return occupied.size();
+    }
+
+    /**
+     * Retrieves the number of candidates tried before a placement is reported as failed.
+     *
+     * @return the maximum number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets the number of candidates tried before a placement is reported as failed.
+     *
+     * @param maxAttempts the new maximum number of attempts.
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.projectfx.ecosystem;
+
+/**
+ * The {@code TickStatistics} record holds the population statistics computed
+ * at the end of a simulation tick.
+ *
+ * @param tick    the number of the tick that produced these statistics.
+ * @param rabbits the number of rabbits alive in the environment.
+ * @param wolves  the number of wolves alive in the environment.
+ * @param grass   the number of grass resources left in the environment.
+ */
+public record TickStatistics(long tick, long rabbits, long wolves, long grass) {
+}
@@ -0,0 +1,279 @@
+package com.example.projectfx.ecosystem;
+
+import java.util.Arrays;
+
+/**
+ * The {@code VegetationField} class models the vegetation of an environment as a
+ * continuous density on a raster, instead of discrete grass patches.
+ * <p>
+ * The world is cut into square cells, and each cell holds the amount of vegetation
+ * growing on it, between zero and the carrying capacity. At each {@link #update()},
+ * the vegetation regrows logistically, {@code d += growthRate * d * (1 - d / capacity)},
+ * then spreads to the four neighboring cells by diffusion. Herbivores
+ * {@link #consume(int, int, float) consume} the cell under their position.
+ * <p>
+ * The densities are kept in a single {@code float} array, row after row, and both
+ * kernels are plain loops over it that the JIT compiler turns into SIMD instructions.
+ * Memory and update time depend on the resolution of the raster, not on how much
+ * vegetation there is.
+ */
+public class VegetationField {
+    /**
+     * The width and height of a cell, in world units.
+     */
+    private final int cellSize;
+
+    /**
+     * The number of columns of the raster.
+     */
+    private final int columns;
+
+    /**
+     * The number of rows of the raster.
+     */
+    private final int rows;
+
+    /**
+     * The maximum density of a cell.
+     */
+    private final float capacity;
+
+    /**
+     * The fraction by which a sparse cell regrows at each update.
+     */
+    private final float growthRate;
+
+    /**
+     * The fraction of the difference with each neighbor exchanged at each update.
+     */
+    private final float diffusionRate;
+
+    /**
+     * The density of each cell, row after row.
+     */
+    private float[] density;
+
+    /**
+     * The buffer the diffusion writes to, swapped with {@link #density} afterwards.
+     */
+    private float[] next;
+
+    /**
+     * Constructs a {@code VegetationField} covering a world, with every cell at its
+     * carrying capacity.
+     *
+     * @param worldWidth    the width of the world.
+     * @param worldHeight   the height of the world.
+     * @param cellSize      the width and height of a cell.
+     * @param capacity      the maximum density of a cell.
+     * @param growthRate    the fraction by which a sparse cell regrows at each update.
+     * @param diffusionRate the fraction exchanged with each neighbor at each update, at most 0.25.
+     */
+    public VegetationField(int worldWidth, int worldHeight, int cellSize, float capacity, float growthRate, float diffusionRate) {
+        if (cellSize <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("The cell size and the capacity must be positive.");
+        }
+        if (diffusionRate < 0 || diffusionRate > 0.25f) {
+            throw new IllegalArgumentException("The diffusion rate must be between 0 and 0.25: " + diffusionRate);
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (worldWidth + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (worldHeight + cellSize - 1) / cellSize);
+        this.capacity = capacity;
+        this.growthRate = growthRate;
+        this.diffusionRate = diffusionRate;
+        this.density = new float[columns * rows];
+        this.next = new float[columns * rows];
+        Arrays.fill(density, capacity);
+    }
+
+    /**
+     * Regrows the vegetation of every cell, then diffuses it to the neighboring cells.
+     */
+    public void update() {
+        regrow();
+        diffuse();
+    }
+
+    /**
+     * Regrows the vegetation of every cell logistically.
+     */
+    public void regrow() {
+        float[] density = this.density;
+        float rate = growthRate;
+        float capacity = this.capacity;
+        float inverseCapacity = 1f / capacity;
+        for (int i = 0; i < density.length; i++) {
+            float d = density[i];
+            density[i] = Math.min(capacity, d + rate * d * (1f - d * inverseCapacity));
+        }
+    }
+
+    /**
+     * Diffuses the vegetation of every cell to its four neighbors. The borders reflect,
+     * so the total amount of vegetation is kept.
+     */
+    public void diffuse() {
+        if (diffusionRate == 0) {
+            return;
+        }
+        float[] density = this.density;
+        float[] next = this.next;
+        float rate = diffusionRate;
+        for (int row = 0; row < rows; row++) {
+            int start = row * columns;
+            int above = row == 0 ? start : start - columns;
+            int below = row == rows - 1 ? start : start + columns;
+            // The inner cells of a row have both horizontal neighbors
+            for (int column = 1; column < columns - 1; column++) {
+                float d = density[start + column];
+                float neighbors = density[start + column - 1] + density[start + column + 1]
+                        + density[above + column] + density[below + column];
+                next[start + column] = d + rate * (neighbors - 4f * d);
+            }
+            next[start] = diffuseBorder(start, start, Math.min(start + 1, start + columns - 1), above, below, rate);
+            if (columns > 1) {
+                int last = start + columns - 1;
+                next[last] = diffuseBorder(last, last - 1, last, above + columns - 1, below + columns - 1, rate);
+            }
+        }
+        this.density = next;
+        this.next = density;
+    }
+
+    /**
+     * Consumes vegetation from the cell holding a world position.
+     *
+     * @param x      the X-coordinate of the position.
+     * @param y      the Y-coordinate of the position.
+     * @param amount the amount to consume.
+     * @return the amount consumed, less than requested if the cell is sparse.
+     */
+    public float consume(int x, int y, float amount) {
+        int cell = cellOf(x, y);
+        float consumed = Math.min(amount, density[cell]);
+        density[cell] -= consumed;
+        return consumed;
+    }
+
+    /**
+     * Retrieves the density of the cell holding a world position.
+     *
+     * @param x the X-coordinate of the position.
+     * @param y the Y-coordinate of the position.
+     * @return the density of the cell.
+     */
+    public float getDensity(int x, int y) {
+        return density[cellOf(x, y)];
+    }
+
+    /**
+     * Sets the density of the cell holding a world position.
+     *
+     * @param x     the X-coordinate of the position.
+     * @param y     the Y-coordinate of the position.
+     * @param value the new density.
+     */
+    public void setDensity(int x, int y, float value) {
+        density[cellOf(x, y)] = value;
+    }
+
+    /**
+     * Sets the density of every cell.
+     *
+     * @param value the new density.
+     */
+    public void fill(float value) {
+        Arrays.fill(density, value);
+    }
+
+    /**
+     * Computes the amount of vegetation over the whole field.
+     *
+     * @return the sum of the densities.
+     */
+    public double getTotal() {
+        double total = 0;
+        for (float d : density) {
+            total += d;
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the width and height of a cell.
+     *
+     * @return the cell size.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Retrieves the number of columns of the raster.
+     *
+     * @return the number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Retrieves the number of rows of the raster.
+     *
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the maximum density of a cell.
+     *
+     * @return the carrying capacity.
+     */
+    public float getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the fraction by which a sparse cell regrows at each update.
+     *
+     * @return the growth rate.
+     */
+    public float getGrowthRate() {
+        return growthRate;
+    }
+
+    /**
+     * Retrieves the fraction of the difference with each neighbor exchanged at each update.
+     *
+     * @return the diffusion rate.
+     */
+    public float getDiffusionRate() {
+        return diffusionRate;
+    }
+
+    /**
+     * Retrieves the array holding the density of each cell, row after row, for the
+     * checkpoints to copy in bulk. The array is swapped at each diffusion, so it must
+     * not be kept.
+     *
+     * @return the densities.
+     */
+    float[] densities() {
+        return density;
+    }
+
+    private float diffuseBorder(int cell, int left, int right, int above, int below, float rate) {
+        float d = density[cell];
+        float neighbors = density[left] + density[right] + density[above] + density[below];
+        return d + rate * (neighbors - 4f * d);
+    }
+
+    private int cellOf(int x, int y) {
+        int column = Math.min(Math.max(x / cellSize, 0), columns - 1);
+        int row = Math.min(Math.max(y / cellSize, 0), rows - 1);
+        return row * columns + column;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.projectfx.ecs;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The {@code CellIndex} class is a uniform grid over the indexes of a component store,
+ * rebuilt by a system before its neighbor queries.
+ * <p>
+ * Unlike {@link com.example.projectfx.ecosystem.SpatialGrid}, it holds no object per
+ * entity: the indexes are counting-sorted by cell into one array, and each cell is a
+ * range of that array. The coordinates are copied at each build, so the queries read
+ * contiguous arrays whatever the storage of the entities. Building the index is two
+ * linear passes, and the arrays are reused from one build to the next.
+ */
+final class CellIndex {
+    /**
+     * The size of a cell.
+     */
+    private final int cellSize;
+
+    /**
+     * The number of cell columns.
+     */
+    private int columns;
+
+    /**
+     * The number of cell rows.
+     */
+    private int rows;
+
+    /**
+     * The start of the range of each cell in {@link #entries}, followed by the total count.
+     */
+    private int[] cellStart = new int[1];
+
+    /**
+     * The indexes sorted by cell.
+     */
+    private int[] entries = new int[16];
+
+    /**
+     * The cell of each index, or -1 if the index is not included.
+     */
+    private int[] cellOf = new int[16];
+
+    /**
+     * The X-coordinate of each index, copied at each build.
+     */
+    private int[] x = new int[16];
+
+    /**
+     * The Y-coordinate of each index, copied at each build.
+     */
+    private int[] y = new int[16];
+
+    CellIndex(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Indexes the first {@code count} positions satisfying a condition.
+     *
+     * @param xOf     the X-coordinate of each index.
+     * @param yOf     the Y-coordinate of each index.
+     * @param count   the number of positions.
+     * @param width   the width of the world.
+     * @param height  the height of the world.
+     * @param include the condition an index must satisfy to be indexed.
+     */
+    void build(IntUnaryOperator xOf, IntUnaryOperator yOf, int count, int width, int height, IntPredicate include) {
+        columns = Math.max(1, (width + cellSize - 1) / cellSize);
+        rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        int cells = columns * rows;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+        }
+        if (cellOf.length < count) {
+            cellOf = new int[count];
+            entries = new int[count];
+            x = new int[count];
+            y = new int[count];
+        }
+
+        // Count the indexes of each cell, then turn the counts into range ends
+        for (int i = 0; i < count; i++) {
+            if (include.test(i)) {
+                x[i] = xOf.applyAsInt(i);
+                y[i] = yOf.applyAsInt(i);
+                int cell = column(x[i]) + row(y[i]) * columns;
+                cellOf[i] = cell;
+                cellStart[cell + 1]++;
+            } else {
+                cellOf[i] = -1;
+            }
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        int[] next = Arrays.copyOf(cellStart, cells);
+        for (int i = 0; i < count; i++) {
+            if (cellOf[i] >= 0) {
+                entries[next[cellOf[i]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Finds the indexed position closest to a point, strictly within the given radius.
+     * Among positions at the same distance, the first one visited wins, so the result
+     * only depends on the positions and the indexes.
+     *
+     * @param px     the X-coordinate of the point.
+     * @param py     the Y-coordinate of the point.
+     * @param radius the search radius.
+     * @param filter the condition the index must satisfy.
+     * @return the closest matching index, or -1 if there is none.
+     */
+    int nearest(int px, int py, int radius, IntPredicate filter) {
+        long bestDistance = (long) radius * radius;
+        int nearest = -1;
+        int minColumn = column(px - radius);
+        int maxColumn = column(px + radius);
+        int minRow = row(py - radius);
+        int maxRow = row(py + radius);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = column + row * columns;
+                for (int e = cellStart[cell]; e < cellStart[cell + 1]; e++) {
+                    int index = entries[e];
+                    long deltaX = x[index] - px;
+                    long deltaY = y[index] - py;
+                    long distance = deltaX * deltaX + deltaY * deltaY;
+                    if (distance < bestDistance && filter.test(index)) {
+                        bestDistance = distance;
+                        nearest = index;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private int column(int coordinate) {
+        return Math.min(Math.max(Math.floorDiv(coordinate, cellSize), 0), columns - 1);
+    }
+
+    private int row(int coordinate) {
+        return Math.min(Math.max(Math.floorDiv(coordinate, cellSize), 0), rows - 1);
+    }
+}
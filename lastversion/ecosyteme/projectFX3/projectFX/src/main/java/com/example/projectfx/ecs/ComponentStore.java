@@ -0,0 +1,244 @@
+package com.example.projectfx.ecs;
+
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code ComponentStore} class is the {@link StorageMode#HEAP heap} {@link EntityStore}:
+ * it holds the components in parallel arrays, so the entity at index {@code i} has its
+ * position in {@code x[i]} and {@code y[i]}, its energy in {@code energy[i]}, and so on.
+ * <p>
+ * An entity may have a {@link Species} facade, which the world updates from the
+ * components once a step is over. Entities created by {@link #add(SpeciesKind, Diet, int, int, int, int, int)}
+ * have none, which is how large populations are simulated.
+ */
+public class ComponentStore implements EntityStore {
+    /**
+     * The number of bytes of the components of one entity: six {@code int}s, a
+     * {@code boolean} and three compressed references.
+     */
+    public static final int BYTES_PER_ENTITY = 6 * Integer.BYTES + 1 + 3 * Integer.BYTES;
+
+    /**
+     * The X-coordinate of each entity.
+     */
+    private int[] x = new int[16];
+
+    /**
+     * The Y-coordinate of each entity.
+     */
+    private int[] y = new int[16];
+
+    /**
+     * The energy of each entity.
+     */
+    private int[] energy = new int[16];
+
+    /**
+     * The speed of each entity.
+     */
+    private int[] speed = new int[16];
+
+    /**
+     * The energy spent by each entity at each move.
+     */
+    private int[] moveCost = new int[16];
+
+    /**
+     * The attack strength of each entity, zero if it does not hunt.
+     */
+    private int[] attack = new int[16];
+
+    /**
+     * The sleep state of each entity.
+     */
+    private boolean[] sleeping = new boolean[16];
+
+    /**
+     * The diet of each entity.
+     */
+    private Diet[] diet = new Diet[16];
+
+    /**
+     * The kind of each entity.
+     */
+    private SpeciesKind[] kind = new SpeciesKind[16];
+
+    /**
+     * The facade of each entity, or {@code null} if it has none.
+     */
+    private Species[] facade = new Species[16];
+
+    /**
+     * The number of living entities.
+     */
+    private int size;
+
+    /**
+     * The facades of the entities removed since the last call to {@link #drainRemoved()}.
+     */
+    private final List<Species> removed = new ArrayList<>();
+
+    @Override
+    public int add(SpeciesKind kind, Diet diet, int x, int y, int energy, int speed, int attack) {
+        if (size == this.x.length) {
+            grow();
+        }
+        int index = size++;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.energy[index] = energy;
+        this.speed[index] = speed;
+        this.moveCost[index] = kind.getMoveCost();
+        this.attack[index] = attack;
+        this.sleeping[index] = false;
+        this.diet[index] = diet;
+        this.kind[index] = kind;
+        this.facade[index] = null;
+        return index;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (facade[index] != null) {
+            removed.add(facade[index]);
+        }
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            energy[index] = energy[last];
+            speed[index] = speed[last];
+            moveCost[index] = moveCost[last];
+            attack[index] = attack[last];
+            sleeping[index] = sleeping[last];
+            diet[index] = diet[last];
+            kind[index] = kind[last];
+            facade[index] = facade[last];
+        }
+        diet[last] = null;
+        kind[last] = null;
+        facade[last] = null;
+    }
+
+    @Override
+    public List<Species> drainRemoved() {
+        List<Species> drained = new ArrayList<>(removed);
+        removed.clear();
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void scaleEnergy(double factor) {
+        // A plain loop over the array, which the JIT compiler vectorizes
+        int[] energy = this.energy;
+        for (int i = 0; i < size; i++) {
+            energy[i] = (int) (energy[i] * factor);
+        }
+    }
+
+    @Override
+    public int getBytesPerEntity() {
+        return BYTES_PER_ENTITY;
+    }
+
+    // Component accessors
+
+    @Override
+    public int getX(int index) {
+        return x[index];
+    }
+
+    @Override
+    public void setX(int index, int x) {
+        this.x[index] = x;
+    }
+
+    @Override
+    public int getY(int index) {
+        return y[index];
+    }
+
+    @Override
+    public void setY(int index, int y) {
+        this.y[index] = y;
+    }
+
+    @Override
+    public int getEnergy(int index) {
+        return energy[index];
+    }
+
+    @Override
+    public void setEnergy(int index, int energy) {
+        this.energy[index] = energy;
+    }
+
+    @Override
+    public int getSpeed(int index) {
+        return speed[index];
+    }
+
+    @Override
+    public int getMoveCost(int index) {
+        return moveCost[index];
+    }
+
+    @Override
+    public int getAttack(int index) {
+        return attack[index];
+    }
+
+    @Override
+    public boolean isSleeping(int index) {
+        return sleeping[index];
+    }
+
+    @Override
+    public void setSleeping(int index, boolean sleeping) {
+        this.sleeping[index] = sleeping;
+    }
+
+    @Override
+    public Diet getDiet(int index) {
+        return diet[index];
+    }
+
+    @Override
+    public SpeciesKind getKind(int index) {
+        return kind[index];
+    }
+
+    @Override
+    public Species getFacade(int index) {
+        return facade[index];
+    }
+
+    @Override
+    public void setFacade(int index, Species facade) {
+        this.facade[index] = facade;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        energy = Arrays.copyOf(energy, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        moveCost = Arrays.copyOf(moveCost, capacity);
+        attack = Arrays.copyOf(attack, capacity);
+        sleeping = Arrays.copyOf(sleeping, capacity);
+        diet = Arrays.copyOf(diet, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        facade = Arrays.copyOf(facade, capacity);
+    }
+}
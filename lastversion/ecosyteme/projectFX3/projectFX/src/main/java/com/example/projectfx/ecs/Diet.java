@@ -0,0 +1,40 @@
+package com.example.projectfx.ecs;
+
+/**
+ * The {@code Diet} enum is the feeding component of an entity. It tells the feeding
+ * system whether the entity eats resources and the hunting system whether it can be hunted.
+ */
+public enum Diet {
+    /**
+     * Eats resources and can be hunted.
+     */
+    HERBIVORE,
+
+    /**
+     * Hunts herbivores.
+     */
+    CARNIVORE,
+
+    /**
+     * Eats resources and hunts herbivores.
+     */
+    OMNIVORE;
+
+    /**
+     * Checks if an entity with this diet eats resources.
+     *
+     * @return {@code true} for herbivores and omnivores, {@code false} otherwise.
+     */
+    public boolean eatsResources() {
+        return this != CARNIVORE;
+    }
+
+    /**
+     * Checks if an entity with this diet hunts other entities.
+     *
+     * @return {@code true} for carnivores and omnivores, {@code false} otherwise.
+     */
+    public boolean hunts() {
+        return this != HERBIVORE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.projectfx.ecs;
+
+/**
+ * The {@code EcsSystem} interface is a behavior of the entity-component world.
+ * A system iterates over the dense component arrays of the world instead of calling
+ * a method on each entity.
+ */
+public interface EcsSystem {
+    /**
+     * Runs the system for one tick.
+     *
+     * @param world the world to update.
+     */
+    void update(EcsWorld world);
+}
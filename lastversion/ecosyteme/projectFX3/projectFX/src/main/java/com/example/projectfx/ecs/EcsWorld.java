@@ -0,0 +1,317 @@
+package com.example.projectfx.ecs;
+
+import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.RandomService;
+import com.example.projectfx.ecosystem.Season;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Species;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code EcsWorld} class runs the simulation in entity-component-system mode.
+ * <p>
+ * The state of the entities lives in an {@link EntityStore} and a {@link ResourceStore},
+ * as dense plain values, and the behaviors are {@link EcsSystem systems} that
+ * loop over them: by default movement, metabolism, feeding and hunting, in this
+ * order. No method is called on a {@link Species} during a step, so a step touches memory
+ * linearly whatever the number of entities.
+ * <p>
+ * The species and resources of an environment can be {@link #load(Environment) loaded}
+ * into the world. They then act as facades: {@link #sync()} copies the components back
+ * to them and removes the dead ones from their environment, so the user interface and
+ * the tests keep reading the usual objects.
+ * <p>
+ * The entity store is chosen with a {@link StorageMode} when the world is created:
+ * heap arrays by default, or rows outside the heap for very large populations.
+ */
+public class EcsWorld {
+    /**
+     * An estimate of the heap used by one entity of the object model: a {@link Species}
+     * object with its fields and packed position (about 56 bytes), its
+     * {@code SplittableRandom} (32 bytes) and its slots in the entity registry (about
+     * 40 bytes), with compressed references.
+     */
+    public static final int OBJECT_MODEL_BYTES_PER_ENTITY = 128;
+
+    /**
+     * The components of the living entities.
+     */
+    private final EntityStore species;
+
+    /**
+     * The components of the resources.
+     */
+    private final ResourceStore resources = new ResourceStore();
+
+    /**
+     * The systems run at each step, in order.
+     */
+    private final List<EcsSystem> systems = new ArrayList<>();
+
+    /**
+     * The width of the simulated world.
+     */
+    private final int worldWidth;
+
+    /**
+     * The height of the simulated world.
+     */
+    private final int worldHeight;
+
+    /**
+     * The source of the random streams used by the systems.
+     */
+    private final RandomService randomService;
+
+    /**
+     * The environment the facades were loaded from, or {@code null} if none was.
+     */
+    private Environment environment;
+
+    /**
+     * The distance under which an entity can interact with a resource or a prey.
+     */
+    private int interactionRadius = SimulationEngine.DEFAULT_INTERACTION_RADIUS;
+
+    /**
+     * The grid over the resources, shared by the systems.
+     */
+    private CellIndex resourceIndex = new CellIndex(SimulationEngine.DEFAULT_INTERACTION_RADIUS);
+
+    /**
+     * The grid over the living entities, shared by the systems.
+     */
+    private CellIndex speciesIndex = new CellIndex(SimulationEngine.DEFAULT_INTERACTION_RADIUS);
+
+    /**
+     * The number of steps executed so far.
+     */
+    private long tick;
+
+    /**
+     * Constructs an empty {@code EcsWorld} with the default systems, seeding the
+     * random generator so that runs can be repeated.
+     *
+     * @param worldWidth  the width of the world.
+     * @param worldHeight the height of the world.
+     * @param seed        the seed of the random generator.
+     */
+    public EcsWorld(int worldWidth, int worldHeight, long seed) {
+        this(worldWidth, worldHeight, new RandomService(seed));
+    }
+
+    /**
+     * Constructs an empty {@code EcsWorld} with the default systems, drawing from the
+     * given random service and storing the entities in the storage mode chosen at startup.
+     *
+     * @param worldWidth    the width of the world.
+     * @param worldHeight   the height of the world.
+     * @param randomService the source of the random streams.
+     */
+    public EcsWorld(int worldWidth, int worldHeight, RandomService randomService) {
+        this(worldWidth, worldHeight, randomService, StorageMode.getDefault().createStore());
+    }
+
+    /**
+     * Constructs an empty {@code EcsWorld} with the default systems, drawing from the
+     * given random service and storing the entities in the given store.
+     *
+     * @param worldWidth    the width of the world.
+     * @param worldHeight   the height of the world.
+     * @param randomService the source of the random streams.
+     * @param species       the store of the entities.
+     */
+    public EcsWorld(int worldWidth, int worldHeight, RandomService randomService, EntityStore species) {
+        this.species = species;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.randomService = randomService;
+        systems.add(new MovementSystem());
+        systems.add(new MetabolismSystem());
+        systems.add(new FeedingSystem());
+        systems.add(new HuntingSystem());
+    }
+
+    /**
+     * Adds the species and resources of an environment to the world as facades.
+     *
+     * @param environment the environment to load.
+     */
+    public void load(Environment environment) {
+        this.environment = environment;
+        for (Species current : environment.getSpeciesList()) {
+            species.add(current);
+        }
+        for (Resource resource : environment.getResources()) {
+            resources.add(resource);
+        }
+    }
+
+    /**
+     * Executes one step by running every system in order.
+     */
+    public void step() {
+        for (EcsSystem system : systems) {
+            system.update(this);
+        }
+        tick++;
+    }
+
+    /**
+     * Runs the given number of steps back to back, without updating the facades.
+     *
+     * @param ticks the number of steps to run.
+     */
+    public void run(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            step();
+        }
+    }
+
+    /**
+     * Applies the effects of a season to every entity and resource, as bulk passes over
+     * the energy and quantity components. The facades are updated by the next
+     * {@link #sync()}, except for the quantities of the resources, which only live in
+     * the store once loaded.
+     *
+     * @param season the new season.
+     */
+    public void applySeason(Season season) {
+        if (season.getEnergyMultiplier() != 1.0) {
+            species.scaleEnergy(season.getEnergyMultiplier());
+        }
+        resources.applySeason(season);
+    }
+
+    /**
+     * Copies the components of the living entities to their facades, and removes the
+     * facades of the dead entities and eaten resources from their environment.
+     */
+    public void sync() {
+        for (int i = 0; i < species.size(); i++) {
+            Species facade = species.getFacade(i);
+            if (facade != null) {
+                facade.setEnergy(species.getEnergy(i));
+                facade.moveTo(species.getX(i), species.getY(i));
+            }
+        }
+        for (Species dead : species.drainRemoved()) {
+            dead.setEnergy(0);
+            dead.getEnvironment().retirerEspece(dead);
+        }
+        for (Resource eaten : resources.drainRemoved()) {
+            if (environment != null) {
+                environment.retirerResource(eaten);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the components of the living entities.
+     *
+     * @return the entity store.
+     */
+    public EntityStore getSpecies() {
+        return species;
+    }
+
+    /**
+     * Retrieves the components of the resources.
+     *
+     * @return the resource store.
+     */
+    public ResourceStore getResources() {
+        return resources;
+    }
+
+    /**
+     * Retrieves the systems run at each step. The list can be modified to add, remove
+     * or reorder systems.
+     *
+     * @return the systems.
+     */
+    public List<EcsSystem> getSystems() {
+        return systems;
+    }
+
+    /**
+     * Retrieves the number of steps executed so far.
+     *
+     * @return the current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retrieves the source of the random streams used by the systems.
+     *
+     * @return the random service.
+     */
+    public RandomService getRandomService() {
+        return randomService;
+    }
+
+    /**
+     * Retrieves the width of the simulated world.
+     *
+     * @return the world width.
+     */
+    public int getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * Retrieves the height of the simulated world.
+     *
+     * @return the world height.
+     */
+    public int getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Retrieves the distance under which an entity can interact with a resource or a prey.
+     *
+     * @return the interaction radius.
+     */
+    public int getInteractionRadius() {
+        return interactionRadius;
+    }
+
+    /**
+     * Sets the distance under which an entity can interact with a resource or a prey.
+     *
+     * @param interactionRadius the new interaction radius.
+     */
+    public void setInteractionRadius(int interactionRadius) {
+        this.interactionRadius = interactionRadius;
+        this.resourceIndex = new CellIndex(interactionRadius);
+        this.speciesIndex = new CellIndex(interactionRadius);
+    }
+
+    /**
+     * Describes the memory used by the components of the entities, next to the estimated
+     * memory the same entities would use as objects.
+     *
+     * @return the memory report.
+     */
+    public String getMemoryReport() {
+        long entities = species.size();
+        return String.format("%s: %d entities, %d bytes per entity (%d bytes), object model: ~%d bytes per entity (~%d bytes)",
+                species.getClass().getSimpleName(), entities,
+                species.getBytesPerEntity(), entities * species.getBytesPerEntity(),
+                OBJECT_MODEL_BYTES_PER_ENTITY, entities * OBJECT_MODEL_BYTES_PER_ENTITY);
+    }
+
+    CellIndex getResourceIndex() {
+        return resourceIndex;
+    }
+
+    CellIndex getSpeciesIndex() {
+        return speciesIndex;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.projectfx.ecs;
+
+import com.example.projectfx.species.Bear;
+import com.example.projectfx.species.Carnivore;
+import com.example.projectfx.species.Herbivore;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+
+import java.util.List;
+
+/**
+ * The {@code EntityStore} interface holds the components of the living entities of an
+ * {@link EcsWorld}, addressed by a dense index.
+ * <p>
+ * The entities occupy the indexes from 0 to {@link #size()} - 1 without any gap: removing
+ * an entity moves the last entity into its index, so an index is only valid until the
+ * next removal. The systems only go through this interface, so the storage can be chosen
+ * with a {@link StorageMode} without changing them.
+ */
+public interface EntityStore {
+    /**
+     * Adds an entity without a facade.
+     *
+     * @param kind   the kind of the entity.
+     * @param diet   the diet of the entity.
+     * @param x      the X-coordinate of the entity.
+     * @param y      the Y-coordinate of the entity.
+     * @param energy the energy of the entity.
+     * @param speed  the speed of the entity.
+     * @param attack the attack strength of the entity, zero if it does not hunt.
+     * @return the index of the new entity.
+     */
+    int add(SpeciesKind kind, Diet diet, int x, int y, int energy, int speed, int attack);
+
+    /**
+     * Adds an entity whose components are copied from a species, which becomes its facade.
+     *
+     * @param species the species to add.
+     * @return the index of the new entity.
+     */
+    default int add(Species species) {
+        int index = add(species.getKind(), dietOf(species), species.getX(), species.getY(),
+                species.getEnergy(), species.getVitesse(), attackOf(species));
+        setSleeping(index, species.isSleeping());
+        setFacade(index, species);
+        return index;
+    }
+
+    /**
+     * Removes the entity at the given index, moving the last entity into it.
+     * The facade of the removed entity is kept until {@link #drainRemoved()}.
+     *
+     * @param index the index of the entity to remove.
+     */
+    void remove(int index);
+
+    /**
+     * Removes every entity with no energy left. The entities are visited from the
+     * end, so each one moved into a hole has already been checked.
+     *
+     * @return the number of removed entities.
+     */
+    default int removeStarving() {
+        int before = size();
+        for (int i = size() - 1; i >= 0; i--) {
+            if (getEnergy(i) <= 0) {
+                remove(i);
+            }
+        }
+        return before - size();
+    }
+
+    /**
+     * Retrieves and forgets the facades of the entities removed since the last call.
+     *
+     * @return the removed facades.
+     */
+    List<Species> drainRemoved();
+
+    /**
+     * Counts the living entities of a kind.
+     *
+     * @param kind the kind to count.
+     * @return the number of entities of this kind.
+     */
+    default int count(SpeciesKind kind) {
+        int count = 0;
+        for (int i = 0, size = size(); i < size; i++) {
+            if (getKind(i) == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Multiplies the energy of every entity by a factor, rounding toward zero.
+     *
+     * @param factor the factor to apply.
+     */
+    default void scaleEnergy(double factor) {
+        for (int i = 0, size = size(); i < size; i++) {
+            setEnergy(i, (int) (getEnergy(i) * factor));
+        }
+    }
+
+    /**
+     * Retrieves the number of living entities.
+     *
+     * @return the number of entities.
+     */
+    int size();
+
+    /**
+     * Retrieves the number of bytes the store uses for the components of one entity,
+     * facades excluded.
+     *
+     * @return the size of the components of an entity.
+     */
+    int getBytesPerEntity();
+
+    // Component accessors
+
+    int getX(int index);
+
+    void setX(int index, int x);
+
+    int getY(int index);
+
+    void setY(int index, int y);
+
+    int getEnergy(int index);
+
+    void setEnergy(int index, int energy);
+
+    int getSpeed(int index);
+
+    int getMoveCost(int index);
+
+    int getAttack(int index);
+
+    boolean isSleeping(int index);
+
+    void setSleeping(int index, boolean sleeping);
+
+    Diet getDiet(int index);
+
+    SpeciesKind getKind(int index);
+
+    Species getFacade(int index);
+
+    void setFacade(int index, Species facade);
+
+    private static Diet dietOf(Species species) {
+        if (species instanceof Herbivore) {
+            return Diet.HERBIVORE;
+        }
+        if (species instanceof Carnivore) {
+            return Diet.CARNIVORE;
+        }
+        return Diet.OMNIVORE;
+    }
+
+    private static int attackOf(Species species) {
+        if (species instanceof Carnivore carnivore) {
+            return carnivore.getAttackStrength();
+        }
+        if (species instanceof Bear bear) {
+            return (int) bear.getStrength();
+        }
+        return 0;
+    }
+}
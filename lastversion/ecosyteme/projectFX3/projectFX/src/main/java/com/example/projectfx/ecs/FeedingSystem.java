@@ -0,0 +1,51 @@
+package com.example.projectfx.ecs;
+
+import java.util.function.IntPredicate;
+
+/**
+ * The {@code FeedingSystem} class lets every awake entity that eats resources eat the
+ * closest resource within the interaction radius. The entity moves to the resource,
+ * gains {@link #FOOD_ENERGY} and the resource is removed. When several entities
+ * want the same resource, the one with the lowest index gets it and the others look
+ * for the next closest one.
+ */
+public class FeedingSystem implements EcsSystem {
+    /**
+     * The energy gained by eating a resource, as a rabbit eating grass.
+     */
+    public static final int FOOD_ENERGY = 20;
+
+    @Override
+    public void update(EcsWorld world) {
+        ResourceStore resources = world.getResources();
+        if (resources.size() == 0) {
+            return;
+        }
+        EntityStore store = world.getSpecies();
+        CellIndex index = world.getResourceIndex();
+        index.build(resources::getX, resources::getY, resources.size(), world.getWorldWidth(), world.getWorldHeight(), i -> true);
+
+        boolean[] eaten = new boolean[resources.size()];
+        IntPredicate available = food -> !eaten[food];
+        int radius = world.getInteractionRadius();
+
+        for (int i = 0, size = store.size(); i < size; i++) {
+            if (store.isSleeping(i) || !store.getDiet(i).eatsResources()) {
+                continue;
+            }
+            int food = index.nearest(store.getX(i), store.getY(i), radius, available);
+            if (food >= 0) {
+                eaten[food] = true;
+                store.setEnergy(i, store.getEnergy(i) + FOOD_ENERGY);
+                store.setX(i, resources.getX(food));
+                store.setY(i, resources.getY(food));
+            }
+        }
+
+        for (int food = eaten.length - 1; food >= 0; food--) {
+            if (eaten[food]) {
+                resources.remove(food);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.projectfx.ecs;
+
+import java.util.function.IntPredicate;
+
+/**
+ * The {@code HuntingSystem} class lets every awake hunter attack the closest living
+ * herbivore within the interaction radius, following the rule of
+ * {@link com.example.projectfx.species.Carnivore#attack(com.example.projectfx.species.Species)}:
+ * a prey whose energy does not exceed the attack strength is eaten and its energy goes
+ * to the hunter, otherwise it loses the attack strength. The hunter moves to the prey
+ * either way. The eaten prey are removed once every hunter has attacked.
+ */
+public class HuntingSystem implements EcsSystem {
+    @Override
+    public void update(EcsWorld world) {
+        EntityStore store = world.getSpecies();
+        int size = store.size();
+
+        CellIndex index = world.getSpeciesIndex();
+        index.build(store::getX, store::getY, size, world.getWorldWidth(), world.getWorldHeight(),
+                i -> store.getDiet(i) == Diet.HERBIVORE);
+        IntPredicate alive = prey -> store.getEnergy(prey) > 0;
+        int radius = world.getInteractionRadius();
+
+        for (int i = 0; i < size; i++) {
+            int attack = store.getAttack(i);
+            if (attack <= 0 || store.isSleeping(i) || store.getEnergy(i) <= 0 || !store.getDiet(i).hunts()) {
+                continue;
+            }
+            int prey = index.nearest(store.getX(i), store.getY(i), radius, alive);
+            if (prey < 0) {
+                continue;
+            }
+            int preyEnergy = store.getEnergy(prey);
+            if (preyEnergy <= attack) {
+                store.setEnergy(i, store.getEnergy(i) + preyEnergy);
+                store.setEnergy(prey, 0);
+            } else {
+                store.setEnergy(prey, preyEnergy - attack);
+            }
+            store.setX(i, store.getX(prey));
+            store.setY(i, store.getY(prey));
+        }
+        store.removeStarving();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.projectfx.ecs;
+
+/**
+ * The {@code MetabolismSystem} class makes every awake entity pay the energy cost of
+ * its move, then removes the entities with no energy left.
+ */
+public class MetabolismSystem implements EcsSystem {
+    @Override
+    public void update(EcsWorld world) {
+        EntityStore store = world.getSpecies();
+
+        for (int i = 0, size = store.size(); i < size; i++) {
+            if (!store.isSleeping(i)) {
+                store.setEnergy(i, Math.max(0, store.getEnergy(i) - store.getMoveCost(i)));
+            }
+        }
+        store.removeStarving();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.projectfx.ecs;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code MovementSystem} class moves every awake entity randomly, with the same
+ * rule as {@link com.example.projectfx.ecosystem.SimulationEngine}, keeping it inside
+ * the world.
+ * <p>
+ * The offsets are drawn from a single stream derived from the tick, one pair per index,
+ * sleeping entities included, so a tick only depends on the seed and the entity order.
+ */
+public class MovementSystem implements EcsSystem {
+    @Override
+    public void update(EcsWorld world) {
+        EntityStore store = world.getSpecies();
+        SplittableRandom random = world.getRandomService().stream(world.getTick());
+        int maxX = world.getWorldWidth() - 1;
+        int maxY = world.getWorldHeight() - 1;
+
+        for (int i = 0, size = store.size(); i < size; i++) {
+            int dx = random.nextInt(61) - 20;
+            int dy = random.nextInt(61) - 20;
+            if (store.isSleeping(i)) {
+                continue;
+            }
+            int currentX = store.getX(i);
+            int currentY = store.getY(i);
+            store.setX(i, Math.min(Math.max(currentX + (currentY > 100 && currentX < 700 ? dx : -dx), 0), maxX));
+            store.setY(i, Math.min(Math.max(currentY + dy, 0), maxY));
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.projectfx.ecs;
+
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code OffHeapComponentStore} class is the {@link StorageMode#OFF_HEAP off-heap}
+ * {@link EntityStore}: the components of each entity are packed in a fixed-size row of a
+ * direct {@link ByteBuffer}, outside the Java heap.
+ * <p>
+ * A row holds, in this order, the X and Y coordinates, the energy, the speed, the move
+ * cost and the attack strength as {@code int}s, then the kind, the diet and the flags as
+ * bytes, for {@value #ROW_BYTES} bytes per entity. The garbage collector never scans the
+ * rows, so tens of millions of entities add almost nothing to the pause times. The
+ * facades are kept in a heap array, created only when the first facade is added.
+ * <p>
+ * A buffer is indexed by {@code int}, which bounds the store to about 76 million entities.
+ */
+public class OffHeapComponentStore implements EntityStore {
+    /**
+     * The number of bytes of a row.
+     */
+    public static final int ROW_BYTES = 28;
+
+    /**
+     * The maximum number of entities of a store.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / ROW_BYTES;
+
+    private static final int X = 0;
+    private static final int Y = 4;
+    private static final int ENERGY = 8;
+    private static final int SPEED = 12;
+    private static final int MOVE_COST = 16;
+    private static final int ATTACK = 20;
+    private static final int KIND = 24;
+    private static final int DIET = 25;
+    private static final int FLAGS = 26;
+
+    /**
+     * The flag set for a sleeping entity.
+     */
+    private static final byte SLEEPING = 1;
+
+    private static final SpeciesKind[] KINDS = SpeciesKind.values();
+    private static final Diet[] DIETS = Diet.values();
+
+    /**
+     * The rows of the entities.
+     */
+    private ByteBuffer rows;
+
+    /**
+     * The number of rows the buffer can hold.
+     */
+    private int capacity;
+
+    /**
+     * The facade of each entity, or {@code null} if no facade was ever added.
+     */
+    private Species[] facade;
+
+    /**
+     * The number of living entities.
+     */
+    private int size;
+
+    /**
+     * The facades of the entities removed since the last call to {@link #drainRemoved()}.
+     */
+    private final List<Species> removed = new ArrayList<>();
+
+    /**
+     * Constructs an empty {@code OffHeapComponentStore} with a small initial capacity.
+     */
+    public OffHeapComponentStore() {
+        this(1024);
+    }
+
+    /**
+     * Constructs an empty {@code OffHeapComponentStore} able to hold the given number of
+     * entities before growing. Sizing the store up front avoids copying the rows of a
+     * large population.
+     *
+     * @param capacity the initial number of entities.
+     */
+    public OffHeapComponentStore(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.rows = ByteBuffer.allocateDirect(capacity * ROW_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public int add(SpeciesKind kind, Diet diet, int x, int y, int energy, int speed, int attack) {
+        if (size == capacity) {
+            grow();
+        }
+        int index = size++;
+        int row = index * ROW_BYTES;
+        rows.putInt(row + X, x);
+        rows.putInt(row + Y, y);
+        rows.putInt(row + ENERGY, energy);
+        rows.putInt(row + SPEED, speed);
+        rows.putInt(row + MOVE_COST, kind.getMoveCost());
+        rows.putInt(row + ATTACK, attack);
+        rows.put(row + KIND, (byte) kind.ordinal());
+        rows.put(row + DIET, (byte) diet.ordinal());
+        rows.put(row + FLAGS, (byte) 0);
+        if (facade != null) {
+            facade[index] = null;
+        }
+        return index;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (facade != null && facade[index] != null) {
+            removed.add(facade[index]);
+        }
+        int last = --size;
+        if (index != last) {
+            rows.put(index * ROW_BYTES, rows, last * ROW_BYTES, ROW_BYTES);
+            if (facade != null) {
+                facade[index] = facade[last];
+            }
+        }
+        if (facade != null) {
+            facade[last] = null;
+        }
+    }
+
+    @Override
+    public List<Species> drainRemoved() {
+        List<Species> drained = new ArrayList<>(removed);
+        removed.clear();
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getBytesPerEntity() {
+        return ROW_BYTES;
+    }
+
+    // Component accessors
+
+    @Override
+    public int getX(int index) {
+        return rows.getInt(index * ROW_BYTES + X);
+    }
+
+    @Override
+    public void setX(int index, int x) {
+        rows.putInt(index * ROW_BYTES + X, x);
+    }
+
+    @Override
+    public int getY(int index) {
+        return rows.getInt(index * ROW_BYTES + Y);
+    }
+
+    @Override
+    public void setY(int index, int y) {
+        rows.putInt(index * ROW_BYTES + Y, y);
+    }
+
+    @Override
+    public int getEnergy(int index) {
+        return rows.getInt(index * ROW_BYTES + ENERGY);
+    }
+
+    @Override
+    public void setEnergy(int index, int energy) {
+        rows.putInt(index * ROW_BYTES + ENERGY, energy);
+    }
+
+    @Override
+    public int getSpeed(int index) {
+        return rows.getInt(index * ROW_BYTES + SPEED);
+    }
+
+    @Override
+    public int getMoveCost(int index) {
+        return rows.getInt(index * ROW_BYTES + MOVE_COST);
+    }
+
+    @Override
+    public int getAttack(int index) {
+        return rows.getInt(index * ROW_BYTES + ATTACK);
+    }
+
+    @Override
+    public boolean isSleeping(int index) {
+        return (rows.get(index * ROW_BYTES + FLAGS) & SLEEPING) != 0;
+    }
+
+    @Override
+    public void setSleeping(int index, boolean sleeping) {
+        int offset = index * ROW_BYTES + FLAGS;
+        byte flags = rows.get(offset);
+        rows.put(offset, (byte) (sleeping ? flags | SLEEPING : flags & ~SLEEPING));
+    }
+
+    @Override
+    public Diet getDiet(int index) {
+        return DIETS[rows.get(index * ROW_BYTES + DIET)];
+    }
+
+    @Override
+    public SpeciesKind getKind(int index) {
+        return KINDS[rows.get(index * ROW_BYTES + KIND)];
+    }
+
+    @Override
+    public Species getFacade(int index) {
+        return facade == null ? null : facade[index];
+    }
+
+    @Override
+    public void setFacade(int index, Species facade) {
+        if (this.facade == null) {
+            if (facade == null) {
+                return;
+            }
+            this.facade = new Species[capacity];
+        }
+        this.facade[index] = facade;
+    }
+
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("The store cannot hold more than " + MAX_CAPACITY + " entities.");
+        }
+        int next = (int) Math.min((long) capacity * 2, MAX_CAPACITY);
+        ByteBuffer grown = ByteBuffer.allocateDirect(next * ROW_BYTES).order(ByteOrder.nativeOrder());
+        grown.put(0, rows, 0, size * ROW_BYTES);
+        rows = grown;
+        capacity = next;
+        if (facade != null) {
+            facade = Arrays.copyOf(facade, next);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.projectfx.ecs;
+
+import com.example.projectfx.ecosystem.Season;
+import com.example.projectfx.resources.Resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code ResourceStore} class holds the components of the resources of an
+ * {@link EcsWorld} in dense parallel arrays, like {@link ComponentStore} does for the
+ * living entities. Removing a resource moves the last resource into its index.
+ */
+public class ResourceStore {
+    /**
+     * The X-coordinate of each resource.
+     */
+    private int[] x = new int[16];
+
+    /**
+     * The Y-coordinate of each resource.
+     */
+    private int[] y = new int[16];
+
+    /**
+     * The quantity of each resource.
+     */
+    private int[] quantity = new int[16];
+
+    /**
+     * The facade of each resource, or {@code null} if it has none.
+     */
+    private Resource[] facade = new Resource[16];
+
+    /**
+     * The number of resources.
+     */
+    private int size;
+
+    /**
+     * The facades of the resources removed since the last call to {@link #drainRemoved()}.
+     */
+    private final List<Resource> removed = new ArrayList<>();
+
+    /**
+     * Adds a resource without a facade.
+     *
+     * @param x        the X-coordinate of the resource.
+     * @param y        the Y-coordinate of the resource.
+     * @param quantity the quantity of the resource.
+     * @return the index of the new resource.
+     */
+    public int add(int x, int y, int quantity) {
+        if (size == this.x.length) {
+            int capacity = size * 2;
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.quantity = Arrays.copyOf(this.quantity, capacity);
+            this.facade = Arrays.copyOf(this.facade, capacity);
+        }
+        int index = size++;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.quantity[index] = quantity;
+        this.facade[index] = null;
+        return index;
+    }
+
+    /**
+     * Adds a resource whose components are copied from a resource object, which becomes its facade.
+     *
+     * @param resource the resource to add.
+     * @return the index of the new resource.
+     */
+    public int add(Resource resource) {
+        int index = add(resource.getX(), resource.getY(), resource.getQuantity());
+        facade[index] = resource;
+        return index;
+    }
+
+    /**
+     * Removes the resource at the given index, moving the last resource into it.
+     * The facade of the removed resource is kept until {@link #drainRemoved()}.
+     *
+     * @param index the index of the resource to remove.
+     */
+    public void remove(int index) {
+        if (facade[index] != null) {
+            removed.add(facade[index]);
+        }
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            quantity[index] = quantity[last];
+            facade[index] = facade[last];
+        }
+        facade[last] = null;
+    }
+
+    /**
+     * Retrieves and forgets the facades of the resources removed since the last call.
+     *
+     * @return the removed facades.
+     */
+    public List<Resource> drainRemoved() {
+        List<Resource> drained = new ArrayList<>(removed);
+        removed.clear();
+        return drained;
+    }
+
+    /**
+     * Applies the effects of a season to every resource: its resource change, without
+     * going below zero, then its quantity factor, in one pass over the quantities.
+     *
+     * @param season the new season.
+     */
+    public void applySeason(Season season) {
+        int change = season.getResourceChange();
+        double multiplier = season.getQuantityMultiplier();
+        int[] quantity = this.quantity;
+        for (int i = 0; i < size; i++) {
+            quantity[i] = (int) (Math.max(0, quantity[i] + change) * multiplier);
+        }
+    }
+
+    /**
+     * Retrieves the number of resources.
+     *
+     * @return the number of resources.
+     */
+    public int size() {
+        return size;
+    }
+
+    // Component accessors
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getY(int index) {
+        return y[index];
+    }
+
+    public int getQuantity(int index) {
+        return quantity[index];
+    }
+
+    public Resource getFacade(int index) {
+        return facade[index];
+    }
+}
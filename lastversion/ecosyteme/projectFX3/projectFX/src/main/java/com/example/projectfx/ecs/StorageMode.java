@@ -0,0 +1,41 @@
+package com.example.projectfx.ecs;
+
+/**
+ * The {@code StorageMode} enum lists where an {@link EcsWorld} keeps the components of
+ * its entities. The mode of a world created without one is read from the
+ * {@value #PROPERTY} system property, for instance {@code -Decosystem.storage=OFF_HEAP}.
+ */
+public enum StorageMode {
+    /**
+     * The components are kept in heap arrays, by a {@link ComponentStore}.
+     */
+    HEAP,
+
+    /**
+     * The components are packed in rows outside the heap, by an {@link OffHeapComponentStore}.
+     */
+    OFF_HEAP;
+
+    /**
+     * The name of the system property holding the default storage mode.
+     */
+    public static final String PROPERTY = "ecosystem.storage";
+
+    /**
+     * Retrieves the storage mode chosen at startup.
+     *
+     * @return the mode named by the {@value #PROPERTY} system property, or {@link #HEAP} if it is not set.
+     */
+    public static StorageMode getDefault() {
+        return valueOf(System.getProperty(PROPERTY, HEAP.name()).trim().toUpperCase());
+    }
+
+    /**
+     * Creates an empty store for this mode.
+     *
+     * @return the new store.
+     */
+    public EntityStore createStore() {
+        return this == HEAP ? new ComponentStore() : new OffHeapComponentStore();
+    }
+}
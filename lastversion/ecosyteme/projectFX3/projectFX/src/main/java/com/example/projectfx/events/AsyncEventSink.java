@@ -0,0 +1,228 @@
+package com.example.projectfx.events;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code AsyncEventSink} class stores the published events in a bounded ring buffer
+ * and hands them over to a downstream sink on a background daemon thread.
+ * <p>
+ * Publishing never blocks the simulation: when the buffer is full, the event is
+ * dropped and counted in {@link #getDroppedCount()}. The downstream sink is only
+ * called from the draining thread, so it does not need to be thread-safe.
+ */
+public class AsyncEventSink implements EventSink {
+    /**
+     * The default capacity of the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * The maximum number of events handed over to the downstream sink per batch.
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * The sink receiving the events on the draining thread.
+     */
+    private final EventSink downstream;
+
+    /**
+     * The ring buffer holding the pending events.
+     */
+    private final SimulationEvent[] buffer;
+
+    /**
+     * The mask turning a sequence number into an index of the buffer.
+     */
+    private final int mask;
+
+    /**
+     * The lock guarding the buffer and the sequence numbers.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when events are published into an empty buffer, or when the sink is closed.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * The number of events dropped because the buffer was full.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * The thread draining the buffer.
+     */
+    private final Thread drainer;
+
+    /**
+     * The sequence number of the next event to drain.
+     */
+    private long head;
+
+    /**
+     * The sequence number of the next event to publish.
+     */
+    private long tail;
+
+    /**
+     * Whether the sink has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructs an {@code AsyncEventSink} with the default capacity.
+     *
+     * @param downstream the sink receiving the events on the draining thread.
+     */
+    public AsyncEventSink(EventSink downstream) {
+        this(downstream, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an {@code AsyncEventSink}. The capacity is rounded up to a power of two.
+     *
+     * @param downstream the sink receiving the events on the draining thread.
+     * @param capacity   the maximum number of pending events.
+     */
+    public AsyncEventSink(EventSink downstream, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.downstream = downstream;
+        this.buffer = new SimulationEvent[size];
+        this.mask = size - 1;
+        this.drainer = new Thread(this::drain, "simulation-event-sink");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Creates an asynchronous sink writing the events to the standard output.
+     *
+     * @return the new sink.
+     */
+    public static AsyncEventSink console() {
+        return new AsyncEventSink(new PrintStreamEventSink(System.out));
+    }
+
+    /**
+     * Creates an asynchronous sink appending the events to a binary journal, so that
+     * the encoding and the writes stay off the simulation thread.
+     *
+     * @param directory the directory of the journal.
+     * @return the new sink.
+     * @throws IOException if the journal cannot be opened.
+     * @see JournalEventSink
+     */
+    public static AsyncEventSink journal(Path directory) throws IOException {
+        return new AsyncEventSink(new JournalEventSink(directory));
+    }
+
+    /**
+     * Creates an asynchronous sink writing the events to a file, one line per event.
+     * The file is created or truncated.
+     *
+     * @param file the file to write.
+     * @return the new sink.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static AsyncEventSink toFile(Path file) throws IOException {
+        PrintStream out = new PrintStream(new BufferedOutputStream(Files.newOutputStream(file)),
+                false, StandardCharsets.UTF_8);
+        return new AsyncEventSink(new PrintStreamEventSink(out, true));
+    }
+
+    @Override
+    public void publish(SimulationEvent event) {
+        lock.lock();
+        try {
+            if (closed || tail - head == buffer.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+            buffer[(int) (tail & mask)] = event;
+            if (tail++ == head) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting events, waits for the pending ones to be drained,
+     * then closes the downstream sink.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        downstream.close();
+    }
+
+    private void drain() {
+        SimulationEvent[] batch = new SimulationEvent[Math.min(BATCH_SIZE, buffer.length)];
+        while (true) {
+            int count;
+            lock.lock();
+            try {
+                while (head == tail && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (head == tail) {
+                    return;
+                }
+                count = (int) Math.min(batch.length, tail - head);
+                for (int i = 0; i < count; i++) {
+                    int index = (int) (head & mask);
+                    batch[i] = buffer[index];
+                    buffer[index] = null;
+                    head++;
+                }
+            } finally {
+                lock.unlock();
+            }
+            for (int i = 0; i < count; i++) {
+                downstream.publish(batch[i]);
+                batch[i] = null;
+            }
+        }
+    }
+}
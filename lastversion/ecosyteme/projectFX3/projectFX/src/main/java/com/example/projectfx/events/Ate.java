@@ -0,0 +1,16 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species eats a resource or another species.
+ *
+ * @param species      the name of the species that ate.
+ * @param food         the name or type of the food.
+ * @param energyGained the energy gained by eating.
+ */
+public record Ate(String species, String food, int energyGained) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return species + " mange " + food + " (+" + energyGained + " énergie).";
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species is attacked by a predator.
+ *
+ * @param species  the name of the attacked species.
+ * @param predator the name of the predator.
+ * @param sleeping {@code true} if the species was sleeping when attacked.
+ * @param escaped  {@code true} if the species defended itself or escaped.
+ */
+public record Attacked(String species, String predator, boolean sleeping, boolean escaped) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        if (!sleeping) {
+            return species + " est éveillé et se défend contre " + predator + ".";
+        }
+        return escaped
+                ? species + " se réveille et échappe à " + predator + "."
+                : species + " est attaqué pendant son sommeil par " + predator + ".";
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when an ecosystem starts a new cycle.
+ */
+public record CycleStarted() implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return "=== Mise à jour du cycle ===";
+    }
+}
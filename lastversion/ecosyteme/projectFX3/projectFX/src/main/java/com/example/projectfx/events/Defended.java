@@ -0,0 +1,18 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a human tries to defend against an attack.
+ *
+ * @param species     the name of the defending species.
+ * @param attackPower the power of the attack.
+ * @param succeeded   {@code true} if the defense was successful.
+ */
+public record Defended(String species, int attackPower, boolean succeeded) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return succeeded
+                ? species + " a réussi à se défendre avec succès !"
+                : species + " a échoué à se défendre.";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species dies.
+ *
+ * @param species the name of the species.
+ * @param cause   the cause of the death.
+ */
+public record Died(String species, String cause) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return species + " has died (" + cause + ").";
+    }
+}
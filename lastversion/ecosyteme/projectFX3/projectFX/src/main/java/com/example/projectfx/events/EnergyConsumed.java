@@ -0,0 +1,16 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species spends energy, for example by moving or fleeing.
+ *
+ * @param species         the name of the species.
+ * @param amount          the amount of energy consumed.
+ * @param remainingEnergy the energy left after the consumption.
+ */
+public record EnergyConsumed(String species, int amount, int remainingEnergy) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return species + " has consumed " + amount + " energy. Remaining energy: " + remainingEnergy;
+    }
+}
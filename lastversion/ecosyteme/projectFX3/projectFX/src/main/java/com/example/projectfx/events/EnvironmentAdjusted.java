@@ -0,0 +1,16 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when the rules of an environment adjust one of its parameters.
+ *
+ * @param environment the name of the environment.
+ * @param parameter   the name of the parameter.
+ * @param value       the new value of the parameter.
+ */
+public record EnvironmentAdjusted(String environment, String parameter, double value) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return parameter + " (" + environment + ") ajusté : " + value;
+    }
+}
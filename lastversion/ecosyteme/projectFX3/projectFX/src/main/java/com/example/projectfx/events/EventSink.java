@@ -0,0 +1,32 @@
+package com.example.projectfx.events;
+
+/**
+ * The {@code EventSink} interface receives the events published by the simulation.
+ * <p>
+ * Sinks are called on the simulation thread, so implementations must return quickly;
+ * slow outputs should be wrapped in an {@link AsyncEventSink}.
+ */
+@FunctionalInterface
+public interface EventSink extends AutoCloseable {
+
+    /**
+     * A sink discarding every event. While it is installed, the simulation does not
+     * even build the events.
+     */
+    EventSink NOOP = event -> {
+    };
+
+    /**
+     * Receives an event.
+     *
+     * @param event the published event.
+     */
+    void publish(SimulationEvent event);
+
+    /**
+     * Flushes and releases the resources held by the sink. Does nothing by default.
+     */
+    @Override
+    default void close() {
+    }
+}
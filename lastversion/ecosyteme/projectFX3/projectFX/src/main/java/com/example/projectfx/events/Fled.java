@@ -0,0 +1,14 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species flees from a danger.
+ *
+ * @param species the name of the species.
+ */
+public record Fled(String species) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return species + " fuit pour échapper au danger.";
+    }
+}
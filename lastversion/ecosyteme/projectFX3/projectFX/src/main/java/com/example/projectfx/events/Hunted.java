@@ -0,0 +1,18 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a carnivore has tried to hunt a prey.
+ *
+ * @param predator the name of the predator.
+ * @param prey     the name of the prey.
+ * @param success  {@code true} if the prey was within reach and attacked.
+ */
+public record Hunted(String predator, String prey, boolean success) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return success
+                ? predator + " a capturé " + prey + "."
+                : predator + " n'a pas pu capturer " + prey + ".";
+    }
+}
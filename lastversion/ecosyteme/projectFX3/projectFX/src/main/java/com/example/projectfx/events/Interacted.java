@@ -0,0 +1,22 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a human interacts with another species.
+ *
+ * @param species  the name of the human.
+ * @param other    the name of the other species.
+ * @param fed      {@code true} if the other species, a herbivore, was fed.
+ * @param cautious {@code true} if the other species, a carnivore, was kept at a distance.
+ */
+public record Interacted(String species, String other, boolean fed, boolean cautious) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        if (fed) {
+            return species + " nourrit " + other + ".";
+        }
+        return cautious
+                ? species + " garde ses distances avec " + other + "."
+                : species + " observe " + other + ".";
+    }
+}
@@ -0,0 +1,500 @@
+package com.example.projectfx.events;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code JournalEventSink} class is an {@link EventSink} appending every event to a
+ * compact binary journal, as an audit trail of a run.
+ * <p>
+ * The journal is a directory of segment files named {@code journal-00000000.log},
+ * {@code journal-00000001.log} and so on. A new segment is started once the current one
+ * reaches the size limit. Each segment starts with {@link #MAGIC}, {@link #VERSION} and
+ * its index, followed by records made of a tag byte and the fields of the event:
+ * integers, coordinates included, are zigzag varints, and strings are replaced by the
+ * index of their first definition in the segment, so that the names of the species are
+ * written once per segment. Segments can therefore be read on their own, with a
+ * {@link JournalReader}.
+ * <p>
+ * Records are encoded in a memory buffer and written to the segment in batches. Once
+ * the sync interval has elapsed, the buffer is written and the segment forced to the
+ * disk, by the next {@link #publish(SimulationEvent) publish} or, when no event comes,
+ * by a background daemon thread. The segment is also forced when the sink is closed, so
+ * a crash loses at most the events of the last interval. The sink is thread-safe;
+ * wrapping it in an {@link AsyncEventSink} keeps the encoding and the writes off the
+ * simulation thread.
+ */
+public final class JournalEventSink implements EventSink {
+    /**
+     * The first bytes of a segment, "ECOJ".
+     */
+    public static final int MAGIC = 0x45434F4A;
+
+    /**
+     * The version of the format written by this class.
+     */
+    public static final short VERSION = 2;
+
+    /**
+     * The default size from which a new segment is started.
+     */
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+
+    /**
+     * The default maximum time between two syncs to the disk.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    static final int HEADER_BYTES = 4 + 2 + 4;
+
+    static final byte STRING = 0;
+    static final byte ATE = 1;
+    static final byte DIED = 2;
+    static final byte ENERGY_CONSUMED = 3;
+    static final byte HUNTED = 4;
+    static final byte MOVED = 5;
+    static final byte REPRODUCED = 6;
+    static final byte RESOURCE_CHANGED = 7;
+    static final byte SEASON_CHANGED = 8;
+    static final byte TICK_COMPLETED = 9;
+    static final byte SLEEP_CHANGED = 10;
+    static final byte PREDATOR_DETECTED = 11;
+    static final byte FLED = 12;
+    static final byte ATTACKED = 13;
+    static final byte ENVIRONMENT_ADJUSTED = 14;
+    static final byte SEASON_EFFECT = 15;
+    static final byte SIMULATION_STARTED = 16;
+    static final byte CYCLE_STARTED = 17;
+    static final byte DEFENDED = 18;
+    static final byte INTERACTED = 19;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    /**
+     * The directory holding the segments.
+     */
+    private final Path directory;
+
+    /**
+     * The size from which a new segment is started.
+     */
+    private final long segmentBytes;
+
+    /**
+     * The maximum time between two syncs to the disk, in nanoseconds.
+     */
+    private final long syncIntervalNanos;
+
+    /**
+     * The records not written to the segment yet.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The index of each string defined in the current segment.
+     */
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    /**
+     * The current segment.
+     */
+    private FileChannel channel;
+
+    /**
+     * The index of the current segment.
+     */
+    private int segment;
+
+    /**
+     * The number of bytes written to the current segment.
+     */
+    private long segmentSize;
+
+    /**
+     * The time of the last sync to the disk.
+     */
+    private long lastSync;
+
+    /**
+     * The number of bytes of the current segment forced to the disk.
+     */
+    private long syncedSize;
+
+    /**
+     * The number of events written so far.
+     */
+    private long eventCount;
+
+    /**
+     * The error of the background sync, thrown by the next call.
+     */
+    private IOException failure;
+
+    /**
+     * Constructs a {@code JournalEventSink} writing to a directory with the default
+     * segment size and sync interval. The journal continues after the existing segments.
+     *
+     * @param directory the directory of the journal, created if needed.
+     * @throws IOException if the first segment cannot be created.
+     */
+    public JournalEventSink(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code JournalEventSink} writing to a directory. The journal
+     * continues after the existing segments.
+     *
+     * @param directory          the directory of the journal, created if needed.
+     * @param segmentBytes       the size from which a new segment is started.
+     * @param syncIntervalMillis the maximum time between two syncs to the disk, positive.
+     * @throws IOException if the first segment cannot be created.
+     */
+    public JournalEventSink(Path directory, long segmentBytes, long syncIntervalMillis) throws IOException {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("The segment size is too small: " + segmentBytes);
+        }
+        if (syncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("The sync interval must be positive: " + syncIntervalMillis);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+        this.segment = JournalReader.lastSegment(directory);
+        roll();
+        Thread syncer = new Thread(this::syncPeriodically, "journal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    @Override
+    public synchronized void publish(SimulationEvent event) {
+        if (channel == null) {
+            throw new IllegalStateException("The journal is closed.");
+        }
+        try {
+            throwFailure();
+            int bound = boundOf(event);
+            if (segmentSize + buffer.position() + bound > segmentBytes && segmentSize + buffer.position() > HEADER_BYTES) {
+                flush(true);
+                roll();
+            }
+            if (buffer.remaining() < bound) {
+                flush(false);
+                if (buffer.capacity() < bound) {
+                    buffer = ByteBuffer.allocate(bound).order(ByteOrder.LITTLE_ENDIAN);
+                }
+            }
+            encode(event);
+            eventCount++;
+            if (System.nanoTime() - lastSync >= syncIntervalNanos) {
+                flush(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to the journal " + directory, e);
+        }
+    }
+
+    /**
+     * Writes the buffered records to the current segment, and syncs it to the disk if
+     * the sync interval has elapsed.
+     *
+     * @throws IOException if the segment cannot be written.
+     */
+    public synchronized void flush() throws IOException {
+        if (channel != null) {
+            throwFailure();
+            flush(false);
+        }
+    }
+
+    /**
+     * Retrieves the number of events written so far.
+     *
+     * @return the number of events.
+     */
+    public synchronized long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Retrieves the index of the segment being written.
+     *
+     * @return the index of the current segment.
+     */
+    public synchronized int getSegment() {
+        return segment;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            throwFailure();
+            flush(true);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close the journal " + directory, e);
+        } finally {
+            channel = null;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Writes and syncs the pending records once the sync interval has elapsed, until the
+     * sink is closed, so that they reach the disk even when no more events are published.
+     */
+    private synchronized void syncPeriodically() {
+        try {
+            while (channel != null && failure == null) {
+                long delay = lastSync + syncIntervalNanos - System.nanoTime();
+                if (delay > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(this, delay);
+                } else if (buffer.position() > 0 || segmentSize > syncedSize) {
+                    flush(true);
+                } else {
+                    lastSync = System.nanoTime();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void throwFailure() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void flush(boolean sync) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            segmentSize += channel.write(buffer);
+        }
+        buffer.clear();
+        long now = System.nanoTime();
+        if (sync || now - lastSync >= syncIntervalNanos) {
+            channel.force(false);
+            syncedSize = segmentSize;
+            lastSync = now;
+        }
+    }
+
+    private void roll() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        segment++;
+        channel = FileChannel.open(JournalReader.segmentPath(directory, segment),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        strings.clear();
+        segmentSize = 0;
+        syncedSize = 0;
+        lastSync = System.nanoTime();
+        buffer.putInt(MAGIC).putShort(VERSION).putInt(segment);
+    }
+
+    /**
+     * Computes an upper bound of the size of the record of an event, string definitions included.
+     */
+    private static int boundOf(SimulationEvent event) {
+        int strings = switch (event) {
+            case Ate ate -> length(ate.species()) + length(ate.food());
+            case Died died -> length(died.species()) + length(died.cause());
+            case EnergyConsumed consumed -> length(consumed.species());
+            case Hunted hunted -> length(hunted.predator()) + length(hunted.prey());
+            case Moved moved -> length(moved.species());
+            case Reproduced reproduced -> length(reproduced.species());
+            case ResourceChanged changed -> length(changed.resource());
+            case SeasonChanged changed -> length(changed.environment()) + length(changed.season());
+            case TickCompleted completed -> 0;
+            case SleepChanged changed -> length(changed.species());
+            case PredatorDetected detected -> length(detected.species());
+            case Fled fled -> length(fled.species());
+            case Attacked attacked -> length(attacked.species()) + length(attacked.predator());
+            case EnvironmentAdjusted adjusted -> length(adjusted.environment()) + length(adjusted.parameter());
+            case SeasonEffect effect -> length(effect.environment()) + length(effect.effect());
+            case SimulationStarted started -> 0;
+            case CycleStarted started -> 0;
+            case Defended defended -> length(defended.species());
+            case Interacted interacted -> length(interacted.species()) + length(interacted.other());
+        };
+        // A tag, up to three varints or a double, two flags and two string definitions
+        return 1 + 3 * 10 + 2 + 2 * (1 + 5 + 5) + 3 * strings;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private void encode(SimulationEvent event) {
+        switch (event) {
+            case Ate ate -> {
+                int species = string(ate.species());
+                int food = string(ate.food());
+                buffer.put(ATE);
+                putVarint(species);
+                putVarint(food);
+                putSigned(ate.energyGained());
+            }
+            case Died died -> {
+                int species = string(died.species());
+                int cause = string(died.cause());
+                buffer.put(DIED);
+                putVarint(species);
+                putVarint(cause);
+            }
+            case EnergyConsumed consumed -> {
+                int species = string(consumed.species());
+                buffer.put(ENERGY_CONSUMED);
+                putVarint(species);
+                putSigned(consumed.amount());
+                putSigned(consumed.remainingEnergy());
+            }
+            case Hunted hunted -> {
+                int predator = string(hunted.predator());
+                int prey = string(hunted.prey());
+                buffer.put(HUNTED);
+                putVarint(predator);
+                putVarint(prey);
+                buffer.put((byte) (hunted.success() ? 1 : 0));
+            }
+            case Moved moved -> {
+                int species = string(moved.species());
+                buffer.put(MOVED);
+                putVarint(species);
+                putSigned(moved.x());
+                putSigned(moved.y());
+            }
+            case Reproduced reproduced -> {
+                int species = string(reproduced.species());
+                buffer.put(REPRODUCED);
+                putVarint(species);
+                buffer.put((byte) (reproduced.success() ? 1 : 0));
+                putSigned(reproduced.population());
+            }
+            case ResourceChanged changed -> {
+                int resource = string(changed.resource());
+                buffer.put(RESOURCE_CHANGED);
+                putVarint(resource);
+                putSigned(changed.delta());
+                putSigned(changed.quantity());
+            }
+            case SeasonChanged changed -> {
+                int environment = string(changed.environment());
+                int season = string(changed.season());
+                buffer.put(SEASON_CHANGED);
+                putVarint(environment);
+                putVarint(season);
+            }
+            case TickCompleted completed -> {
+                buffer.put(TICK_COMPLETED);
+                putSigned(completed.tick());
+            }
+            case SleepChanged changed -> {
+                int species = string(changed.species());
+                buffer.put(SLEEP_CHANGED);
+                putVarint(species);
+                buffer.put((byte) ((changed.sleeping() ? 1 : 0) | (changed.changed() ? 2 : 0)));
+                putSigned(changed.energy());
+            }
+            case PredatorDetected detected -> {
+                int species = string(detected.species());
+                buffer.put(PREDATOR_DETECTED);
+                putVarint(species);
+                buffer.put((byte) (detected.detected() ? 1 : 0));
+            }
+            case Fled fled -> {
+                int species = string(fled.species());
+                buffer.put(FLED);
+                putVarint(species);
+            }
+            case Attacked attacked -> {
+                int species = string(attacked.species());
+                int predator = string(attacked.predator());
+                buffer.put(ATTACKED);
+                putVarint(species);
+                putVarint(predator);
+                buffer.put((byte) ((attacked.sleeping() ? 1 : 0) | (attacked.escaped() ? 2 : 0)));
+            }
+            case EnvironmentAdjusted adjusted -> {
+                int environment = string(adjusted.environment());
+                int parameter = string(adjusted.parameter());
+                buffer.put(ENVIRONMENT_ADJUSTED);
+                putVarint(environment);
+                putVarint(parameter);
+                buffer.putDouble(adjusted.value());
+            }
+            case SeasonEffect effect -> {
+                int environment = string(effect.environment());
+                int description = string(effect.effect());
+                buffer.put(SEASON_EFFECT);
+                putVarint(environment);
+                putVarint(description);
+            }
+            case SimulationStarted started -> buffer.put(SIMULATION_STARTED);
+            case CycleStarted started -> buffer.put(CYCLE_STARTED);
+            case Defended defended -> {
+                int species = string(defended.species());
+                buffer.put(DEFENDED);
+                putVarint(species);
+                putSigned(defended.attackPower());
+                buffer.put((byte) (defended.succeeded() ? 1 : 0));
+            }
+            case Interacted interacted -> {
+                int species = string(interacted.species());
+                int other = string(interacted.other());
+                buffer.put(INTERACTED);
+                putVarint(species);
+                putVarint(other);
+                buffer.put((byte) ((interacted.fed() ? 1 : 0) | (interacted.cautious() ? 2 : 0)));
+            }
+        }
+    }
+
+    /**
+     * Retrieves the index of a string in the current segment, writing its definition
+     * the first time it is used.
+     */
+    private int string(String value) {
+        String key = value == null ? "" : value;
+        Integer index = strings.get(key);
+        if (index != null) {
+            return index;
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        buffer.put(STRING);
+        putVarint(bytes.length);
+        buffer.put(bytes);
+        strings.put(key, strings.size());
+        return strings.size() - 1;
+    }
+
+    private void putSigned(long value) {
+        putVarint((value << 1) ^ (value >> 63));
+    }
+
+    private void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
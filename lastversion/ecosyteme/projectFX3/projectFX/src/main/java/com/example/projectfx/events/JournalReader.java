@@ -0,0 +1,205 @@
+package com.example.projectfx.events;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.example.projectfx.events.JournalEventSink.*;
+
+/**
+ * The {@code JournalReader} class decodes the journals written by a
+ * {@link JournalEventSink}.
+ * <p>
+ * Segments are memory-mapped and decoded in order. A record cut short at the end of a
+ * segment, as left by a crash between two syncs, ends the segment without an error, and
+ * a segment whose header is not written yet holds no event.
+ */
+public final class JournalReader {
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private JournalReader() {
+    }
+
+    /**
+     * Decodes every event of a journal, segment after segment.
+     *
+     * @param directory the directory of the journal.
+     * @param consumer  the consumer of the events, in the order they were published.
+     * @throws IOException if a segment cannot be read or is not a journal segment.
+     */
+    public static void read(Path directory, Consumer<? super SimulationEvent> consumer) throws IOException {
+        for (Path segment : segments(directory)) {
+            readSegment(segment, consumer);
+        }
+    }
+
+    /**
+     * Decodes every event of a journal into a list.
+     *
+     * @param directory the directory of the journal.
+     * @return the events, in the order they were published.
+     * @throws IOException if a segment cannot be read or is not a journal segment.
+     */
+    public static List<SimulationEvent> readAll(Path directory) throws IOException {
+        List<SimulationEvent> events = new ArrayList<>();
+        read(directory, events::add);
+        return events;
+    }
+
+    /**
+     * Decodes the events of a single segment.
+     *
+     * @param segment  the segment file.
+     * @param consumer the consumer of the events, in the order they were published.
+     * @throws IOException if the segment cannot be read or is not a journal segment.
+     */
+    public static void readSegment(Path segment, Consumer<? super SimulationEvent> consumer) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (buffer.remaining() < HEADER_BYTES) {
+            // The header of a segment just started is not written yet
+            return;
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a journal segment: " + segment);
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported journal version " + version + ": " + segment);
+        }
+        buffer.getInt();
+        List<String> strings = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            SimulationEvent event;
+            try {
+                event = decode(buffer, strings);
+            } catch (BufferUnderflowException e) {
+                // The last record was not completely written
+                return;
+            }
+            if (event != null) {
+                consumer.accept(event);
+            }
+        }
+    }
+
+    /**
+     * Lists the segments of a journal in order.
+     *
+     * @param directory the directory of the journal.
+     * @return the segment files, empty if the directory does not exist.
+     * @throws IOException if the directory cannot be listed.
+     */
+    public static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static int lastSegment(Path directory) throws IOException {
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            return -1;
+        }
+        String name = segments.get(segments.size() - 1).getFileName().toString();
+        return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    static Path segmentPath(Path directory, int segment) {
+        return directory.resolve(String.format("%s%08d%s", PREFIX, segment, SUFFIX));
+    }
+
+    /**
+     * Decodes the next record, returning {@code null} for a string definition.
+     */
+    private static SimulationEvent decode(ByteBuffer buffer, List<String> strings) throws IOException {
+        byte tag = buffer.get();
+        return switch (tag) {
+            case STRING -> {
+                byte[] bytes = new byte[(int) getVarint(buffer)];
+                buffer.get(bytes);
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+                yield null;
+            }
+            case ATE -> new Ate(string(buffer, strings), string(buffer, strings), (int) getSigned(buffer));
+            case DIED -> new Died(string(buffer, strings), string(buffer, strings));
+            case ENERGY_CONSUMED -> new EnergyConsumed(string(buffer, strings), (int) getSigned(buffer), (int) getSigned(buffer));
+            case HUNTED -> new Hunted(string(buffer, strings), string(buffer, strings), buffer.get() != 0);
+            case MOVED -> new Moved(string(buffer, strings), (int) getSigned(buffer), (int) getSigned(buffer));
+            case REPRODUCED -> new Reproduced(string(buffer, strings), buffer.get() != 0, (int) getSigned(buffer));
+            case RESOURCE_CHANGED -> new ResourceChanged(string(buffer, strings), (int) getSigned(buffer), (int) getSigned(buffer));
+            case SEASON_CHANGED -> new SeasonChanged(string(buffer, strings), string(buffer, strings));
+            case TICK_COMPLETED -> new TickCompleted(getSigned(buffer));
+            case SLEEP_CHANGED -> {
+                String species = string(buffer, strings);
+                byte flags = buffer.get();
+                yield new SleepChanged(species, (flags & 1) != 0, (flags & 2) != 0, (int) getSigned(buffer));
+            }
+            case PREDATOR_DETECTED -> new PredatorDetected(string(buffer, strings), buffer.get() != 0);
+            case FLED -> new Fled(string(buffer, strings));
+            case ATTACKED -> {
+                String species = string(buffer, strings);
+                String predator = string(buffer, strings);
+                byte flags = buffer.get();
+                yield new Attacked(species, predator, (flags & 1) != 0, (flags & 2) != 0);
+            }
+            case ENVIRONMENT_ADJUSTED -> new EnvironmentAdjusted(string(buffer, strings), string(buffer, strings), buffer.getDouble());
+            case SEASON_EFFECT -> new SeasonEffect(string(buffer, strings), string(buffer, strings));
+            case SIMULATION_STARTED -> new SimulationStarted();
+            case CYCLE_STARTED -> new CycleStarted();
+            case DEFENDED -> new Defended(string(buffer, strings), (int) getSigned(buffer), buffer.get() != 0);
+            case INTERACTED -> {
+                String species = string(buffer, strings);
+                String other = string(buffer, strings);
+                byte flags = buffer.get();
+                yield new Interacted(species, other, (flags & 1) != 0, (flags & 2) != 0);
+            }
+            default -> throw new IOException("Unknown journal record " + tag + " at offset " + (buffer.position() - 1));
+        };
+    }
+
+    private static String string(ByteBuffer buffer, List<String> strings) throws IOException {
+        long index = getVarint(buffer);
+        if (index >= strings.size()) {
+            throw new IOException("Undefined journal string " + index + " at offset " + buffer.position());
+        }
+        return strings.get((int) index);
+    }
+
+    private static long getSigned(ByteBuffer buffer) {
+        long value = getVarint(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+    }
+}
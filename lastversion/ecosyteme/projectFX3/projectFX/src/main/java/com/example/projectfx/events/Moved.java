@@ -0,0 +1,16 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species moves.
+ *
+ * @param species the name of the species.
+ * @param x       the X-coordinate of the species after the movement.
+ * @param y       the Y-coordinate of the species after the movement.
+ */
+public record Moved(String species, int x, int y) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return species + " se déplace vers (" + x + ", " + y + ").";
+    }
+}
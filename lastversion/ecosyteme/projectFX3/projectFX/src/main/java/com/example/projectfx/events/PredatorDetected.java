@@ -0,0 +1,17 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species has looked for predators around it.
+ *
+ * @param species  the name of the species.
+ * @param detected {@code true} if a predator was detected.
+ */
+public record PredatorDetected(String species, boolean detected) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return detected
+                ? species + " détecte un prédateur."
+                : species + " ne détecte aucun prédateur.";
+    }
+}
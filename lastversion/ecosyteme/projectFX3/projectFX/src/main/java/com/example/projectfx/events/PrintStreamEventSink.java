@@ -0,0 +1,52 @@
+package com.example.projectfx.events;
+
+import java.io.PrintStream;
+
+/**
+ * The {@code PrintStreamEventSink} class writes the description of each event
+ * as one line of a {@link PrintStream}, on the calling thread.
+ */
+public class PrintStreamEventSink implements EventSink {
+    /**
+     * The stream receiving the descriptions.
+     */
+    private final PrintStream out;
+
+    /**
+     * Whether the stream is closed with the sink.
+     */
+    private final boolean closeStream;
+
+    /**
+     * Constructs a sink writing to the given stream, which is not closed with the sink.
+     *
+     * @param out the stream receiving the descriptions.
+     */
+    public PrintStreamEventSink(PrintStream out) {
+        this(out, false);
+    }
+
+    /**
+     * Constructs a sink writing to the given stream.
+     *
+     * @param out         the stream receiving the descriptions.
+     * @param closeStream whether the stream is closed with the sink.
+     */
+    public PrintStreamEventSink(PrintStream out, boolean closeStream) {
+        this.out = out;
+        this.closeStream = closeStream;
+    }
+
+    @Override
+    public void publish(SimulationEvent event) {
+        out.println(event.describe());
+    }
+
+    @Override
+    public void close() {
+        out.flush();
+        if (closeStream) {
+            out.close();
+        }
+    }
+}
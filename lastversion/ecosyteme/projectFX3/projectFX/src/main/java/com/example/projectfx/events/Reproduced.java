@@ -0,0 +1,18 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species tries to reproduce.
+ *
+ * @param species    the name of the species.
+ * @param success    {@code true} if the reproduction succeeded.
+ * @param population the population of the species after the attempt.
+ */
+public record Reproduced(String species, boolean success, int population) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return success
+                ? species + " has reproduced. Total: " + population
+                : species + " cannot reproduce due to insufficient numbers.";
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when the quantity of a resource changes, through regeneration,
+ * seasonal effects or consumption.
+ *
+ * @param resource the type of the resource.
+ * @param delta    the change of quantity, negative for a decrease.
+ * @param quantity the quantity after the change.
+ */
+public record ResourceChanged(String resource, int delta, int quantity) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return delta >= 0
+                ? resource + " régénéré(e) de " + delta + " unités. Quantité totale : " + quantity
+                : resource + " diminué(e) de " + (-delta) + " unités. Quantité restante : " + quantity;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when the season of an environment changes.
+ *
+ * @param environment the name of the environment.
+ * @param season      the new season.
+ */
+public record SeasonChanged(String environment, String season) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return "Saison actuelle (" + environment + ") : " + season;
+    }
+}
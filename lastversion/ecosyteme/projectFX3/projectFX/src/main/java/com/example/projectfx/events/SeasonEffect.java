@@ -0,0 +1,15 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a season has an effect specific to an environment.
+ *
+ * @param environment the name of the environment.
+ * @param effect      the description of the effect.
+ */
+public record SeasonEffect(String environment, String effect) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return environment + " : " + effect;
+    }
+}
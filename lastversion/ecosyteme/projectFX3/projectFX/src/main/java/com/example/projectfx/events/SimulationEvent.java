@@ -0,0 +1,21 @@
+package com.example.projectfx.events;
+
+/**
+ * The {@code SimulationEvent} interface is the common type of the events published
+ * by the simulation through {@link SimulationEvents}.
+ * <p>
+ * Events are immutable records holding only primitive values and strings, so that
+ * they can safely be handed over to another thread by an {@link AsyncEventSink}.
+ */
+public sealed interface SimulationEvent
+        permits Ate, Attacked, CycleStarted, Defended, Died, EnergyConsumed, EnvironmentAdjusted, Fled, Hunted,
+                Interacted, Moved, PredatorDetected, Reproduced, ResourceChanged, SeasonChanged, SeasonEffect, SimulationStarted, SleepChanged,
+                TickCompleted {
+
+    /**
+     * Builds a human-readable description of the event.
+     *
+     * @return the description of the event.
+     */
+    String describe();
+}
@@ -0,0 +1,60 @@
+package com.example.projectfx.events;
+
+/**
+ * The {@code SimulationEvents} class holds the {@link EventSink} receiving the events
+ * of the simulation.
+ * <p>
+ * The default sink is {@link EventSink#NOOP}. Publishers are expected to check
+ * {@link #isEnabled()} before building an event, so that disabled logging costs
+ * neither string building nor allocation:
+ * <pre>{@code
+ * if (SimulationEvents.isEnabled()) {
+ *     SimulationEvents.publish(new EnergyConsumed(name, amount, energy));
+ * }
+ * }</pre>
+ */
+public final class SimulationEvents {
+    /**
+     * The sink receiving the events.
+     */
+    private static volatile EventSink sink = EventSink.NOOP;
+
+    private SimulationEvents() {
+    }
+
+    /**
+     * Checks if a sink other than {@link EventSink#NOOP} is installed.
+     *
+     * @return {@code true} if events should be published, {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return sink != EventSink.NOOP;
+    }
+
+    /**
+     * Publishes an event to the installed sink.
+     *
+     * @param event the event to publish.
+     */
+    public static void publish(SimulationEvent event) {
+        sink.publish(event);
+    }
+
+    /**
+     * Retrieves the installed sink.
+     *
+     * @return the installed sink.
+     */
+    public static EventSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Installs a sink. The previously installed sink is not closed.
+     *
+     * @param newSink the sink to install, or {@code null} to disable the events.
+     */
+    public static void setSink(EventSink newSink) {
+        sink = newSink == null ? EventSink.NOOP : newSink;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when the simulation of an ecosystem starts.
+ */
+public record SimulationStarted() implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return "Simulation démarrée.";
+    }
+}
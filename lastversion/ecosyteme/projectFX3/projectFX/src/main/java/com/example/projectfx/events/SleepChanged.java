@@ -0,0 +1,23 @@
+package com.example.projectfx.events;
+
+/**
+ * Published when a species is told to fall asleep or to wake up.
+ *
+ * @param species  the name of the species.
+ * @param sleeping {@code true} if the species is now sleeping.
+ * @param changed  {@code true} if the sleep state changed, {@code false} if the species
+ *                 was already in that state.
+ * @param energy   the energy of the species afterwards.
+ */
+public record SleepChanged(String species, boolean sleeping, boolean changed, int energy) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        if (!changed) {
+            return sleeping ? species + " dort déjà." : species + " est déjà réveillé.";
+        }
+        return sleeping
+                ? species + " s'endort (énergie : " + energy + ")."
+                : species + " se réveille.";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.projectfx.events;
+
+/**
+ * Published by the simulation engine at the end of each tick, so that the events of
+ * a recorded run can be grouped by tick.
+ *
+ * @param tick the number of ticks executed so far.
+ */
+public record TickCompleted(long tick) implements SimulationEvent {
+
+    @Override
+    public String describe() {
+        return "Tick " + tick + " completed.";
+    }
+}
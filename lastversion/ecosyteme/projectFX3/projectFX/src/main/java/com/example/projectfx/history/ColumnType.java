@@ -0,0 +1,19 @@
+package com.example.projectfx.history;
+
+/**
+ * The {@code ColumnType} enum defines the primitive type of the values of a column of a
+ * {@link TimeSeriesWriter time series}.
+ */
+public enum ColumnType {
+    /**
+     * Whole numbers, such as a tick or a population count. Consecutive values are
+     * stored as their difference.
+     */
+    LONG,
+
+    /**
+     * Real numbers, such as the salinity of an ocean. Consecutive values are stored as
+     * the exclusive or of their bits.
+     */
+    DOUBLE
+}
@@ -0,0 +1,155 @@
+package com.example.projectfx.history;
+
+import com.example.projectfx.ecosystem.Air;
+import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.EnvironmentStatistics;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Ocean;
+import com.example.projectfx.ecosystem.SimulationListener;
+import com.example.projectfx.ecosystem.TickStatistics;
+import com.example.projectfx.resources.Algae;
+import com.example.projectfx.resources.Fruits;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.SpeciesKind;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * The {@code HistoryRecorder} class records the metrics of an environment at the end of
+ * every tick, as one row of a {@link TimeSeriesWriter}.
+ * <p>
+ * Registered as a {@link SimulationListener} of the engine of the environment, it writes
+ * these columns:
+ * <ul>
+ *     <li>{@code tick}, the tick that just ended;</li>
+ *     <li>one count per kind of species, named after the kind, such as {@code rabbit};</li>
+ *     <li>{@code grass}, the number of grass patches;</li>
+ *     <li>the parameter of the environment: {@code treeDensity}, {@code salinity} or
+ *     {@code windSpeed};</li>
+ *     <li>{@code season}, the ordinal of the current season;</li>
+ *     <li>{@code grassQuantity}, {@code fruitsQuantity} and {@code algaeQuantity}, the total
+ *     quantity of each type of resource.</li>
+ * </ul>
+ */
+public class HistoryRecorder implements SimulationListener {
+    private static final SpeciesKind[] KINDS = SpeciesKind.values();
+
+    /**
+     * The recorded environment.
+     */
+    private final Environment environment;
+
+    /**
+     * The writer of the rows.
+     */
+    private final TimeSeriesWriter writer;
+
+    /**
+     * The index of the column of the tick.
+     */
+    private final int tickColumn;
+
+    /**
+     * The index of the column counting the first kind of species, followed by the other kinds.
+     */
+    private final int firstKindColumn;
+
+    /**
+     * The index of the column counting the grass patches.
+     */
+    private final int grassColumn;
+
+    /**
+     * The index of the column of the parameter of the environment, or -1 if it has none.
+     */
+    private final int parameterColumn;
+
+    /**
+     * The index of the column of the season.
+     */
+    private final int seasonColumn;
+
+    /**
+     * The index of the column of the quantity of grass.
+     */
+    private final int grassQuantityColumn;
+
+    /**
+     * The index of the column of the quantity of fruits.
+     */
+    private final int fruitsQuantityColumn;
+
+    /**
+     * The index of the column of the quantity of algae.
+     */
+    private final int algaeQuantityColumn;
+
+    /**
+     * Constructs a {@code HistoryRecorder}, declaring its columns on a writer with no row yet.
+     *
+     * @param environment the environment to record.
+     * @param writer      the writer of the rows, closed by the caller.
+     */
+    public HistoryRecorder(Environment environment, TimeSeriesWriter writer) {
+        this.environment = environment;
+        this.writer = writer;
+        tickColumn = writer.addColumn("tick", ColumnType.LONG);
+        firstKindColumn = tickColumn + 1;
+        for (SpeciesKind kind : KINDS) {
+            writer.addColumn(kind.name().toLowerCase(Locale.ROOT), ColumnType.LONG);
+        }
+        grassColumn = writer.addColumn("grass", ColumnType.LONG);
+        parameterColumn = switch (environment) {
+            case Forest forest -> writer.addColumn("treeDensity", ColumnType.DOUBLE);
+            case Ocean ocean -> writer.addColumn("salinity", ColumnType.DOUBLE);
+            case Air air -> writer.addColumn("windSpeed", ColumnType.DOUBLE);
+            default -> -1;
+        };
+        seasonColumn = writer.addColumn("season", ColumnType.LONG);
+        grassQuantityColumn = writer.addColumn("grassQuantity", ColumnType.LONG);
+        fruitsQuantityColumn = writer.addColumn("fruitsQuantity", ColumnType.LONG);
+        algaeQuantityColumn = writer.addColumn("algaeQuantity", ColumnType.LONG);
+    }
+
+    @Override
+    public void onTickCompleted(TickStatistics statistics) {
+        EnvironmentStatistics counts = environment.getStatistics();
+        writer.set(tickColumn, statistics.tick());
+        for (int i = 0; i < KINDS.length; i++) {
+            writer.set(firstKindColumn + i, counts.count(KINDS[i]));
+        }
+        writer.set(grassColumn, statistics.grass());
+        switch (environment) {
+            case Forest forest -> writer.set(parameterColumn, forest.getTreeDensity());
+            case Ocean ocean -> writer.set(parameterColumn, ocean.getSalinity());
+            case Air air -> writer.set(parameterColumn, air.getWindSpeed());
+            default -> {
+            }
+        }
+        writer.set(seasonColumn, environment.getSaison().ordinal());
+
+        long grass = 0;
+        long fruits = 0;
+        long algae = 0;
+        for (Resource resource : environment.getResources()) {
+            switch (resource) {
+                case Grass ignored -> grass += resource.getQuantity();
+                case Fruits ignored -> fruits += resource.getQuantity();
+                case Algae ignored -> algae += resource.getQuantity();
+                default -> {
+                }
+            }
+        }
+        writer.set(grassQuantityColumn, grass);
+        writer.set(fruitsQuantityColumn, fruits);
+        writer.set(algaeQuantityColumn, algae);
+        try {
+            writer.endRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot record the metrics of tick " + statistics.tick(), e);
+        }
+    }
+}
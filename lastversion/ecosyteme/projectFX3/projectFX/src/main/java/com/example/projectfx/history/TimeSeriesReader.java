@@ -0,0 +1,215 @@
+package com.example.projectfx.history;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.projectfx.history.TimeSeriesWriter.MAGIC;
+import static com.example.projectfx.history.TimeSeriesWriter.TRAILER_BYTES;
+import static com.example.projectfx.history.TimeSeriesWriter.VERSION;
+
+/**
+ * The {@code TimeSeriesReader} class reads the files written by a {@link TimeSeriesWriter}.
+ * <p>
+ * The file is memory-mapped and only its header and footer are decoded when it is opened.
+ * Reading a column then decodes the blocks of that column in every chunk, found through the
+ * footer, without touching the bytes of the other columns.
+ */
+public final class TimeSeriesReader {
+    /**
+     * The content of the file.
+     */
+    private final ByteBuffer data;
+
+    /**
+     * The names of the columns.
+     */
+    private final List<String> names;
+
+    /**
+     * The types of the columns.
+     */
+    private final List<ColumnType> types;
+
+    /**
+     * The first row of each chunk.
+     */
+    private final long[] firstRows;
+
+    /**
+     * The number of rows of each chunk.
+     */
+    private final int[] chunkSizes;
+
+    /**
+     * The offset of each block, by chunk then column.
+     */
+    private final long[][] offsets;
+
+    /**
+     * The length of each block, by chunk then column.
+     */
+    private final int[][] lengths;
+
+    /**
+     * The total number of rows.
+     */
+    private final long rowCount;
+
+    private TimeSeriesReader(ByteBuffer data, List<String> names, List<ColumnType> types, long[] firstRows,
+                             int[] chunkSizes, long[][] offsets, int[][] lengths) {
+        this.data = data;
+        this.names = names;
+        this.types = types;
+        this.firstRows = firstRows;
+        this.chunkSizes = chunkSizes;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.rowCount = chunkSizes.length == 0 ? 0 : firstRows[chunkSizes.length - 1] + chunkSizes[chunkSizes.length - 1];
+    }
+
+    /**
+     * Opens a time series file.
+     *
+     * @param path the file to read.
+     * @return the reader.
+     * @throws IOException if the file cannot be read or is not a closed time series of a supported version.
+     */
+    public static TimeSeriesReader open(Path path) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (data.limit() < 12 + TRAILER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a time series: " + path);
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IOException("Unsupported time series version " + data.getShort(4) + ": " + path);
+        }
+        if (data.getInt(data.limit() - 4) != MAGIC) {
+            throw new IOException("The time series was not closed: " + path);
+        }
+        try {
+            ByteBuffer header = data.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(4 + 2 + 4);
+            int columns = Short.toUnsignedInt(header.getShort());
+            List<String> names = new ArrayList<>(columns);
+            List<ColumnType> types = new ArrayList<>(columns);
+            for (int column = 0; column < columns; column++) {
+                types.add(TimeSeriesWriter.typeOf(header.get()));
+                byte[] name = new byte[Short.toUnsignedInt(header.getShort())];
+                header.get(name);
+                names.add(new String(name, StandardCharsets.UTF_8));
+            }
+
+            ByteBuffer footer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+                    .position((int) data.getLong(data.limit() - TRAILER_BYTES));
+            int chunks = footer.getInt();
+            long[] firstRows = new long[chunks];
+            int[] chunkSizes = new int[chunks];
+            long[][] offsets = new long[chunks][columns];
+            int[][] lengths = new int[chunks][columns];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                firstRows[chunk] = footer.getLong();
+                chunkSizes[chunk] = footer.getInt();
+                for (int column = 0; column < columns; column++) {
+                    offsets[chunk][column] = footer.getLong();
+                    lengths[chunk][column] = footer.getInt();
+                }
+            }
+            return new TimeSeriesReader(data, names, types, firstRows, chunkSizes, offsets, lengths);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("The time series is corrupted: " + path, e);
+        }
+    }
+
+    /**
+     * Retrieves the names of the columns, in the order they were declared.
+     *
+     * @return an unmodifiable list of the names.
+     */
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Retrieves the type of a column.
+     *
+     * @param name the name of the column.
+     * @return the type of its values.
+     */
+    public ColumnType getType(String name) {
+        return types.get(indexOf(name));
+    }
+
+    /**
+     * Retrieves the number of rows of the file.
+     *
+     * @return the number of rows.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Reads every value of a {@link ColumnType#LONG} column.
+     *
+     * @param name the name of the column.
+     * @return the values, one per row.
+     */
+    public long[] readLongs(String name) {
+        int column = indexOf(name);
+        if (types.get(column) != ColumnType.LONG) {
+            throw new IllegalArgumentException("The column " + name + " does not hold whole numbers.");
+        }
+        return read(column);
+    }
+
+    /**
+     * Reads every value of a {@link ColumnType#DOUBLE} column.
+     *
+     * @param name the name of the column.
+     * @return the values, one per row.
+     */
+    public double[] readDoubles(String name) {
+        int column = indexOf(name);
+        if (types.get(column) != ColumnType.DOUBLE) {
+            throw new IllegalArgumentException("The column " + name + " does not hold real numbers.");
+        }
+        long[] bits = read(column);
+        double[] values = new double[bits.length];
+        for (int i = 0; i < bits.length; i++) {
+            values[i] = Double.longBitsToDouble(bits[i]);
+        }
+        return values;
+    }
+
+    private long[] read(int column) {
+        if (rowCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many rows to read at once: " + rowCount);
+        }
+        long[] values = new long[(int) rowCount];
+        ColumnType type = types.get(column);
+        for (int chunk = 0; chunk < chunkSizes.length; chunk++) {
+            int offset = (int) offsets[chunk][column];
+            ByteBuffer block = data.slice(offset, lengths[chunk][column]).order(ByteOrder.LITTLE_ENDIAN);
+            TimeSeriesWriter.decode(block, values, (int) firstRows[chunk], chunkSizes[chunk], type);
+        }
+        return values;
+    }
+
+    private int indexOf(String name) {
+        int column = names.indexOf(name);
+        if (column < 0) {
+            throw new IllegalArgumentException("Unknown column: " + name);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.projectfx.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code TimeSeriesWriter} class streams the metrics of a run, one row per tick, to a
+ * columnar file that a {@link TimeSeriesReader} reads one metric at a time.
+ * <p>
+ * The columns are declared before the first row. Each row then {@link #set(int, long) sets}
+ * the values that changed, a column not set repeating its previous value, and
+ * {@link #endRow() ends}. Rows are buffered by chunks of a fixed number of rows, as one
+ * primitive array per column. A full chunk is encoded and written column after column, so
+ * memory stays bounded however long the run.
+ * <p>
+ * Each column of a chunk is encoded on its own, starting from zero: a {@link ColumnType#LONG}
+ * value is replaced by its difference with the previous one, zigzag-encoded, and a
+ * {@link ColumnType#DOUBLE} value by the exclusive or of its bits with the previous one.
+ * These numbers are written as varints, except runs of zeros, written as a zero followed
+ * by the length of the run. A metric that seldom changes therefore takes a few bytes per
+ * chunk, and a count that moves by a few units takes one byte per row.
+ * <p>
+ * The file is little-endian:
+ * <pre>
+ *     header   magic int, version short, chunk rows int, columns short,
+ *              then type byte and name string per column
+ *     chunks   one block per column, in the order of the columns
+ *     footer   chunks int, then per chunk first row long, rows int,
+ *              and per column the offset long and length int of its block
+ *     trailer  footer offset long, magic int
+ * </pre>
+ * The footer is written when the writer is closed, so a file is only readable once closed.
+ */
+public class TimeSeriesWriter implements Closeable {
+    /**
+     * The first and last bytes of a file, "ECOT".
+     */
+    public static final int MAGIC = 0x45434F54;
+
+    /**
+     * The version of the format written by this class.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The default number of rows of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_ROWS = 4096;
+
+    static final int TRAILER_BYTES = 8 + 4;
+
+    private static final ColumnType[] TYPES = ColumnType.values();
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The number of rows of a chunk.
+     */
+    private final int chunkRows;
+
+    /**
+     * The names of the columns.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * The types of the columns.
+     */
+    private final List<ColumnType> types = new ArrayList<>();
+
+    /**
+     * The values of the current row, as raw bits for the doubles.
+     */
+    private long[] row = new long[0];
+
+    /**
+     * The rows of the current chunk, one array per column.
+     */
+    private long[][] chunk;
+
+    /**
+     * The number of rows of the current chunk.
+     */
+    private int chunkSize;
+
+    /**
+     * The number of rows written so far.
+     */
+    private long rowCount;
+
+    /**
+     * The footer entries of the chunks written so far.
+     */
+    private ByteBuffer index = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The number of chunks written so far.
+     */
+    private int chunkCount;
+
+    /**
+     * The buffer the blocks are encoded in.
+     */
+    private ByteBuffer block;
+
+    /**
+     * The number of bytes written to the file.
+     */
+    private long position;
+
+    /**
+     * Constructs a {@code TimeSeriesWriter} with the default chunk size.
+     *
+     * @param path the file to write, replaced if it exists.
+     * @throws IOException if the file cannot be created.
+     */
+    public TimeSeriesWriter(Path path) throws IOException {
+        this(path, DEFAULT_CHUNK_ROWS);
+    }
+
+    /**
+     * Constructs a {@code TimeSeriesWriter}.
+     *
+     * @param path      the file to write, replaced if it exists.
+     * @param chunkRows the number of rows of a chunk.
+     * @throws IOException if the file cannot be created.
+     */
+    public TimeSeriesWriter(Path path, int chunkRows) throws IOException {
+        if (chunkRows <= 0) {
+            throw new IllegalArgumentException("The number of rows of a chunk must be positive: " + chunkRows);
+        }
+        this.chunkRows = chunkRows;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Declares a column. Every column is declared before the first row.
+     *
+     * @param name the name of the column, unique in the file.
+     * @param type the type of the values.
+     * @return the index of the column, given to {@link #set(int, long)}.
+     */
+    public int addColumn(String name, ColumnType type) {
+        if (chunk != null) {
+            throw new IllegalStateException("The columns are declared before the first row.");
+        }
+        if (names.contains(name)) {
+            throw new IllegalArgumentException("Duplicate column: " + name);
+        }
+        names.add(name);
+        types.add(type);
+        row = Arrays.copyOf(row, names.size());
+        return names.size() - 1;
+    }
+
+    /**
+     * Sets the value of a {@link ColumnType#LONG} column in the current row.
+     *
+     * @param column the index of the column.
+     * @param value  the value.
+     */
+    public void set(int column, long value) {
+        if (types.get(column) != ColumnType.LONG) {
+            throw new IllegalArgumentException("The column " + names.get(column) + " does not hold whole numbers.");
+        }
+        row[column] = value;
+    }
+
+    /**
+     * Sets the value of a {@link ColumnType#DOUBLE} column in the current row.
+     *
+     * @param column the index of the column.
+     * @param value  the value.
+     */
+    public void set(int column, double value) {
+        if (types.get(column) != ColumnType.DOUBLE) {
+            throw new IllegalArgumentException("The column " + names.get(column) + " does not hold real numbers.");
+        }
+        row[column] = Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Ends the current row. The next row starts with the same values.
+     *
+     * @throws IOException if a full chunk cannot be written.
+     */
+    public void endRow() throws IOException {
+        if (chunk == null) {
+            start();
+        }
+        for (int column = 0; column < row.length; column++) {
+            chunk[column][chunkSize] = row[column];
+        }
+        chunkSize++;
+        rowCount++;
+        if (chunkSize == chunkRows) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Retrieves the number of rows ended so far.
+     *
+     * @return the number of rows.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the last chunk and the footer, then closes the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            if (chunk == null) {
+                start();
+            }
+            if (chunkSize > 0) {
+                writeChunk();
+            }
+            ByteBuffer footer = ByteBuffer.allocate(4 + index.position() + TRAILER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            footer.putInt(chunkCount).put(index.flip()).putLong(position).putInt(MAGIC);
+            write(footer.flip());
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the header and allocates the chunk, once the columns are known.
+     */
+    private void start() throws IOException {
+        chunk = new long[names.size()][chunkRows];
+        // A block holds at most one ten-byte varint per row
+        block = ByteBuffer.allocate(10 * chunkRows + 10).order(ByteOrder.LITTLE_ENDIAN);
+        List<byte[]> encodedNames = new ArrayList<>();
+        int size = 4 + 2 + 4 + 2;
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new IOException("The name of a column is too long: " + name.length() + " characters.");
+            }
+            encodedNames.add(bytes);
+            size += 1 + 2 + bytes.length;
+        }
+        ByteBuffer header = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putInt(chunkRows).putShort((short) names.size());
+        for (int column = 0; column < names.size(); column++) {
+            header.put((byte) types.get(column).ordinal());
+            header.putShort((short) encodedNames.get(column).length).put(encodedNames.get(column));
+        }
+        write(header.flip());
+    }
+
+    private void writeChunk() throws IOException {
+        ensureIndex(8 + 4 + names.size() * 12);
+        index.putLong(rowCount - chunkSize).putInt(chunkSize);
+        for (int column = 0; column < names.size(); column++) {
+            block.clear();
+            encode(chunk[column], chunkSize, types.get(column), block);
+            index.putLong(position).putInt(block.position());
+            write(block.flip());
+        }
+        chunkCount++;
+        chunkSize = 0;
+    }
+
+    private void ensureIndex(int bytes) {
+        if (index.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(index.capacity() * 2, index.position() + bytes))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            index = grown.put(index.flip());
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+
+    /**
+     * Encodes the values of a column of a chunk.
+     */
+    static void encode(long[] values, int count, ColumnType type, ByteBuffer out) {
+        long previous = 0;
+        int zeros = 0;
+        for (int i = 0; i < count; i++) {
+            long value = values[i];
+            long delta = type == ColumnType.LONG ? zigzag(value - previous) : value ^ previous;
+            previous = value;
+            if (delta == 0) {
+                zeros++;
+                continue;
+            }
+            if (zeros > 0) {
+                out.put((byte) 0);
+                putVarint(out, zeros - 1);
+                zeros = 0;
+            }
+            putVarint(out, delta);
+        }
+        if (zeros > 0) {
+            out.put((byte) 0);
+            putVarint(out, zeros - 1);
+        }
+    }
+
+    /**
+     * Decodes the values of a column of a chunk.
+     */
+    static void decode(ByteBuffer in, long[] values, int offset, int count, ColumnType type) {
+        long previous = 0;
+        int i = offset;
+        int end = offset + count;
+        while (i < end) {
+            long delta = getVarint(in);
+            if (delta == 0) {
+                int run = (int) getVarint(in) + 1;
+                Arrays.fill(values, i, i + run, previous);
+                i += run;
+                continue;
+            }
+            previous = type == ColumnType.LONG ? previous + unzigzag(delta) : previous ^ delta;
+            values[i++] = previous;
+        }
+    }
+
+    static ColumnType typeOf(byte ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= TYPES.length) {
+            throw new IOException("Unknown column type " + ordinal);
+        }
+        return TYPES[ordinal];
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void putVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long getVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte current = in.get();
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.projectfx.interfaces;
+
+public interface Identifiable {
+    /**
+     * The id of an entity that is not registered.
+     */
+    long NO_ID = -1L;
+
+    /**
+     * Retrieves the id issued to the entity by its registry.
+     *
+     * @return the id of the entity, or {@link #NO_ID} if it is not registered.
+     */
+    long getId();
+
+    /**
+     * Sets the id issued to the entity. Only the registry should call this method.
+     *
+     * @param id the new id of the entity.
+     */
+    void setId(long id);
+}
@@ -1,6 +1,8 @@
 package com.example.projectfx.resources;
 
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.ResourceChanged;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -52,9 +54,12 @@ public class Fruits extends Resource {
      */
     @Override
     public void regenerate() {
-        int regeneratedAmount = (int) (quantity * ripeningRate);
-        quantity += regeneratedAmount;
-        System.out.println(type + " régénérés de " + regeneratedAmount + " unités. Quantité totale : " + quantity);
+        int current = getQuantity();
+        int regeneratedAmount = (int) (current * ripeningRate);
+        setQuantity(current + regeneratedAmount);
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new ResourceChanged(type, regeneratedAmount, current + regeneratedAmount));
+        }
     }
 
     /**
@@ -65,12 +70,11 @@ public class Fruits extends Resource {
      */
     @Override
     public void consume(int amount) {
-        if (amount > quantity) {
-            System.out.println("Pas assez de fruits à consommer. Tout est consommé.");
-            quantity = 0;
-        } else {
-            quantity -= amount;
-            System.out.println(amount + " unités de " + type + " consommées. Quantité restante : " + quantity);
+        int current = getQuantity();
+        int consumed = Math.min(amount, current);
+        setQuantity(current - consumed);
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new ResourceChanged(type, -consumed, current - consumed));
         }
     }
 
@@ -81,6 +85,6 @@ public class Fruits extends Resource {
      */
     @Override
     public boolean isConsumed() {
-        return quantity <= 0;
+        return getQuantity() <= 0;
     }
 }
@@ -1,7 +1,9 @@
 package com.example.projectfx.resources;
 
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.ResourceLedger;
 import com.example.projectfx.interfaces.Consumable;
+import com.example.projectfx.interfaces.Identifiable;
 import javafx.scene.image.ImageView;
 
 /**
@@ -11,28 +13,49 @@ import javafx.scene.image.ImageView;
  * <p>
  * This class implements the {@code Consumable} interface, requiring concrete subclasses
  * to define how resources are consumed and regenerated.
+ * <p>
+ * The seasonal changes of the environment holding the resource are not applied to it
+ * one by one: they are recorded in the {@link ResourceLedger} of the environment, and
+ * the quantity is computed from the ledger when it is read or changed.
  */
-public abstract class Resource implements Consumable {
+public abstract class Resource implements Consumable, Identifiable {
     /**
      * The type of resource (e.g., "Water", "Food").
      */
     protected String type;
 
     /**
-     * The current quantity of the resource.
+     * The quantity of the resource at {@link #epoch}, before the seasonal changes recorded
+     * since then in {@link #ledger}.
      */
-    protected int quantity;
+    private int quantity;
 
     /**
-     * The position of the resource in the ecosystem.
+     * The ledger of the seasonal changes of the environment holding the resource, or
+     * {@code null} if the resource is in no environment.
      */
-    protected Positionn positionn;
+    private ResourceLedger ledger;
+
+    /**
+     * The epoch of {@link #ledger} at which {@link #quantity} was known.
+     */
+    private int epoch;
+
+    /**
+     * The position of the resource in the ecosystem, packed with {@link Positionn#pack(int, int)}.
+     */
+    protected long position;
 
     /**
      * The graphical representation of the resource.
      */
     protected ImageView imageView;
 
+    /**
+     * The id issued to the resource by its registry.
+     */
+    private long id = NO_ID;
+
     /**
      * Constructs a new {@code Resource} with the specified type, position, quantity,
      * and graphical representation.
@@ -44,11 +67,21 @@ public abstract class Resource implements Consumable {
      */
     public Resource(String type, Positionn positionn, int quantity, ImageView imageview) {
         this.type = type;
-        this.positionn = positionn;
+        this.position = positionn.pack();
         this.quantity = quantity;
         this.imageView = imageview;
     }
 
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(long id) {
+        this.id = id;
+    }
+
     /**
      * Retrieves the type of the resource.
      *
@@ -64,7 +97,7 @@ public abstract class Resource implements Consumable {
      * @return The quantity of the resource.
      */
     public int getQuantity() {
-        return quantity;
+        return ledger == null ? quantity : ledger.quantityOf(quantity, epoch);
     }
 
     /**
@@ -74,24 +107,65 @@ public abstract class Resource implements Consumable {
      */
     public void setQuantity(int quantity) {
         this.quantity = quantity;
+        this.epoch = ledger == null ? 0 : ledger.getEpoch();
+    }
+
+    /**
+     * Sets the ledger of the seasonal changes the resource follows. The changes recorded
+     * in the previous ledger are applied to the quantity first. Environments call this
+     * method when the resource is added or removed.
+     *
+     * @param ledger the new ledger, or {@code null} to stop following seasonal changes.
+     */
+    public void setLedger(ResourceLedger ledger) {
+        int current = getQuantity();
+        this.ledger = ledger;
+        setQuantity(current);
     }
 
     /**
-     * Retrieves the position of the resource in the ecosystem.
+     * Retrieves a copy of the position of the resource in the ecosystem.
      *
      * @return The position of the resource.
      */
     public Positionn getPosition() {
-        return positionn;
+        return Positionn.unpack(position);
     }
 
     /**
-     * Sets the position of the resource in the ecosystem.
+     * Sets the position of the resource in the ecosystem. The position is copied.
      *
      * @param positionn The new position of the resource.
      */
     public void setPosition(Positionn positionn) {
-        this.positionn = positionn;
+        this.position = positionn.pack();
+    }
+
+    /**
+     * Retrieves the X-coordinate of the resource.
+     *
+     * @return The X-coordinate.
+     */
+    public int getX() {
+        return Positionn.packedX(position);
+    }
+
+    /**
+     * Retrieves the Y-coordinate of the resource.
+     *
+     * @return The Y-coordinate.
+     */
+    public int getY() {
+        return Positionn.packedY(position);
+    }
+
+    /**
+     * Retrieves the position of the resource, packed with {@link Positionn#pack(int, int)}.
+     *
+     * @return The packed position.
+     */
+    public long getPackedPosition() {
+        return position;
     }
 
     /**
@@ -2,6 +2,10 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.interfaces.Consumable;
 import javafx.scene.image.ImageView;
 
@@ -25,11 +29,6 @@ public class Bear extends Omnivore {
      */
     private double speed;
 
-    /**
-     * Tracks the total number of bears in the ecosystem.
-     */
-    private static int nbbears = 0;
-
     /**
      * Constructs a new {@code Bear} with the specified attributes.
      *
@@ -46,7 +45,6 @@ public class Bear extends Omnivore {
         super(name, energy, position, environment, vitesse, imageView);
         this.strength = strength;
         this.speed = speed;
-        nbbears++;
     }
 
     /**
@@ -93,7 +91,9 @@ public class Bear extends Omnivore {
      */
     @Override
     public void move(String direction) {
-        System.out.println(name + " se déplace lentement mais avec force vers " + direction + " à une vitesse de " + speed + " m/s.");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(10);
     }
 
@@ -103,12 +103,14 @@ public class Bear extends Omnivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " participe à l'extension de la communauté bears.");
-        if (canReproduce(nbbears)) {
-            nbbears++;
-            System.out.println(name + " (bears) has reproduced. Total bears: " + nbbears);
-        } else {
-            System.out.println(name + " (bears) cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -123,26 +125,29 @@ public class Bear extends Omnivore {
     public boolean eat(Object food) {
         if (food instanceof Species) {
             Species prey = (Species) food;
-            System.out.println(name + " attaque et mange " + prey.getName() + ".");
             if (prey.getEnergy() <= strength) {
-                System.out.println(prey.getName() + " est complètement mangé par " + name + ".");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Ate(name, prey.getName(), prey.getEnergy()));
+                }
                 energy += prey.getEnergy();
                 prey.setEnergy(0);
                 return true;
             } else {
-                System.out.println(prey.getName() + " perd de l'énergie après l'attaque.");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Ate(name, prey.getName(), (int) strength));
+                }
                 prey.setEnergy(prey.getEnergy() - (int) strength);
                 energy += (int) strength;
                 return false;
             }
         } else if (food instanceof Consumable) {
             Consumable resource = (Consumable) food;
-            System.out.println(name + " consomme une ressource.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, food.getClass().getSimpleName(), 20));
+            }
             resource.consume(20);
             energy += 20;
             return true;
-        } else {
-            System.out.println(name + " ne peut pas manger cet aliment.");
         }
         return false;
     }
@@ -154,11 +159,11 @@ public class Bear extends Omnivore {
     @Override
     public void sleep() {
         if (!sleeping) {
-            sleeping = true;
+            setSleeping(true);
             energy += 30; // Regenerate energy during hibernation
-            System.out.println(name + " (Bear) is now sleeping (hibernating). Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Bear) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -168,10 +173,10 @@ public class Bear extends Omnivore {
     @Override
     public void wakeUp() {
         if (sleeping) {
-            sleeping = false;
-            System.out.println(name + " (Bear) has woken up from hibernation.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Bear) is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -184,4 +189,14 @@ public class Bear extends Omnivore {
     public boolean isSleeping() {
         return sleeping;
     }
+
+    /**
+     * Retrieves the kind of the bear.
+     *
+     * @return {@link SpeciesKind#BEAR}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.BEAR;
+    }
 }
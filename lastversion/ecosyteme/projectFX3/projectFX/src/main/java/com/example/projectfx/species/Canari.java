@@ -2,6 +2,12 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Fled;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.resources.Fruits;
 import javafx.scene.image.ImageView;
 
@@ -20,11 +26,6 @@ public class Canari extends Herbivore {
      */
     private String featherColor;
 
-    /**
-     * Tracks the total number of canaries in the ecosystem.
-     */
-    private static int nbCanaries = 0;
-
     /**
      * Constructs a new {@code Canari} species with the specified attributes.
      *
@@ -39,7 +40,6 @@ public class Canari extends Herbivore {
     public Canari(String name, int energy, Positionn positionn, Environment environment, int vitesse, String featherColor, ImageView imageView) {
         super(name, energy, positionn, environment, true, vitesse, imageView); // Canaries typically have a grouping instinct
         this.featherColor = featherColor;
-        nbCanaries++;
     }
 
     /**
@@ -60,24 +60,6 @@ public class Canari extends Herbivore {
         this.featherColor = featherColor;
     }
 
-    /**
-     * Retrieves the total number of canaries in the ecosystem.
-     *
-     * @return The total number of canaries.
-     */
-    public static int getNbCanaries() {
-        return nbCanaries;
-    }
-
-    /**
-     * Sets the total number of canaries in the ecosystem.
-     *
-     * @param nbCanaries The new total number of canaries.
-     */
-    public static void setNbCanaries(int nbCanaries) {
-        Canari.nbCanaries = nbCanaries;
-    }
-
     /**
      * Moves the canary in a specified direction.
      * Movement consumes energy.
@@ -87,9 +69,10 @@ public class Canari extends Herbivore {
     @Override
     public void move(String direction) {
         if (isSleeping()) {
-            System.out.println(name + " is sleeping and cannot move.");
         } else {
-            System.out.println(name + " (Canari) flutters quickly towards " + direction + " at speed " + vitesse + " m/s.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Moved(name, getX(), getY()));
+            }
             reduceEnergy(5);
         }
     }
@@ -105,12 +88,12 @@ public class Canari extends Herbivore {
     public boolean eat(Object food) {
         if (food instanceof Fruits) {
             Fruits fruits = (Fruits) food;
-            System.out.println(name + " consomme des fruits.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, fruits.getType(), 20));
+            }
             fruits.consume(20);
             energy += 20;
             return true;
-        } else {
-            System.out.println(name + " ne peut pas manger cet aliment.");
         }
         return false;
     }
@@ -121,12 +104,14 @@ public class Canari extends Herbivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " (Canari) is reproducing.");
-        if (canReproduce(nbCanaries)) {
-            nbCanaries++;
-            System.out.println(name + " has successfully reproduced. Total canaries: " + nbCanaries);
-        } else {
-            System.out.println(name + " cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -136,12 +121,12 @@ public class Canari extends Herbivore {
      */
     @Override
     public void detecterPredateur() {
-        System.out.println(name + " (Canari) is scanning the area for predators.");
-        if (Math.random() < 0.6) { // 60% chance to detect a predator
-            System.out.println(name + " (Canari) detects a predator and flies away!");
+        boolean detected = random().nextDouble() < 0.6; // 60% chance to detect a predator
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new PredatorDetected(name, detected));
+        }
+        if (detected) {
             flee();
-        } else {
-            System.out.println(name + " (Canari) does not detect any predators for now.");
         }
     }
 
@@ -151,7 +136,9 @@ public class Canari extends Herbivore {
      */
     @Override
     public void flee() {
-        System.out.println(name + " (Canari) flutters away to escape danger!");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Fled(name));
+        }
         reduceEnergy(10);
     }
 
@@ -161,11 +148,11 @@ public class Canari extends Herbivore {
     @Override
     public void sleep() {
         if (!isSleeping()) {
-            sleeping = true;
+            setSleeping(true);
             energy += 15; // Sleeping restores energy
-            System.out.println(name + " (Canari) is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Canari) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -175,10 +162,20 @@ public class Canari extends Herbivore {
     @Override
     public void wakeUp() {
         if (isSleeping()) {
-            sleeping = false;
-            System.out.println(name + " (Canari) has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Canari) is already awake.");
+            publishSleepChanged(false);
         }
     }
+
+    /**
+     * Retrieves the kind of the canary.
+     *
+     * @return {@link SpeciesKind#CANARI}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.CANARI;
+    }
 }
@@ -2,6 +2,9 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Hunted;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -61,15 +64,16 @@ public abstract class Carnivore extends Species {
      * @return {@code true} if the hunt was successful, {@code false} otherwise.
      */
     public boolean hunt(Species prey) {
-        System.out.println(name + " chasse " + prey.getName() + ".");
-
         // Check if prey is in the same environment and within hunting range
         if (this.environment.equals(prey.getEnvironment()) &&
-                this.positionn.calculateDistance(prey.getPosition()) <= 300) {
+                Positionn.isWithin(position, prey.getPackedPosition(), 300)) {
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Hunted(name, prey.getName(), true));
+            }
             attack(prey);
             return true;
-        } else {
-            System.out.println(prey.getName() + " est trop loin ou dans un autre environnement.");
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Hunted(name, prey.getName(), false));
         }
         return false;
     }
@@ -81,12 +85,10 @@ public abstract class Carnivore extends Species {
      * @param prey The prey species being attacked.
      */
     public void attack(Species prey) {
-        System.out.println(name + " attaque " + prey.getName() + " avec une force de " + attackStrength + ".");
 
         if (prey.getEnergy() <= attackStrength) {
             eat(prey);
         } else {
-            System.out.println(prey.getName() + " survit à l'attaque mais perd de l'énergie.");
             prey.setEnergy(prey.getEnergy() - attackStrength);
         }
     }
@@ -97,7 +99,9 @@ public abstract class Carnivore extends Species {
      * @param prey The prey species being consumed.
      */
     public void eat(Species prey) {
-        System.out.println(name + " mange " + prey.getName() + ".");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Ate(name, prey.getName(), prey.getEnergy()));
+        }
         this.energy += prey.getEnergy(); // Gain prey's energy
         prey.setEnergy(0); // Prey is consumed
         prey.checkDeath();
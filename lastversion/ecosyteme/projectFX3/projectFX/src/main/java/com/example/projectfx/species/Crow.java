@@ -2,6 +2,10 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.resources.Fruits;
 import javafx.scene.image.ImageView;
 
@@ -13,10 +17,6 @@ import javafx.scene.image.ImageView;
  */
 public class Crow extends Omnivore {
 
-    /**
-     * Tracks the total number of crows in the ecosystem.
-     */
-    private static int nbCrows = 0;
 
     /**
      * The feather color of the crow.
@@ -37,7 +37,6 @@ public class Crow extends Omnivore {
     public Crow(String name, int energy, Positionn positionn, Environment environment, int vitesse, String featherColor, ImageView imageView) {
         super(name, energy, positionn, environment, vitesse, imageView);
         this.featherColor = featherColor;
-        nbCrows++;
     }
 
     /**
@@ -58,24 +57,6 @@ public class Crow extends Omnivore {
         this.featherColor = featherColor;
     }
 
-    /**
-     * Retrieves the total number of crows in the ecosystem.
-     *
-     * @return The total number of crows.
-     */
-    public static int getNbCrows() {
-        return nbCrows;
-    }
-
-    /**
-     * Sets the total number of crows in the ecosystem.
-     *
-     * @param nbCrows The new total number of crows.
-     */
-    public static void setNbCrows(int nbCrows) {
-        Crow.nbCrows = nbCrows;
-    }
-
     /**
      * Moves the crow in a specified direction.
      * Movement consumes energy.
@@ -85,9 +66,10 @@ public class Crow extends Omnivore {
     @Override
     public void move(String direction) {
         if (isSleeping()) {
-            System.out.println(name + " is sleeping and cannot move.");
         } else {
-            System.out.println(name + " (Crow) flies swiftly towards " + direction + " at speed " + vitesse + " m/s.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Moved(name, getX(), getY()));
+            }
             reduceEnergy(5);
         }
     }
@@ -103,26 +85,29 @@ public class Crow extends Omnivore {
     public boolean eat(Object food) {
         if (food instanceof Fruits) {
             Fruits fruits = (Fruits) food;
-            System.out.println(name + " consomme des fruits.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, fruits.getType(), 20));
+            }
             fruits.consume(15);
             energy += 15;
             return true;
         } else if (food instanceof Species) {
             Species prey = (Species) food;
-            System.out.println(name + " attaque et mange " + prey.getName() + ".");
             if (prey.getEnergy() <= 30) {
-                System.out.println(prey.getName() + " est complètement mangé par " + name + ".");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Ate(name, prey.getName(), prey.getEnergy()));
+                }
                 energy += prey.getEnergy();
                 prey.setEnergy(0);
                 return true;
             } else {
-                System.out.println(prey.getName() + " perd de l'énergie après l'attaque.");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Ate(name, prey.getName(), 30));
+                }
                 prey.setEnergy(prey.getEnergy() - 30);
                 energy += 30;
                 return false;
             }
-        } else {
-            System.out.println(name + " ne peut pas manger cet aliment.");
         }
         return false;
     }
@@ -133,12 +118,14 @@ public class Crow extends Omnivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " (Crow) is reproducing.");
-        if (canReproduce(nbCrows)) {
-            nbCrows++;
-            System.out.println(name + " has successfully reproduced. Total crows: " + nbCrows);
-        } else {
-            System.out.println(name + " cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -148,11 +135,11 @@ public class Crow extends Omnivore {
     @Override
     public void sleep() {
         if (!isSleeping()) {
-            sleeping = true;
+            setSleeping(true);
             energy += 20; // Sleeping restores energy
-            System.out.println(name + " (Crow) is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Crow) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -162,10 +149,20 @@ public class Crow extends Omnivore {
     @Override
     public void wakeUp() {
         if (isSleeping()) {
-            sleeping = false;
-            System.out.println(name + " (Crow) has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Crow) is already awake.");
+            publishSleepChanged(false);
         }
     }
+
+    /**
+     * Retrieves the kind of the crow.
+     *
+     * @return {@link SpeciesKind#CROW}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.CROW;
+    }
 }
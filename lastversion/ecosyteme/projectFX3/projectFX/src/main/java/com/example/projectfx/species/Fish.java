@@ -2,6 +2,11 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.resources.Algae;
 import javafx.scene.image.ImageView;
 
@@ -19,11 +24,6 @@ public class Fish extends MarineHerbivore {
      */
     private double swimSpeed;
 
-    /**
-     * Tracks the total number of fish in the ecosystem.
-     */
-    private static int nbfish = 0;
-
     /**
      * Constructs a new {@code Fish} species with the specified attributes.
      *
@@ -38,25 +38,6 @@ public class Fish extends MarineHerbivore {
     public Fish(String name, int energy, Positionn positionn, Environment environment, double swimSpeed, int vitesse, ImageView imageView) {
         super(name, energy, positionn, environment, vitesse, imageView);
         this.swimSpeed = swimSpeed;
-        nbfish++;
-    }
-
-    /**
-     * Retrieves the total number of fish in the ecosystem.
-     *
-     * @return The total number of fish.
-     */
-    public static int getNbfish() {
-        return nbfish;
-    }
-
-    /**
-     * Sets the total number of fish in the ecosystem.
-     *
-     * @param nbfish The new total number of fish.
-     */
-    public static void setNbfish(int nbfish) {
-        Fish.nbfish = nbfish;
     }
 
     /**
@@ -88,12 +69,12 @@ public class Fish extends MarineHerbivore {
     public boolean eat(Object food) {
         if (food instanceof Algae) {
             Algae algae = (Algae) food;
-            System.out.println(name + " consomme des algues.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, algae.getType(), 20));
+            }
             algae.consume(20);
             energy += 20;
             return true;
-        } else {
-            System.out.println(name + " ne peut pas manger cet aliment.");
         }
         return false;
     }
@@ -106,7 +87,9 @@ public class Fish extends MarineHerbivore {
      */
     @Override
     public void move(String direction) {
-        System.out.println(name + " nage rapidement vers " + direction + " à une vitesse de " + swimSpeed + " m/s.");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(5);
     }
 
@@ -116,12 +99,14 @@ public class Fish extends MarineHerbivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " pond des œufs dans l'océan.");
-        if (canReproduce(nbfish)) {
-            nbfish++;
-            System.out.println(name + " (fishes) has reproduced. Total fishes: " + nbfish);
-        } else {
-            System.out.println(name + " (fishes) cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -131,12 +116,12 @@ public class Fish extends MarineHerbivore {
      */
     @Override
     public void detecterPredateur() {
-        System.out.println(name + " cherche des prédateurs dans l'eau.");
-        if (Math.random() < 0.6) { // 60% chance to detect a predator
-            System.out.println(name + " détecte un prédateur et tente de fuir !");
+        boolean detected = random().nextDouble() < 0.6; // 60% chance to detect a predator
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new PredatorDetected(name, detected));
+        }
+        if (detected) {
             swim("loin du danger");
-        } else {
-            System.out.println(name + " ne détecte aucun prédateur pour l'instant.");
         }
     }
 
@@ -146,11 +131,11 @@ public class Fish extends MarineHerbivore {
     @Override
     public void sleep() {
         if (!sleeping) {
-            sleeping = true;
+            setSleeping(true);
             energy += 5; // Fish regenerate less energy while sleeping
-            System.out.println(name + " (Fish) is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Fish) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -160,10 +145,10 @@ public class Fish extends MarineHerbivore {
     @Override
     public void wakeUp() {
         if (sleeping) {
-            sleeping = false;
-            System.out.println(name + " (Fish) has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Fish) is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -176,4 +161,14 @@ public class Fish extends MarineHerbivore {
     public boolean isSleeping() {
         return sleeping;
     }
+
+    /**
+     * Retrieves the kind of the fish.
+     *
+     * @return {@link SpeciesKind#FISH}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.FISH;
+    }
 }
@@ -2,6 +2,9 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Fled;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -57,13 +60,13 @@ public abstract class Herbivore extends Species {
      * If a predator is detected, the herbivore attempts to flee.
      */
     public void detecterPredateur() {
-        System.out.println(name + " cherche des prédateurs.");
         // Simple detection logic: simulate predator detection
-        if (Math.random() < 0.5) {
-            System.out.println(name + " détecte un prédateur et tente de fuir !");
+        boolean detected = random().nextDouble() < 0.5;
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new PredatorDetected(name, detected));
+        }
+        if (detected) {
             flee();
-        } else {
-            System.out.println(name + " ne détecte aucun prédateur.");
         }
     }
 
@@ -72,7 +75,9 @@ public abstract class Herbivore extends Species {
      * Fleeing reduces the herbivore's energy.
      */
     public void flee() {
-        System.out.println(name + " fuit rapidement pour échapper au danger.");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Fled(name));
+        }
         consumeEnergy(10); // Fleeing costs energy
     }
 
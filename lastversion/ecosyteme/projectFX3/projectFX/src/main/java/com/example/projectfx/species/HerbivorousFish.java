@@ -2,6 +2,8 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 public class HerbivorousFish extends MarineHerbivore {
@@ -12,9 +14,15 @@ public class HerbivorousFish extends MarineHerbivore {
         this.swimSpeed = swimSpeed;
     }
 
+    public double getSwimSpeed() {
+        return swimSpeed;
+    }
+
     @Override
     public void detecterPredateur() {
-        System.out.println(name + " détecte un prédateur et nage rapidement à une vitesse de " + swimSpeed + " m/s.");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new PredatorDetected(name, true));
+        }
     }
 
     @Override
@@ -32,7 +40,6 @@ public class HerbivorousFish extends MarineHerbivore {
 
     @Override
     public void reproduce() {
-        System.out.println(name + " pond des œufs pour se reproduire.");
     }
 
 
@@ -50,4 +57,9 @@ public class HerbivorousFish extends MarineHerbivore {
     public boolean isSleeping() {
         return false;
     }
+
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.HERBIVOROUS_FISH;
+    }
 }
@@ -2,6 +2,11 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Defended;
+import com.example.projectfx.events.Interacted;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -19,11 +24,6 @@ public class Human extends Species {
      */
     private int defensePower;
 
-    /**
-     * Tracks the total number of humans in the ecosystem.
-     */
-    private static int nbhuman = 0;
-
     /**
      * Constructs a new {@code Human} species with the specified attributes.
      *
@@ -38,25 +38,6 @@ public class Human extends Species {
     public Human(String name, int energy, Positionn positionn, Environment environment, int defensePower, int vitesse, ImageView imageView) {
         super(name, energy, positionn, environment, vitesse, imageView);
         this.defensePower = defensePower;
-        nbhuman++;
-    }
-
-    /**
-     * Retrieves the total number of humans in the ecosystem.
-     *
-     * @return The total number of humans.
-     */
-    public static int getNbhuman() {
-        return nbhuman;
-    }
-
-    /**
-     * Sets the total number of humans in the ecosystem.
-     *
-     * @param nbhuman The new total number of humans.
-     */
-    public static void setNbhuman(int nbhuman) {
-        Human.nbhuman = nbhuman;
     }
 
     /**
@@ -97,7 +78,9 @@ public class Human extends Species {
      */
     @Override
     public void move(String direction) {
-        System.out.println(name + " marche vers " + direction + ".");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(5);
     }
 
@@ -107,12 +90,14 @@ public class Human extends Species {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " participe à l'extension de la communauté humaine.");
-        if (canReproduce(nbhuman)) {
-            nbhuman++;
-            System.out.println(name + " (humans) has reproduced. Total humans: " + nbhuman);
-        } else {
-            System.out.println(name + " (humans) cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -123,14 +108,11 @@ public class Human extends Species {
      * @return {@code true} if the defense was successful, {@code false} otherwise.
      */
     public boolean defend(int attackPower) {
-        System.out.println(name + " tente de se défendre contre une attaque.");
-        if (defensePower >= attackPower) {
-            System.out.println(name + " a réussi à se défendre avec succès !");
-            return true;
-        } else {
-            System.out.println(name + " a échoué à se défendre.");
-            return false;
+        boolean succeeded = defensePower >= attackPower;
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Defended(name, attackPower, succeeded));
         }
+        return succeeded;
     }
 
     /**
@@ -139,14 +121,12 @@ public class Human extends Species {
      * @param otherSpecies The other species to interact with.
      */
     public void interactWith(Species otherSpecies) {
-        System.out.println(name + " interagit avec " + otherSpecies.getName() + ".");
-        if (otherSpecies instanceof Herbivore) {
-            System.out.println(name + " nourrit " + otherSpecies.getName() + ".");
+        boolean fed = otherSpecies instanceof Herbivore;
+        if (fed) {
             otherSpecies.setEnergy(otherSpecies.getEnergy() + 10);
-        } else if (otherSpecies instanceof Carnivore) {
-            System.out.println(name + " garde ses distances avec " + otherSpecies.getName() + ".");
-        } else {
-            System.out.println(name + " observe " + otherSpecies.getName() + ".");
+        }
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Interacted(name, otherSpecies.getName(), fed, otherSpecies instanceof Carnivore));
         }
     }
 
@@ -156,11 +136,11 @@ public class Human extends Species {
     @Override
     public void sleep() {
         if (!sleeping) {
-            sleeping = true;
+            setSleeping(true);
             energy += 10; // Humans regenerate moderate energy while sleeping
-            System.out.println(name + " (Human) is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Human) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -170,10 +150,10 @@ public class Human extends Species {
     @Override
     public void wakeUp() {
         if (sleeping) {
-            sleeping = false;
-            System.out.println(name + " (Human) has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Human) is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -186,4 +166,14 @@ public class Human extends Species {
     public boolean isSleeping() {
         return sleeping;
     }
+
+    /**
+     * Retrieves the kind of the human.
+     *
+     * @return {@link SpeciesKind#HUMAN}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.HUMAN;
+    }
 }
@@ -2,6 +2,8 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -34,7 +36,9 @@ public abstract class MarineHerbivore extends Herbivore {
      * @param direction The direction in which the marine herbivore swims (e.g., "north", "east").
      */
     public void swim(String direction) {
-        System.out.println(name + " nage vers " + direction + ".");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(5); // Swimming consumes energy
     }
 
@@ -2,6 +2,8 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.interfaces.Consumable;
 import javafx.scene.image.ImageView;
 
@@ -42,27 +44,30 @@ public abstract class Omnivore extends Species {
     public boolean eat(Object food) {
         if (food instanceof Species) {
             Species prey = (Species) food;
-            System.out.println(name + " attaque et mange " + prey.getName() + ".");
             if (prey.getEnergy() <= 20) { // Example: Omnivore consumes prey if energy <= 20
-                System.out.println(prey.getName() + " est complètement mangé par " + name + ".");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Ate(name, prey.getName(), prey.getEnergy()));
+                }
                 energy += prey.getEnergy();
                 prey.setEnergy(0);
                 prey.checkDeath();
                 return true;
             } else {
-                System.out.println(prey.getName() + " perd de l'énergie après l'attaque.");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Ate(name, prey.getName(), 20));
+                }
                 prey.setEnergy(prey.getEnergy() - 20);
                 energy += 20;
                 return false;
             }
         } else if (food instanceof Consumable) {
             Consumable resource = (Consumable) food;
-            System.out.println(name + " consomme des ressources.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, food.getClass().getSimpleName(), 10));
+            }
             resource.consume(10); // Example: Omnivore consumes 10 units
             energy += 10;
             return true;
-        } else {
-            System.out.println(name + " ne peut pas manger cet aliment.");
         }
         return false;
     }
@@ -2,6 +2,12 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.VegetationField;
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import com.example.projectfx.resources.Grass;
 import javafx.scene.image.ImageView;
 
@@ -19,11 +25,6 @@ public class Rabbit extends Herbivore {
      */
     private double speed;
 
-    /**
-     * Tracks the total number of rabbits in the ecosystem.
-     */
-    private static int nbrabbit = 0;
-
     /**
      * Constructs a new {@code Rabbit} species with the specified attributes.
      *
@@ -38,7 +39,6 @@ public class Rabbit extends Herbivore {
     public Rabbit(String name, int energy, Positionn positionn, Environment environment, double speed, int vitesse, ImageView imageView) {
         super(name, energy, positionn, environment, true, vitesse, imageView); // Rabbits typically have grouping instinct
         this.speed = speed;
-        nbrabbit++;
     }
 
     /**
@@ -67,27 +67,43 @@ public class Rabbit extends Herbivore {
      */
     @Override
     public void move(String direction) {
-        System.out.println(name + " saute rapidement vers " + direction + " à une vitesse de " + speed + " m/s.");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(5);
     }
 
     /**
      * Handles the eating behavior of the rabbit.
-     * Rabbits consume grass to restore energy.
+     * Rabbits consume grass to restore energy, either a grass patch or the vegetation
+     * of the cell they stand on.
      *
-     * @param food The food to be consumed, which must be an instance of {@code Grass}.
+     * @param food The food to be consumed, which must be an instance of {@code Grass} or {@code VegetationField}.
      * @return {@code true} if the food was successfully consumed, {@code false} otherwise.
      */
     @Override
     public boolean eat(Object food) {
         if (food instanceof Grass) {
             Grass grass = (Grass) food;
-            System.out.println(name + " consomme du grass.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, grass.getType(), 20));
+            }
             grass.consume(20);
             energy += 20;
             return true;
-        } else {
-            System.out.println(name + " ne peut pas manger cet aliment.");
+        }
+        if (food instanceof VegetationField vegetation) {
+            // Only whole units are grazed, so the vegetation removed is the energy gained
+            int eaten = (int) Math.min(20, Math.floor(vegetation.getDensity(getX(), getY())));
+            if (eaten <= 0) {
+                return false;
+            }
+            vegetation.consume(getX(), getY(), eaten);
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Ate(name, "Grass", eaten));
+            }
+            energy += eaten;
+            return true;
         }
         return false;
     }
@@ -98,45 +114,29 @@ public class Rabbit extends Herbivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " se reproduit rapidement et donne naissance à de nouveaux lapereaux.");
-        if (canReproduce(nbrabbit)) {
-            nbrabbit++;
-            System.out.println(name + " (rabbits) has reproduced. Total rabbits: " + nbrabbit);
-        } else {
-            System.out.println(name + " (rabbits) cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
-    /**
-     * Retrieves the total number of rabbits in the ecosystem.
-     *
-     * @return The total number of rabbits.
-     */
-    public static int getNbrabbit() {
-        return nbrabbit;
-    }
-
-    /**
-     * Sets the total number of rabbits in the ecosystem.
-     *
-     * @param nbrabbit The new total number of rabbits.
-     */
-    public static void setNbrabbit(int nbrabbit) {
-        Rabbit.nbrabbit = nbrabbit;
-    }
-
     /**
      * Detects predators in the vicinity of the rabbit.
      * If a predator is detected, the rabbit attempts to flee.
      */
     @Override
     public void detecterPredateur() {
-        System.out.println(name + " cherche des prédateurs.");
-        if (Math.random() < 0.7) { // 70% chance to detect a predator
-            System.out.println(name + " détecte un prédateur et s'enfuit !");
+        boolean detected = random().nextDouble() < 0.7; // 70% chance to detect a predator
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new PredatorDetected(name, detected));
+        }
+        if (detected) {
             flee();
-        } else {
-            System.out.println(name + " ne détecte aucun prédateur pour l'instant.");
         }
     }
 
@@ -146,11 +146,11 @@ public class Rabbit extends Herbivore {
     @Override
     public void sleep() {
         if (!isSleeping()) {
-            sleeping = true;
+            setSleeping(true);
             energy += 20; // Sleeping restores energy
-            System.out.println(name + " (rabbit) is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (rabbit) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -160,10 +160,10 @@ public class Rabbit extends Herbivore {
     @Override
     public void wakeUp() {
         if (isSleeping()) {
-            sleeping = false;
-            System.out.println(name + " (rabbit) has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (rabbit) is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -176,4 +176,14 @@ public class Rabbit extends Herbivore {
     public boolean isSleeping() {
         return sleeping;
     }
+
+    /**
+     * Retrieves the kind of the rabbit.
+     *
+     * @return {@link SpeciesKind#RABBIT}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.RABBIT;
+    }
 }
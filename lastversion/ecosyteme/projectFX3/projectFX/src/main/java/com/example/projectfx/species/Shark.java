@@ -2,6 +2,10 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Hunted;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -23,11 +27,6 @@ public class Shark extends Carnivore {
      */
     private double swimSpeed;
 
-    /**
-     * Tracks the total number of sharks in the ecosystem.
-     */
-    private static int nbshark = 0;
-
     /**
      * Constructs a new {@code Shark} species with the specified attributes.
      *
@@ -44,7 +43,6 @@ public class Shark extends Carnivore {
         super(name, energy, positionn, environment, attackStrength, vitesse, imageView);
         this.attackStrength = attackStrength;
         this.swimSpeed = swimSpeed;
-        nbshark++;
     }
 
     /**
@@ -83,24 +81,6 @@ public class Shark extends Carnivore {
         this.attackStrength = attackStrength;
     }
 
-    /**
-     * Retrieves the total number of sharks in the ecosystem.
-     *
-     * @return The total number of sharks.
-     */
-    public static int getNbshark() {
-        return nbshark;
-    }
-
-    /**
-     * Sets the total number of sharks in the ecosystem.
-     *
-     * @param nbshark The new total number of sharks.
-     */
-    public static void setNbshark(int nbshark) {
-        Shark.nbshark = nbshark;
-    }
-
     /**
      * Handles the eating behavior of the shark.
      * Currently, sharks do not consume any specific food in this implementation.
@@ -121,7 +101,9 @@ public class Shark extends Carnivore {
      */
     @Override
     public void move(String direction) {
-        System.out.println(name + " nage rapidement vers " + direction + " à une vitesse de " + swimSpeed + " m/s.");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(10);
     }
 
@@ -131,12 +113,14 @@ public class Shark extends Carnivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " se reproduit en pondant des œufs.");
-        if (canReproduce(nbshark)) {
-            nbshark++;
-            System.out.println(name + " (sharks) has reproduced. Total sharks: " + nbshark);
-        } else {
-            System.out.println(name + " (sharks) cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -149,13 +133,15 @@ public class Shark extends Carnivore {
      */
     @Override
     public boolean hunt(Species prey) {
-        System.out.println(name + " chasse " + prey.getName() + " dans l'océan.");
         if (this.environment.equals(prey.getEnvironment()) &&
-                this.positionn.calculateDistance(prey.getPosition()) <= 5) { // Sharks have a larger hunting range
+                Positionn.isWithin(position, prey.getPackedPosition(), 5)) { // Sharks have a larger hunting range
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Hunted(name, prey.getName(), true));
+            }
             attack(prey);
             return true;
-        } else {
-            System.out.println(prey.getName() + " est hors de portée.");
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Hunted(name, prey.getName(), false));
         }
         return false;
     }
@@ -168,11 +154,9 @@ public class Shark extends Carnivore {
      */
     @Override
     public void attack(Species prey) {
-        System.out.println(name + " attaque violemment " + prey.getName() + " avec une force de " + attackStrength + ".");
         if (prey.getEnergy() <= attackStrength) {
             eat(prey);
         } else {
-            System.out.println(prey.getName() + " survit à l'attaque mais perd de l'énergie.");
             prey.setEnergy(prey.getEnergy() - attackStrength);
         }
     }
@@ -183,11 +167,11 @@ public class Shark extends Carnivore {
     @Override
     public void sleep() {
         if (!sleeping) {
-            sleeping = true;
+            setSleeping(true);
             energy += 10; // Sharks regenerate energy moderately while sleeping
-            System.out.println(name + " (Shark) is now sleeping while floating. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Shark) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -197,10 +181,10 @@ public class Shark extends Carnivore {
     @Override
     public void wakeUp() {
         if (sleeping) {
-            sleeping = false;
-            System.out.println(name + " (Shark) has woken up and is now actively swimming.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Shark) is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -213,4 +197,14 @@ public class Shark extends Carnivore {
     public boolean isSleeping() {
         return sleeping;
     }
+
+    /**
+     * Retrieves the kind of the shark.
+     *
+     * @return {@link SpeciesKind#SHARK}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.SHARK;
+    }
 }
@@ -1,12 +1,22 @@
 package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.PopulationRegistry;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.RandomService;
+import com.example.projectfx.events.Attacked;
+import com.example.projectfx.events.Died;
+import com.example.projectfx.events.EnergyConsumed;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.events.SleepChanged;
+import com.example.projectfx.interfaces.Identifiable;
 import com.example.projectfx.interfaces.Movable;
 import com.example.projectfx.interfaces.Reproducible;
 import com.example.projectfx.interfaces.Sleepable;
 import javafx.scene.image.ImageView;
 
+import java.util.SplittableRandom;
+
 /**
  * The {@code Species} class represents an abstract base for all species in the ecosystem.
  * It implements the {@code Movable}, {@code Reproducible}, and {@code Sleepable} interfaces,
@@ -14,7 +24,7 @@ import javafx.scene.image.ImageView;
  * <p>
  * Concrete subclasses must define specific behaviors such as movement and reproduction logic.
  */
-public abstract class Species implements Movable, Reproducible, Sleepable {
+public abstract class Species implements Identifiable, Movable, Reproducible, Sleepable {
     /**
      * The name of the species.
      */
@@ -26,9 +36,9 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
     protected int energy;
 
     /**
-     * The current position of the species in the ecosystem.
+     * The current position of the species in the ecosystem, packed with {@link Positionn#pack(int, int)}.
      */
-    protected Positionn positionn;
+    protected long position;
 
     /**
      * The environment the species belongs to.
@@ -50,6 +60,17 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
      */
     protected ImageView imageView;
 
+    /**
+     * The random stream of the species, derived the first time it is needed, or
+     * {@code null} before.
+     */
+    private SplittableRandom random;
+
+    /**
+     * The id issued to the species by its registry.
+     */
+    private long id = NO_ID;
+
     /**
      * Constructs a new {@code Species} with the specified attributes.
      *
@@ -63,7 +84,7 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
     public Species(String name, int energy, Positionn positionn, Environment environment, int vitesse, ImageView imageView) {
         this.name = name;
         this.energy = energy;
-        this.positionn = positionn;
+        this.position = positionn.pack();
         this.environment = environment;
         this.vitesse = vitesse;
         this.sleeping = false;
@@ -78,8 +99,36 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
      */
     public abstract boolean eat(Object food);
 
+    /**
+     * Retrieves the random stream of the species. It is derived from the
+     * {@link RandomService} of its environment and its id, without any shared state,
+     * so it only depends on the seed of the run and on the order in which the species
+     * were registered. A species that is not registered gets a stream split from the
+     * default service.
+     *
+     * @return the random stream, used by one thread at a time.
+     */
+    protected SplittableRandom random() {
+        if (random == null) {
+            random = environment != null && id != NO_ID
+                    ? environment.getRandomService().stream(id)
+                    : RandomService.getDefault().split();
+        }
+        return random;
+    }
+
     // Getters and Setters
 
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(long id) {
+        this.id = id;
+    }
+
     public String getName() {
         return name;
     }
@@ -92,12 +141,45 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
         this.energy = Math.max(0, energy); // Ensure energy is not negative
     }
 
+    /**
+     * Retrieves a copy of the position of the species. Changing the copy does not move the species.
+     *
+     * @return the current position.
+     */
     public Positionn getPosition() {
-        return positionn;
+        return Positionn.unpack(position);
     }
 
+    /**
+     * Moves the species to the coordinates of the given position. The position is
+     * copied, so it is never shared with another entity.
+     *
+     * @param positionn the new position.
+     */
     public void setPosition(Positionn positionn) {
-        this.positionn = positionn;
+        this.position = positionn.pack();
+    }
+
+    public int getX() {
+        return Positionn.packedX(position);
+    }
+
+    public int getY() {
+        return Positionn.packedY(position);
+    }
+
+    public long getPackedPosition() {
+        return position;
+    }
+
+    /**
+     * Moves the species to the given coordinates.
+     *
+     * @param x the new X-coordinate.
+     * @param y the new Y-coordinate.
+     */
+    public void moveTo(int x, int y) {
+        this.position = Positionn.pack(x, y);
     }
 
     public Environment getEnvironment() {
@@ -124,6 +206,36 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
         this.vitesse = vitesse;
     }
 
+    /**
+     * Retrieves the kind of the species, used to count its population.
+     * Concrete species override this method to return their own kind.
+     *
+     * @return the kind of the species.
+     */
+    public SpeciesKind getKind() {
+        return SpeciesKind.OTHER;
+    }
+
+    /**
+     * Retrieves the number of living species of the same kind in the ecosystem.
+     *
+     * @return the population of the kind of this species.
+     */
+    protected int getPopulation() {
+        return (int) environment.getPopulationRegistry().count(getKind());
+    }
+
+    /**
+     * Records the birth of a species of the same kind in the ecosystem.
+     *
+     * @return the population of the kind of this species after the birth.
+     */
+    protected int recordBirth() {
+        PopulationRegistry population = environment.getPopulationRegistry();
+        population.recordBirth(getKind());
+        return (int) population.count(getKind());
+    }
+
     // Abstract Methods
     public abstract void move(String direction);
 
@@ -138,7 +250,9 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
 
     public boolean checkDeath() {
         if (energy <= 0) {
-            System.out.println(name + " has died due to lack of energy.");
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Died(name, "lack of energy"));
+            }
             environment.retirerEspece(this);
             return true;
         }
@@ -147,13 +261,17 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
 
     public void reduceEnergy(int amount) {
         energy -= amount;
-        System.out.println(name + "'s energy reduced by " + amount + ". Current energy: " + energy);
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new EnergyConsumed(name, amount, energy));
+        }
         checkDeath();
     }
 
     public void consumeEnergy(int amount) {
         energy = Math.max(0, energy - amount);
-        System.out.println(name + " has consumed " + amount + " energy. Remaining energy: " + energy);
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new EnergyConsumed(name, amount, energy));
+        }
     }
 
     public boolean isAlive() {
@@ -163,21 +281,21 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
     @Override
     public void sleep() {
         if (!sleeping) {
-            sleeping = true;
+            setSleeping(true);
             energy += 20; // Regenerate energy during sleep
-            System.out.println(name + " is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
     @Override
     public void wakeUp() {
         if (sleeping) {
-            sleeping = false;
-            System.out.println(name + " has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -186,24 +304,54 @@ public abstract class Species implements Movable, Reproducible, Sleepable {
         return sleeping;
     }
 
+    /**
+     * Publishes the current sleep state of the species, if the events are enabled.
+     *
+     * @param changed {@code true} if the species just fell asleep or woke up,
+     *                {@code false} if it was already in that state.
+     */
+    protected void publishSleepChanged(boolean changed) {
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new SleepChanged(name, isSleeping(), changed, energy));
+        }
+    }
+
+    /**
+     * Changes the sleep state of the species, without the effects of falling asleep or
+     * waking up. The environment is told, so that a sleeping species leaves its active
+     * species in constant time.
+     *
+     * @param sleeping the new sleep state.
+     */
+    public void setSleeping(boolean sleeping) {
+        if (this.sleeping != sleeping) {
+            this.sleeping = sleeping;
+            if (environment != null) {
+                environment.actualiserActivite(this);
+            }
+        }
+    }
+
     public void handlePredatorAttack(Species predator) {
+        boolean escaped = !sleeping || energy > predator.getEnergy();
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Attacked(name, predator.getName(), sleeping, escaped));
+        }
         if (sleeping) {
-            System.out.println(name + " is sleeping and attacked by " + predator.getName() + "!");
-            if (energy > predator.getEnergy()) {
+            if (escaped) {
                 wakeUp();
                 move("away");
-                System.out.println(name + " woke up and escaped from " + predator.getName() + "!");
             } else {
-                System.out.println(name + " couldn't escape and was eaten by " + predator.getName() + "...");
+                if (SimulationEvents.isEnabled()) {
+                    SimulationEvents.publish(new Died(name, "eaten by " + predator.getName()));
+                }
                 environment.retirerEspece(this);
             }
-        } else {
-            System.out.println(name + " is awake and can defend itself!");
         }
     }
 
     @Override
     public String toString() {
-        return name + " (Energy: " + energy + ", Position: " + positionn + ")";
+        return name + " (Energy: " + energy + ", Position: (" + getX() + ", " + getY() + "))";
     }
 }
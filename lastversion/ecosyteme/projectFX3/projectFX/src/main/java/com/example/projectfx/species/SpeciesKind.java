@@ -0,0 +1,86 @@
+package com.example.projectfx.species;
+
+/**
+ * The {@code SpeciesKind} enum lists the kinds of species that can live in the ecosystem.
+ * It is used as a key to count the population of each kind, and tells the environment
+ * rules which kinds are herbivores, marine or flying, and how much energy a move costs.
+ */
+public enum SpeciesKind {
+    RABBIT(true, false, false, 5),
+    WOLF(false, false, false, 8),
+    BEAR(false, false, false, 10),
+    HUMAN(false, false, false, 5),
+    FISH(true, true, false, 5),
+    HERBIVOROUS_FISH(true, true, false, 5),
+    SHARK(false, true, false, 10),
+    CROW(false, false, true, 5),
+    CANARI(true, false, true, 5),
+
+    /**
+     * Any species that does not define its own kind.
+     */
+    OTHER(false, false, false, 5);
+
+    /**
+     * Whether the species of this kind only eat plants.
+     */
+    private final boolean herbivore;
+
+    /**
+     * Whether the species of this kind live in the water.
+     */
+    private final boolean marine;
+
+    /**
+     * Whether the species of this kind fly.
+     */
+    private final boolean flying;
+
+    /**
+     * The energy spent by a species of this kind at each move.
+     */
+    private final int moveCost;
+
+    SpeciesKind(boolean herbivore, boolean marine, boolean flying, int moveCost) {
+        this.herbivore = herbivore;
+        this.marine = marine;
+        this.flying = flying;
+        this.moveCost = moveCost;
+    }
+
+    /**
+     * Checks if the species of this kind only eat plants.
+     *
+     * @return {@code true} for herbivores, {@code false} otherwise.
+     */
+    public boolean isHerbivore() {
+        return herbivore;
+    }
+
+    /**
+     * Checks if the species of this kind live in the water.
+     *
+     * @return {@code true} for marine species, {@code false} otherwise.
+     */
+    public boolean isMarine() {
+        return marine;
+    }
+
+    /**
+     * Checks if the species of this kind fly.
+     *
+     * @return {@code true} for flying species, {@code false} otherwise.
+     */
+    public boolean isFlying() {
+        return flying;
+    }
+
+    /**
+     * Retrieves the energy spent by a species of this kind at each move.
+     *
+     * @return the energy cost of a move.
+     */
+    public int getMoveCost() {
+        return moveCost;
+    }
+}
@@ -2,6 +2,9 @@ package com.example.projectfx.species;
 
 import com.example.projectfx.ecosystem.Environment;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SimulationEvents;
 import javafx.scene.image.ImageView;
 
 /**
@@ -18,11 +21,6 @@ public class Wolf extends Carnivore {
      */
     private boolean packInstinct;
 
-    /**
-     * Tracks the total number of wolves in the ecosystem.
-     */
-    private static int nbwolf = 0;
-
     /**
      * Constructs a new {@code Wolf} species with the specified attributes.
      *
@@ -37,7 +35,6 @@ public class Wolf extends Carnivore {
     public Wolf(String name, int energy, Positionn positionn, Environment environment, boolean packInstinct, int vitesse, ImageView imageView) {
         super(name, energy, positionn, environment, 30, vitesse, imageView); // Default attack strength: 30
         this.packInstinct = packInstinct;
-        nbwolf++;
     }
 
     /**
@@ -58,24 +55,6 @@ public class Wolf extends Carnivore {
         this.packInstinct = packInstinct;
     }
 
-    /**
-     * Retrieves the total number of wolves in the ecosystem.
-     *
-     * @return The total number of wolves.
-     */
-    public static int getNbwolf() {
-        return nbwolf;
-    }
-
-    /**
-     * Sets the total number of wolves in the ecosystem.
-     *
-     * @param nbwolf The new total number of wolves.
-     */
-    public static void setNbwolf(int nbwolf) {
-        Wolf.nbwolf = nbwolf;
-    }
-
     /**
      * Handles the eating behavior of the wolf.
      * Currently, wolves do not consume any specific food in this implementation.
@@ -96,7 +75,9 @@ public class Wolf extends Carnivore {
      */
     @Override
     public void move(String direction) {
-        System.out.println(name + " se déplace en meute vers " + direction + ".");
+        if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Moved(name, getX(), getY()));
+        }
         consumeEnergy(8); // Moving consumes 8 energy units
     }
 
@@ -106,12 +87,14 @@ public class Wolf extends Carnivore {
      */
     @Override
     public void reproduce() {
-        System.out.println(name + " se reproduit en meute, augmentant la taille du groupe.");
-        if (canReproduce(nbwolf)) {
-            nbwolf++;
-            System.out.println(name + " (wolfs) has reproduced. Total wolves: " + nbwolf);
-        } else {
-            System.out.println(name + " (wolfs) cannot reproduce due to insufficient numbers.");
+        int population = getPopulation();
+        if (canReproduce(population)) {
+            population = recordBirth();
+            if (SimulationEvents.isEnabled()) {
+                SimulationEvents.publish(new Reproduced(name, true, population));
+            }
+        } else if (SimulationEvents.isEnabled()) {
+            SimulationEvents.publish(new Reproduced(name, false, population));
         }
     }
 
@@ -124,20 +107,7 @@ public class Wolf extends Carnivore {
      */
     @Override
     public boolean hunt(Species prey) {
-        if (packInstinct) {
-            System.out.println(name + " chasse " + prey.getName() + " avec l'aide de sa meute.");
-        } else {
-            System.out.println(name + " chasse " + prey.getName() + " en solitaire.");
-        }
-
-        boolean success = super.hunt(prey); // General hunting logic from Carnivore
-        if (success) {
-            System.out.println(name + " a capturé " + prey.getName() + " l'énergie est : " + this.getEnergy());
-        } else {
-            System.out.println(name + " n'a pas pu capturer " + prey.getName());
-        }
-
-        return success;
+        return super.hunt(prey); // General hunting logic from Carnivore
     }
 
     /**
@@ -146,11 +116,11 @@ public class Wolf extends Carnivore {
     @Override
     public void sleep() {
         if (!sleeping) {
-            sleeping = true;
+            setSleeping(true);
             energy += 20; // Wolves regenerate energy efficiently while sleeping
-            System.out.println(name + " (Wolf) is now sleeping. Energy: " + energy);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Wolf) is already sleeping.");
+            publishSleepChanged(false);
         }
     }
 
@@ -160,10 +130,10 @@ public class Wolf extends Carnivore {
     @Override
     public void wakeUp() {
         if (sleeping) {
-            sleeping = false;
-            System.out.println(name + " (Wolf) has woken up.");
+            setSleeping(false);
+            publishSleepChanged(true);
         } else {
-            System.out.println(name + " (Wolf) is already awake.");
+            publishSleepChanged(false);
         }
     }
 
@@ -176,4 +146,14 @@ public class Wolf extends Carnivore {
     public boolean isSleeping() {
         return sleeping;
     }
+
+    /**
+     * Retrieves the kind of the wolf.
+     *
+     * @return {@link SpeciesKind#WOLF}.
+     */
+    @Override
+    public SpeciesKind getKind() {
+        return SpeciesKind.WOLF;
+    }
 }
@@ -0,0 +1,336 @@
+package com.example.projectfx.sweep;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.RandomService;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.ecosystem.SpawnPlacer;
+import com.example.projectfx.ecosystem.TickStatistics;
+import com.example.projectfx.exceptions.EcosystemException;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Wolf;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * The {@code ParameterSweep} class runs a forest scenario for every combination of a set of
+ * parameters and for many seeds, on all the cores, and aggregates the outcomes.
+ * <p>
+ * Each run builds its own {@link Forest} and {@link SimulationEngine} on a worker thread,
+ * with the same setup as the graphical application: rabbits and wolves placed at random,
+ * and grass patches regenerating every {@value #GRASS_REGENERATION_TICKS} ticks. It stops
+ * after the given number of ticks, or as soon as the last rabbit dies, since the forest
+ * has then collapsed.
+ * <p>
+ * The scenarios are numbered and built from their number only when a worker is about to
+ * run them, and at most two per worker are in flight at any time. The results are folded
+ * into a {@link SweepSummary} on the calling thread as they complete, so a sweep of
+ * millions of runs uses as little memory as a sweep of a few. A run only depends on its
+ * parameters and its seed, so the summary does not depend on the number of workers.
+ * The n-th run of every combination uses the same seed, so that the combinations are
+ * compared on the same random placements and movements.
+ */
+public class ParameterSweep {
+    /**
+     * The width of the simulated world.
+     */
+    public static final int WORLD_WIDTH = 1024;
+
+    /**
+     * The height of the simulated world.
+     */
+    public static final int WORLD_HEIGHT = 768;
+
+    /**
+     * The number of grass patches of a scenario.
+     */
+    public static final int INITIAL_GRASS = 28;
+
+    /**
+     * The number of ticks between two regenerations of a grass patch.
+     */
+    public static final int GRASS_REGENERATION_TICKS = 30;
+
+    /**
+     * The minimum distance between two spawned entities.
+     */
+    private static final int MIN_DISTANCE = 20;
+
+    /**
+     * The maximum number of ticks of a run.
+     */
+    private final long ticks;
+
+    /**
+     * The initial numbers of rabbits to try.
+     */
+    private int[] rabbits = {16};
+
+    /**
+     * The initial numbers of wolves to try.
+     */
+    private int[] wolves = {8};
+
+    /**
+     * The attack strengths of the wolves to try.
+     */
+    private int[] attackStrengths = {30};
+
+    /**
+     * The growth rates of the grass to try.
+     */
+    private double[] growthRates = {0.2};
+
+    /**
+     * The seed from which the seeds of the runs are derived.
+     */
+    private long seed;
+
+    /**
+     * The number of runs of each combination, each with its own seed.
+     */
+    private int replicates = 1;
+
+    /**
+     * The number of worker threads.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructs a {@code ParameterSweep} with a single combination, the default
+     * parameters of the graphical application, and a single run.
+     *
+     * @param ticks the maximum number of ticks of a run.
+     */
+    public ParameterSweep(long ticks) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("The number of ticks must be positive: " + ticks);
+        }
+        this.ticks = ticks;
+    }
+
+    /**
+     * Sets the initial numbers of rabbits to try.
+     *
+     * @param values the numbers of rabbits.
+     */
+    public void setRabbits(int... values) {
+        requireValues(values.length);
+        rabbits = values.clone();
+    }
+
+    /**
+     * Sets the initial numbers of wolves to try.
+     *
+     * @param values the numbers of wolves.
+     */
+    public void setWolves(int... values) {
+        requireValues(values.length);
+        wolves = values.clone();
+    }
+
+    /**
+     * Sets the attack strengths of the wolves to try.
+     *
+     * @param values the attack strengths.
+     */
+    public void setAttackStrengths(int... values) {
+        requireValues(values.length);
+        attackStrengths = values.clone();
+    }
+
+    /**
+     * Sets the growth rates of the grass to try.
+     *
+     * @param values the growth rates.
+     */
+    public void setGrowthRates(double... values) {
+        requireValues(values.length);
+        growthRates = values.clone();
+    }
+
+    /**
+     * Sets the number of runs of each combination and the seed their seeds derive from.
+     *
+     * @param seed       the seed of the sweep.
+     * @param replicates the number of runs of each combination.
+     */
+    public void setSeeds(long seed, int replicates) {
+        if (replicates <= 0) {
+            throw new IllegalArgumentException("The number of runs must be positive: " + replicates);
+        }
+        this.seed = seed;
+        this.replicates = replicates;
+    }
+
+    /**
+     * Sets the number of worker threads.
+     *
+     * @param parallelism the number of workers.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The number of workers must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Lists every combination of the parameters, the last parameter varying fastest. A value
+     * given twice for a parameter only yields its combinations once.
+     *
+     * @return the distinct combinations.
+     */
+    public List<SweepParameters> getCombinations() {
+        Set<SweepParameters> combinations = new LinkedHashSet<>();
+        for (int rabbitCount : rabbits) {
+            for (int wolfCount : wolves) {
+                for (int attackStrength : attackStrengths) {
+                    for (double growthRate : growthRates) {
+                        combinations.add(new SweepParameters(rabbitCount, wolfCount, attackStrength, growthRate));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(combinations);
+    }
+
+    /**
+     * Runs every scenario and aggregates the results.
+     *
+     * @return the summary of the sweep.
+     * @throws EcosystemException   if a scenario cannot be built.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public SweepSummary run() throws EcosystemException, InterruptedException {
+        return run(result -> {
+        });
+    }
+
+    /**
+     * Runs every scenario and aggregates the results, also handing each result to a
+     * consumer on the calling thread as it completes.
+     *
+     * @param each the consumer of the results, in the order they complete.
+     * @return the summary of the sweep.
+     * @throws EcosystemException   if a scenario cannot be built.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public SweepSummary run(Consumer<? super ScenarioResult> each) throws EcosystemException, InterruptedException {
+        List<SweepParameters> combinations = getCombinations();
+        SweepSummary summary = new SweepSummary(combinations);
+        RandomService seeds = new RandomService(seed);
+        long scenarios = (long) combinations.size() * replicates;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            CompletionService<ScenarioResult> completion = new ExecutorCompletionService<>(executor);
+            long submitted = 0;
+            long completed = 0;
+            while (completed < scenarios) {
+                // Keep every worker busy without queueing the whole sweep
+                while (submitted < scenarios && submitted - completed < 2L * parallelism) {
+                    SweepParameters parameters = combinations.get((int) (submitted / replicates));
+                    long runSeed = seeds.stream(submitted % replicates).nextLong();
+                    completion.submit(() -> runScenario(parameters, runSeed, ticks));
+                    submitted++;
+                }
+                ScenarioResult result = completion.take().get();
+                completed++;
+                summary.add(result);
+                each.accept(result);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EcosystemException cause) {
+                throw cause;
+            }
+            throw new EcosystemException("A scenario of the sweep failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return summary;
+    }
+
+    /**
+     * Runs one scenario on the calling thread.
+     *
+     * @param parameters the parameters of the scenario.
+     * @param seed       the seed of the scenario, for the placement and the movements.
+     * @param ticks      the maximum number of ticks.
+     * @return the outcome of the run.
+     * @throws EcosystemException if the entities do not fit in the world.
+     */
+    public static ScenarioResult runScenario(SweepParameters parameters, long seed, long ticks) throws EcosystemException {
+        RandomService random = new RandomService(seed);
+        SplittableRandom placement = random.split();
+        SpawnPlacer placer = new SpawnPlacer(0, WORLD_WIDTH - 1, 0, WORLD_HEIGHT - 1, MIN_DISTANCE, placement);
+        Forest forest = new Forest(0.1);
+        SimulationEngine engine = new SimulationEngine(forest, WORLD_WIDTH, WORLD_HEIGHT, random.fork());
+        for (int i = 0; i < parameters.rabbits(); i++) {
+            forest.ajouterEspece(new Rabbit("Rabbit" + (i + 1), 80, placer.place(), forest, 2.0, 10, null));
+        }
+        for (int i = 0; i < parameters.wolves(); i++) {
+            Wolf wolf = new Wolf("Wolf" + (i + 1), 100, placer.place(), forest, true, 15, null);
+            wolf.setAttackStrength(parameters.attackStrength());
+            forest.ajouterEspece(wolf);
+        }
+        for (int i = 0; i < INITIAL_GRASS; i++) {
+            Grass grass = new Grass(50, placer.place(), parameters.growthRate(), null);
+            forest.ajouterResource(grass);
+            engine.scheduleRegeneration(grass, GRASS_REGENERATION_TICKS);
+        }
+
+        TickStatistics statistics = engine.getStatistics();
+        long collapseTick = statistics.rabbits() == 0 ? 0 : -1;
+        while (collapseTick < 0 && statistics.tick() < ticks) {
+            statistics = engine.step();
+            if (statistics.rabbits() == 0) {
+                collapseTick = statistics.tick();
+            }
+        }
+        return new ScenarioResult(parameters, seed, statistics.tick(), statistics.rabbits(), statistics.wolves(),
+                statistics.grass(), collapseTick);
+    }
+
+    /**
+     * Runs a sweep from the command line and writes its summary.
+     * <p>
+     * Arguments: the summary file, then optionally the number of ticks, the number of
+     * runs per combination and the seed.
+     *
+     * @param args the command line arguments.
+     * @throws Exception if the sweep fails or the summary cannot be written.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: ParameterSweep <summary.csv> [ticks] [runs] [seed]");
+            return;
+        }
+        ParameterSweep sweep = new ParameterSweep(args.length > 1 ? Long.parseLong(args[1]) : 1000);
+        sweep.setRabbits(8, 16, 32, 64);
+        sweep.setWolves(2, 4, 8, 16);
+        sweep.setAttackStrengths(20, 30, 40);
+        sweep.setGrowthRates(0.1, 0.2, 0.4);
+        sweep.setSeeds(args.length > 3 ? Long.parseLong(args[3]) : 1L, args.length > 2 ? Integer.parseInt(args[2]) : 20);
+        long start = System.nanoTime();
+        SweepSummary summary = sweep.run();
+        summary.write(Path.of(args[0]));
+        System.out.printf("Sweep written to %s in %.1f s%n", args[0], (System.nanoTime() - start) / 1e9);
+    }
+
+    private static void requireValues(int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("At least one value is needed.");
+        }
+    }
+}
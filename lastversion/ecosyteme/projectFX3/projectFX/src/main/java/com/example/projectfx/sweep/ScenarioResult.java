@@ -0,0 +1,25 @@
+package com.example.projectfx.sweep;
+
+/**
+ * The {@code ScenarioResult} record holds the outcome of one run of a {@link ParameterSweep}.
+ *
+ * @param parameters   the parameters of the run.
+ * @param seed         the seed of the run.
+ * @param ticks        the number of ticks run.
+ * @param rabbits      the number of rabbits alive at the end.
+ * @param wolves       the number of wolves alive at the end.
+ * @param grass        the number of grass resources left at the end.
+ * @param collapseTick the tick at which the last rabbit died, or -1 if some survived.
+ */
+public record ScenarioResult(SweepParameters parameters, long seed, long ticks, long rabbits, long wolves, long grass,
+                             long collapseTick) {
+
+    /**
+     * Checks if the rabbits died out during the run.
+     *
+     * @return {@code true} if the forest collapsed, {@code false} otherwise.
+     */
+    public boolean isCollapsed() {
+        return collapseTick >= 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.projectfx.sweep;
+
+/**
+ * The {@code SweepParameters} record holds the parameters of a scenario of a
+ * {@link ParameterSweep}, apart from its seed.
+ *
+ * @param rabbits        the initial number of rabbits.
+ * @param wolves         the initial number of wolves.
+ * @param attackStrength the attack strength of the wolves.
+ * @param growthRate     the growth rate of the grass.
+ */
+public record SweepParameters(int rabbits, int wolves, int attackStrength, double growthRate) {
+}
@@ -0,0 +1,163 @@
+package com.example.projectfx.sweep;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The {@code SweepSummary} class aggregates the results of a {@link ParameterSweep}, one
+ * row per combination of parameters.
+ * <p>
+ * Results are folded in as they arrive and then dropped: a row only keeps counters, sums
+ * and extremes, with the variance of the final number of rabbits updated by Welford's
+ * method. The memory used therefore depends on the number of combinations, not on the
+ * number of seeds run for each of them.
+ */
+public class SweepSummary {
+    /**
+     * The combinations of parameters, in the order of the rows.
+     */
+    private final List<SweepParameters> combinations;
+
+    /**
+     * The row of each combination, in the order of the rows.
+     */
+    private final Map<SweepParameters, Row> rows = new LinkedHashMap<>();
+
+    /**
+     * Constructs an empty {@code SweepSummary}.
+     *
+     * @param combinations the combinations of parameters, in the order of the rows. A
+     *                     combination listed twice only gets its first row.
+     */
+    public SweepSummary(List<SweepParameters> combinations) {
+        for (SweepParameters parameters : combinations) {
+            rows.putIfAbsent(parameters, new Row());
+        }
+        this.combinations = List.copyOf(rows.keySet());
+    }
+
+    /**
+     * Folds the result of a run into the row of its parameters.
+     *
+     * @param result the result of the run.
+     */
+    public void add(ScenarioResult result) {
+        Row row = rowOf(result.parameters());
+        row.runs++;
+        if (result.isCollapsed()) {
+            row.collapses++;
+            row.collapseTicks += result.collapseTick();
+        }
+        double delta = result.rabbits() - row.meanRabbits;
+        row.meanRabbits += delta / row.runs;
+        row.squaredRabbits += delta * (result.rabbits() - row.meanRabbits);
+        row.minRabbits = Math.min(row.minRabbits, result.rabbits());
+        row.maxRabbits = Math.max(row.maxRabbits, result.rabbits());
+        row.wolves += result.wolves();
+        row.grass += result.grass();
+    }
+
+    /**
+     * Retrieves the combinations of parameters, in the order of the rows.
+     *
+     * @return an unmodifiable list of the combinations.
+     */
+    public List<SweepParameters> getCombinations() {
+        return Collections.unmodifiableList(combinations);
+    }
+
+    /**
+     * Retrieves the number of runs folded in for a combination.
+     *
+     * @param parameters the combination.
+     * @return the number of runs.
+     */
+    public long getRuns(SweepParameters parameters) {
+        return rowOf(parameters).runs;
+    }
+
+    /**
+     * Retrieves the fraction of the runs of a combination in which the rabbits died out.
+     *
+     * @param parameters the combination.
+     * @return the collapse rate, between 0 and 1, or 0 if no run was folded in.
+     */
+    public double getCollapseRate(SweepParameters parameters) {
+        Row row = rowOf(parameters);
+        return row.runs == 0 ? 0 : (double) row.collapses / row.runs;
+    }
+
+    /**
+     * Retrieves the mean final number of rabbits of a combination.
+     *
+     * @param parameters the combination.
+     * @return the mean number of rabbits.
+     */
+    public double getMeanRabbits(SweepParameters parameters) {
+        return rowOf(parameters).meanRabbits;
+    }
+
+    /**
+     * Writes the summary as a CSV table, one line per combination after a header line.
+     *
+     * @param out the destination of the table.
+     * @throws IOException if the table cannot be written.
+     */
+    public void write(Writer out) throws IOException {
+        out.write("rabbits,wolves,attackStrength,growthRate,runs,collapseRate,meanCollapseTick,"
+                + "meanRabbits,stdDevRabbits,minRabbits,maxRabbits,meanWolves,meanGrass\n");
+        for (SweepParameters parameters : combinations) {
+            Row row = rows.get(parameters);
+            double runs = Math.max(1, row.runs);
+            out.write(String.format(Locale.ROOT, "%d,%d,%d,%s,%d,%.4f,%s,%.3f,%.3f,%d,%d,%.3f,%.3f%n",
+                    parameters.rabbits(), parameters.wolves(), parameters.attackStrength(), parameters.growthRate(),
+                    row.runs, row.runs == 0 ? 0 : (double) row.collapses / row.runs,
+                    row.collapses == 0 ? "" : String.format(Locale.ROOT, "%.1f", (double) row.collapseTicks / row.collapses),
+                    row.meanRabbits, row.runs < 2 ? 0 : Math.sqrt(row.squaredRabbits / (row.runs - 1)),
+                    row.runs == 0 ? 0 : row.minRabbits, row.runs == 0 ? 0 : row.maxRabbits,
+                    row.wolves / runs, row.grass / runs));
+        }
+    }
+
+    /**
+     * Writes the summary as a CSV file.
+     *
+     * @param path the file to write, replaced if it exists.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path)) {
+            write(out);
+        }
+    }
+
+    private Row rowOf(SweepParameters parameters) {
+        Row row = rows.get(parameters);
+        if (row == null) {
+            throw new IllegalArgumentException("Not a combination of the sweep: " + parameters);
+        }
+        return row;
+    }
+
+    /**
+     * The aggregates of the runs of one combination.
+     */
+    private static final class Row {
+        private long runs;
+        private long collapses;
+        private long collapseTicks;
+        private double meanRabbits;
+        private double squaredRabbits;
+        private long minRabbits = Long.MAX_VALUE;
+        private long maxRabbits = Long.MIN_VALUE;
+        private long wolves;
+        private long grass;
+    }
+}
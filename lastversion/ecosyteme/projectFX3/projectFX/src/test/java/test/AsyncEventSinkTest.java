@@ -0,0 +1,51 @@
+package test;
+
+import com.example.projectfx.events.AsyncEventSink;
+import com.example.projectfx.events.EnergyConsumed;
+import com.example.projectfx.events.SimulationEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncEventSinkTest {
+
+    @Test
+    void testEventsAreDrainedInOrder() {
+        List<SimulationEvent> received = new ArrayList<>();
+        AsyncEventSink sink = new AsyncEventSink(received::add, 1 << 14);
+
+        for (int i = 0; i < 10_000; i++) {
+            sink.publish(new EnergyConsumed("Rabbit" + i, 5, i));
+        }
+        sink.close();
+
+        assertEquals(10_000 - sink.getDroppedCount(), received.size(), "Every accepted event should be drained.");
+        for (int i = 1; i < received.size(); i++) {
+            int previous = ((EnergyConsumed) received.get(i - 1)).remainingEnergy();
+            int current = ((EnergyConsumed) received.get(i)).remainingEnergy();
+            assertTrue(previous < current, "Events should be drained in publication order.");
+        }
+    }
+
+    @Test
+    void testFullBufferDropsInsteadOfBlocking() {
+        Object gate = new Object();
+        AsyncEventSink sink = new AsyncEventSink(event -> {
+            synchronized (gate) {
+                // Blocks the draining thread until the test releases it
+            }
+        }, 4);
+
+        synchronized (gate) {
+            for (int i = 0; i < 100; i++) {
+                sink.publish(new EnergyConsumed("Rabbit", 5, i));
+            }
+        }
+        sink.close();
+
+        assertTrue(sink.getDroppedCount() > 0, "Events published while the buffer is full should be dropped.");
+    }
+}
@@ -0,0 +1,130 @@
+package test;
+
+import com.example.projectfx.ecosystem.Checkpoint;
+import com.example.projectfx.ecosystem.Ecosystem;
+import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Ocean;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.Season;
+import com.example.projectfx.ecosystem.VegetationField;
+import com.example.projectfx.exceptions.EcosystemException;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.species.Crow;
+import com.example.projectfx.species.Fish;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.SpeciesKind;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointTest {
+
+    @Test
+    void testRestoredEcosystemMatchesCapturedOne() throws Exception {
+        Ecosystem ecosystem = new Ecosystem();
+        Forest forest = new Forest(0.3);
+        Ocean ocean = new Ocean(35);
+        ecosystem.ajouterEnvironnement(forest);
+        ecosystem.ajouterEnvironnement(ocean);
+        for (int i = 0; i < 1000; i++) {
+            forest.ajouterEspece(new Rabbit("Rabbit" + i, 50 + i, new Positionn(i, 2 * i), forest, 2.0, 10, null));
+        }
+        Wolf wolf = new Wolf("Loup", 80, new Positionn(7, 8), forest, true, 15, null);
+        forest.ajouterEspece(wolf);
+        wolf.setSleeping(true);
+        forest.ajouterEspece(new Crow("Corbeau", 40, new Positionn(3, 4), forest, 6, "noir", null));
+        ocean.ajouterEspece(new Fish("Poisson", 30, new Positionn(9, 9), ocean, 1.5, 5, null));
+        forest.ajouterResource(new Grass(50, new Positionn(1, 1), 0.2, null));
+        forest.mettreAJourSaison(Season.WINTER);
+        forest.retirerEspece(forest.getSpeciesList().get(0));
+
+        Checkpoint checkpoint = Checkpoint.capture(ecosystem, 123, 42L);
+        Path directory = Files.createTempDirectory("checkpoint");
+        Path file = directory.resolve("ecosystem.chk");
+        try {
+            checkpoint.writeAsync(file, ForkJoinPool.commonPool()).join();
+            Checkpoint read = Checkpoint.read(file);
+            Ecosystem restored = read.restore();
+
+            assertEquals(123, read.getTick(), "The tick should be restored.");
+            assertEquals(42L, read.getSeed(), "The seed should be restored.");
+            assertEquals(2, restored.getEnvironnements().size(), "Both environments should be restored.");
+            Environment restoredForest = restored.getEnvironnements().get(0);
+            assertEquals(Season.WINTER, restoredForest.getSaison(), "The season should be restored.");
+            assertEquals(0.3, ((Forest) restoredForest).getTreeDensity(), "The tree density should be restored.");
+            assertEquals(forest.getSpeciesList().size(), restoredForest.getSpeciesList().size(), "Every species should be restored.");
+            for (int i = 0; i < forest.getSpeciesList().size(); i++) {
+                Species expected = forest.getSpeciesList().get(i);
+                Species actual = restoredForest.getSpeciesList().get(i);
+                assertEquals(expected.getName(), actual.getName(), "The names should be restored in order.");
+                assertEquals(expected.getEnergy(), actual.getEnergy(), "The energy should be restored.");
+                assertEquals(expected.getPackedPosition(), actual.getPackedPosition(), "The position should be restored.");
+                assertEquals(expected.isSleeping(), actual.isSleeping(), "The sleep state should be restored.");
+            }
+            assertEquals(forest.getActiveSpecies().size(), restoredForest.getActiveSpecies().size(), "The sleeping wolf should not be active.");
+            assertEquals("noir", ((Crow) restored.getEntityRegistry().getSpecies(SpeciesKind.CROW).get(0)).getFeatherColor(),
+                    "The feather color should be restored.");
+            assertEquals(40, restoredForest.getResources().get(0).getQuantity(), "The quantity after the winter should be restored.");
+            assertEquals(1000, restored.getPopulationRegistry().getBirths(SpeciesKind.RABBIT), "The births should be restored.");
+            assertEquals(1, restored.getPopulationRegistry().getDeaths(SpeciesKind.RABBIT), "The deaths should be restored.");
+            assertEquals(1, restored.getEnvironnements().get(1).getSpeciesList().size(), "The fish should be restored in the ocean.");
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    void testVegetationIsRestored() throws Exception {
+        Ecosystem ecosystem = new Ecosystem();
+        Forest forest = new Forest(0.3);
+        Ocean ocean = new Ocean(35);
+        ecosystem.ajouterEnvironnement(forest);
+        ecosystem.ajouterEnvironnement(ocean);
+        VegetationField vegetation = new VegetationField(100, 70, 8, 40, 0.1f, 0.2f);
+        forest.setVegetation(vegetation);
+        vegetation.consume(5, 5, 12.5f);
+        vegetation.consume(99, 69, 40);
+        vegetation.update();
+
+        Ecosystem restored = Checkpoint.capture(ecosystem, 3, 1L).restore();
+
+        VegetationField actual = restored.getEnvironnements().get(0).getVegetation();
+        assertNotNull(actual, "The vegetation of the forest should be restored.");
+        assertEquals(vegetation.getColumns(), actual.getColumns(), "The columns should be restored.");
+        assertEquals(vegetation.getRows(), actual.getRows(), "The rows should be restored.");
+        assertEquals(vegetation.getCellSize(), actual.getCellSize(), "The cell size should be restored.");
+        assertEquals(vegetation.getCapacity(), actual.getCapacity(), "The capacity should be restored.");
+        assertEquals(vegetation.getGrowthRate(), actual.getGrowthRate(), "The growth rate should be restored.");
+        assertEquals(vegetation.getDiffusionRate(), actual.getDiffusionRate(), "The diffusion rate should be restored.");
+        for (int y = 0; y < 70; y += 8) {
+            for (int x = 0; x < 100; x += 8) {
+                assertEquals(vegetation.getDensity(x, y), actual.getDensity(x, y), "The density of each cell should be restored.");
+            }
+        }
+        assertEquals(vegetation.getDensity(99, 69), actual.getDensity(99, 69), "The density of the last cell should be restored.");
+        assertNull(restored.getEnvironnements().get(1).getVegetation(), "An environment without vegetation should get none.");
+
+        vegetation.update();
+        actual.update();
+        assertEquals(vegetation.getTotal(), actual.getTotal(), "The restored vegetation should evolve like the original.");
+    }
+
+    @Test
+    void testFileThatIsNotACheckpointIsRejected() throws Exception {
+        Path file = Files.createTempFile("checkpoint", ".chk");
+        try {
+            Files.write(file, new byte[64]);
+            assertThrows(EcosystemException.class, () -> Checkpoint.read(file), "A file without the magic number should be rejected.");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package test;
+
+import com.example.projectfx.ecosystem.Air;
+import com.example.projectfx.ecosystem.Ecosystem;
+import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.ExecutionMode;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Ocean;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.species.Fish;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Species;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EcosystemTest {
+
+    private static Ecosystem createEcosystem(ExecutionMode mode) {
+        Ecosystem ecosystem = new Ecosystem();
+        ecosystem.setExecutionMode(mode);
+        Environment forest = new Forest(0.1);
+        Environment ocean = new Ocean(0.5);
+        ecosystem.ajouterEnvironnement(forest);
+        ecosystem.ajouterEnvironnement(ocean);
+        ecosystem.ajouterEnvironnement(new Air(3.0));
+        ecosystem.ajouterEspece(new Rabbit("Rabbit", 50, new Positionn(5, 5), forest, 2.0, 10, null));
+        ecosystem.ajouterEspece(new Rabbit("StarvingRabbit", 0, new Positionn(6, 6), forest, 2.0, 10, null));
+        ecosystem.ajouterEspece(new Fish("Fish", 40, new Positionn(7, 7), ocean, 1.5, 10, null));
+        return ecosystem;
+    }
+
+    @Test
+    void testParallelCycleMatchesSequentialCycle() {
+        Ecosystem sequential = createEcosystem(ExecutionMode.SEQUENTIAL);
+        Ecosystem parallel = createEcosystem(ExecutionMode.PARALLEL);
+
+        for (int i = 0; i < 3; i++) {
+            sequential.lancerSimulation();
+            parallel.lancerSimulation();
+        }
+
+        // The order of the ecosystem list depends on the order of the removals across workers
+        List<Species> expected = new ArrayList<>(sequential.getSpeciesList());
+        List<Species> actual = new ArrayList<>(parallel.getSpeciesList());
+        expected.sort(Comparator.comparing(Species::getName));
+        actual.sort(Comparator.comparing(Species::getName));
+        assertEquals(expected.size(), actual.size(), "Both modes should keep the same species.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getName(), actual.get(i).getName(), "Both modes should keep the same species.");
+            assertEquals(expected.get(i).getEnergy(), actual.get(i).getEnergy(), "Both modes should compute the same energy.");
+        }
+    }
+
+    @Test
+    void testStarvingSpeciesAreRemoved() {
+        Ecosystem ecosystem = createEcosystem(ExecutionMode.PARALLEL);
+
+        ecosystem.mettreAJourCycle();
+
+        assertEquals(2, ecosystem.getSpeciesList().size(), "The starving rabbit should have been removed.");
+        assertTrue(ecosystem.getSpeciesList().stream().noneMatch(s -> s.getName().equals("StarvingRabbit")),
+                "Only the starving rabbit should be removed.");
+    }
+}
@@ -0,0 +1,126 @@
+package test;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.RandomService;
+import com.example.projectfx.ecosystem.Season;
+import com.example.projectfx.ecs.ComponentStore;
+import com.example.projectfx.ecs.Diet;
+import com.example.projectfx.ecs.EcsWorld;
+import com.example.projectfx.ecs.EntityStore;
+import com.example.projectfx.ecs.OffHeapComponentStore;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.SpeciesKind;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EcsWorldTest {
+
+    @Test
+    void testRabbitFacadeEatsNearbyGrass() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 50, new Positionn(500, 400), forest, 2.0, 10, null);
+        Grass grass = new Grass(50, new Positionn(510, 410), 0.2, null);
+        forest.ajouterEspece(rabbit);
+        forest.ajouterResource(grass);
+        EcsWorld world = new EcsWorld(1024, 768, 42L);
+        world.setInteractionRadius(2000);
+        world.load(forest);
+
+        world.step();
+        world.sync();
+
+        assertEquals(65, rabbit.getEnergy(), "Energy should be 50 - 5 (move) + 20 (grass).");
+        assertEquals(510, rabbit.getPosition().getX(), "The rabbit should have moved to the grass.");
+        assertTrue(forest.getResources().isEmpty(), "The grass should have been removed from the forest.");
+    }
+
+    @Test
+    void testWolfFacadeEatsWeakRabbit() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 20, new Positionn(500, 400), forest, 2.0, 10, null);
+        Wolf wolf = new Wolf("TestWolf", 100, new Positionn(520, 420), forest, true, 15, null);
+        forest.ajouterEspece(rabbit);
+        forest.ajouterEspece(wolf);
+        EcsWorld world = new EcsWorld(1024, 768, 42L);
+        world.setInteractionRadius(2000);
+        world.load(forest);
+
+        world.step();
+        world.sync();
+
+        assertEquals(107, wolf.getEnergy(), "Energy should be 100 - 8 (move) + 15 (rabbit).");
+        assertEquals(List.of(wolf), forest.getSpeciesList(), "The eaten rabbit should have been removed from the forest.");
+        assertEquals(0, rabbit.getEnergy(), "The eaten rabbit should have no energy left.");
+    }
+
+    @Test
+    void testEntitiesWithoutFacadeStarve() {
+        EcsWorld world = new EcsWorld(1024, 768, 42L);
+        EntityStore store = world.getSpecies();
+        for (int i = 0; i < 100_000; i++) {
+            store.add(SpeciesKind.RABBIT, Diet.HERBIVORE, i % 1024, i % 768, 10, 10, 0);
+        }
+
+        world.step();
+        assertEquals(100_000, store.count(SpeciesKind.RABBIT), "Every rabbit should survive the first move.");
+        world.step();
+        assertEquals(0, store.size(), "Every rabbit should have starved after two moves.");
+    }
+
+    @Test
+    void testSeasonIsAppliedInBulk() {
+        EcsWorld world = new EcsWorld(1024, 768, 42L);
+        for (int i = 0; i < 1_000_000; i++) {
+            world.getSpecies().add(SpeciesKind.RABBIT, Diet.HERBIVORE, i % 1024, i % 768, 100, 10, 0);
+        }
+        world.getResources().add(10, 10, 50);
+        world.getResources().add(20, 20, 5);
+
+        world.applySeason(Season.WINTER);
+
+        assertEquals(80, world.getSpecies().getEnergy(999_999), "Winter should take 20% of the energy.");
+        assertEquals(20, world.getResources().getQuantity(0), "Winter should remove 10 then halve the grass.");
+        assertEquals(0, world.getResources().getQuantity(1), "A resource should not go below zero.");
+    }
+
+    private static EcsWorld createWorld(EntityStore store) {
+        EcsWorld world = new EcsWorld(1024, 768, new RandomService(42L), store);
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            store.add(SpeciesKind.RABBIT, Diet.HERBIVORE, random.nextInt(1024), random.nextInt(768), 100, 10, 0);
+            world.getResources().add(random.nextInt(1024), random.nextInt(768), 50);
+        }
+        for (int i = 0; i < 500; i++) {
+            store.add(SpeciesKind.WOLF, Diet.CARNIVORE, random.nextInt(1024), random.nextInt(768), 100, 15, 30);
+        }
+        return world;
+    }
+
+    @Test
+    void testOffHeapStoreMatchesHeapStore() {
+        EcsWorld heap = createWorld(new ComponentStore());
+        EcsWorld offHeap = createWorld(new OffHeapComponentStore(16));
+
+        heap.run(20);
+        offHeap.run(20);
+
+        EntityStore expected = heap.getSpecies();
+        EntityStore actual = offHeap.getSpecies();
+        assertEquals(expected.size(), actual.size(), "Both stores should keep the same entities.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getKind(i), actual.getKind(i), "Both stores should keep the same kinds.");
+            assertEquals(expected.getEnergy(i), actual.getEnergy(i), "Both stores should compute the same energy.");
+            assertEquals(expected.getX(i), actual.getX(i), "Both stores should compute the same position.");
+        }
+        assertEquals(heap.getResources().size(), offHeap.getResources().size(), "Both stores should eat the same resources.");
+        assertTrue(offHeap.getMemoryReport().contains(OffHeapComponentStore.ROW_BYTES + " bytes per entity"),
+                "The report should give the size of a row.");
+    }
+}
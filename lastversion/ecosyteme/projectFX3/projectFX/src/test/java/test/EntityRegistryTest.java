@@ -0,0 +1,62 @@
+package test;
+
+import com.example.projectfx.ecosystem.EntityRegistry;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Ocean;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.interfaces.Identifiable;
+import com.example.projectfx.species.Fish;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.SpeciesKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityRegistryTest {
+
+    @Test
+    void testStaleIdIsNotReused() {
+        EntityRegistry registry = new EntityRegistry();
+        Forest forest = new Forest(0.1);
+        Rabbit first = new Rabbit("First", 30, new Positionn(1, 1), forest, 2.0, 12, null);
+        Rabbit second = new Rabbit("Second", 30, new Positionn(2, 2), forest, 2.0, 12, null);
+
+        registry.register(first, forest);
+        long staleId = first.getId();
+        registry.remove(first);
+        registry.register(second, forest);
+
+        assertEquals(Identifiable.NO_ID, first.getId(), "A removed entity should lose its id.");
+        assertFalse(registry.isAlive(staleId), "The id of a removed entity should stay invalid.");
+        assertNotEquals(staleId, second.getId(), "A reused slot should give a new id.");
+        assertSame(second, registry.get(second.getId()), "The new id should find the new entity.");
+        assertSame(forest, registry.getEnvironment(second.getId()), "The environment should be found from the id.");
+    }
+
+    @Test
+    void testRemovalUpdatesEveryView() {
+        Forest forest = new Forest(0.1);
+        Ocean ocean = new Ocean(0.5);
+        EntityRegistry registry = new EntityRegistry();
+        forest.setEntityRegistry(registry);
+        ocean.setEntityRegistry(registry);
+        Rabbit first = new Rabbit("First", 30, new Positionn(1, 1), forest, 2.0, 12, null);
+        Rabbit second = new Rabbit("Second", 30, new Positionn(2, 2), forest, 2.0, 12, null);
+        Fish fish = new Fish("Fish", 40, new Positionn(3, 3), ocean, 1.5, 10, null);
+        forest.ajouterEspece(first);
+        forest.ajouterEspece(second);
+        ocean.ajouterEspece(fish);
+
+        ocean.retirerEspece(first);
+        assertTrue(registry.contains(first), "An environment should not remove a species of another one.");
+
+        forest.retirerEspece(first);
+        assertEquals(List.of(second), forest.getSpeciesList(), "The forest should only keep the second rabbit.");
+        assertEquals(List.of(second), registry.getSpecies(SpeciesKind.RABBIT), "The rabbits should only keep the second one.");
+        assertEquals(2, registry.getSpecies().size(), "The registry should keep the second rabbit and the fish.");
+        assertTrue(registry.getSpecies().contains(fish), "The fish should still be registered.");
+        assertEquals(2, registry.size(), "The registry should count the remaining entities.");
+    }
+}
@@ -1,12 +1,20 @@
 package test;
 
 import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.EnvironmentStatistics;
 import com.example.projectfx.ecosystem.Forest;
 import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.Season;
 import com.example.projectfx.resources.Grass;
 import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.SpeciesKind;
+import com.example.projectfx.species.Wolf;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EnvironmentTest {
@@ -31,4 +39,67 @@ class EnvironmentTest {
         forest.mettreAJourSaison("Spring");
         assertEquals(60, grass.getQuantity(), "Grass should regenerate by 10 during Spring.");
     }
+
+    @Test
+    void testSeasonEffectsApplyToEverySpeciesAndResource() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 50, new Positionn(5, 5), forest, 2.0, 12, null);
+        Grass grass = new Grass(50, new Positionn(2, 2), 12, null);
+        forest.ajouterEspece(rabbit);
+        forest.ajouterResource(grass);
+
+        forest.mettreAJourSaison("winter");
+        forest.appliquerEffetsSaison();
+
+        assertEquals(Season.WINTER, forest.getSaison(), "The season name should be matched ignoring the case.");
+        assertEquals(40, rabbit.getEnergy(), "Winter should take 20% of the energy.");
+        assertEquals(20, grass.getQuantity(), "Winter should remove 10 then halve the grass.");
+
+        forest.mettreAJourSaison("Monsoon");
+        assertEquals(Season.WINTER, forest.getSaison(), "An unknown season should be ignored.");
+    }
+
+    @Test
+    void testStatisticsFollowAdditionsAndRemovals() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 30, new Positionn(5, 5), forest, 2.0, 12, null);
+        Wolf wolf = new Wolf("TestWolf", 0, new Positionn(9, 9), forest, true, 15, null);
+        Grass grass = new Grass(50, new Positionn(2, 2), 12, null);
+
+        forest.ajouterEspece(rabbit);
+        forest.ajouterEspece(wolf);
+        forest.ajouterResource(grass);
+        forest.retirerEspeces(species -> species.getEnergy() <= 0);
+
+        EnvironmentStatistics statistics = forest.getStatistics();
+        assertEquals(1, statistics.count(SpeciesKind.RABBIT), "The rabbit should be counted.");
+        assertEquals(0, statistics.count(SpeciesKind.WOLF), "The starving wolf should have been removed.");
+        assertEquals(1, statistics.count(SpeciesKind::isHerbivore), "The rabbit should be counted as a herbivore.");
+        assertEquals(1, statistics.countResources("Grass"), "The grass should be counted.");
+
+        forest.retirerResource(grass);
+        assertEquals(0, statistics.countResources("Grass"), "The removed grass should no longer be counted.");
+    }
+
+    @Test
+    void testRemovalsKeepEveryOtherSpecies() {
+        Forest forest = new Forest(0.1);
+        List<Rabbit> rabbits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Rabbit rabbit = new Rabbit("Rabbit" + i, 30, new Positionn(i, i), forest, 2.0, 12, null);
+            rabbits.add(rabbit);
+            forest.ajouterEspece(rabbit);
+        }
+
+        for (int i = 0; i < 10; i += 2) {
+            forest.retirerEspece(rabbits.get(i));
+        }
+        forest.ajouterEspece(rabbits.get(4));
+        forest.ajouterEspece(rabbits.get(5));
+
+        assertEquals(Set.of(rabbits.get(1), rabbits.get(3), rabbits.get(4), rabbits.get(5), rabbits.get(7), rabbits.get(9)),
+                Set.copyOf(forest.getSpeciesList()), "Removed species should be dropped and re-added ones kept.");
+        assertEquals(6, forest.getSpeciesList().size(), "Each species should be listed once.");
+        assertEquals(6, forest.getStatistics().count(SpeciesKind.RABBIT), "The statistics should match the list.");
+    }
 }
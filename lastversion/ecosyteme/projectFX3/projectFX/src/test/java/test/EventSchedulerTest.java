@@ -0,0 +1,48 @@
+package test;
+
+import com.example.projectfx.ecosystem.EventScheduler;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.resources.Grass;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSchedulerTest {
+
+    @Test
+    void testEventsRunInTimeThenSchedulingOrder() {
+        EventScheduler scheduler = new EventScheduler();
+        List<String> runs = new ArrayList<>();
+        scheduler.schedule(5, () -> runs.add("late"));
+        scheduler.schedule(2, () -> runs.add("first"));
+        scheduler.schedule(2, () -> runs.add("second"));
+        EventScheduler.ScheduledEvent cancelled = scheduler.schedule(3, () -> runs.add("cancelled"));
+        scheduler.cancel(cancelled);
+
+        assertEquals(2, scheduler.advanceTo(4), "Only the two events due by time 4 should run.");
+        assertEquals(List.of("first", "second"), runs, "Events due at the same time should run in scheduling order.");
+        assertEquals(5, scheduler.getNextTime(), "The late event should still be pending.");
+    }
+
+    @Test
+    void testRegenerationStopsWhenResourceIsRemoved() {
+        Forest forest = new Forest(0.1);
+        Grass grass = new Grass(50, new Positionn(10, 10), 0.2, null);
+        forest.ajouterResource(grass);
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+        engine.scheduleRegeneration(grass, 3);
+
+        engine.run(4);
+        assertEquals(60, grass.getQuantity(), "The grass should have regenerated once, at tick 3.");
+
+        forest.retirerResource(grass);
+        engine.run(10);
+        assertEquals(60, grass.getQuantity(), "A removed grass should no longer regenerate.");
+        assertEquals(0, engine.getScheduler().size(), "The regeneration should no longer be scheduled.");
+    }
+}
@@ -0,0 +1,156 @@
+package test;
+
+import com.example.projectfx.events.Ate;
+import com.example.projectfx.events.Attacked;
+import com.example.projectfx.events.CycleStarted;
+import com.example.projectfx.events.Defended;
+import com.example.projectfx.events.Died;
+import com.example.projectfx.events.EnvironmentAdjusted;
+import com.example.projectfx.events.Fled;
+import com.example.projectfx.events.Hunted;
+import com.example.projectfx.events.Interacted;
+import com.example.projectfx.events.JournalEventSink;
+import com.example.projectfx.events.JournalReader;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.Reproduced;
+import com.example.projectfx.events.SeasonChanged;
+import com.example.projectfx.events.SeasonEffect;
+import com.example.projectfx.events.SimulationEvent;
+import com.example.projectfx.events.SimulationStarted;
+import com.example.projectfx.events.SleepChanged;
+import com.example.projectfx.events.TickCompleted;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalEventSinkTest {
+
+    @Test
+    void testJournalRollsSegmentsAndReadsBackEveryEvent() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            List<SimulationEvent> published = new ArrayList<>();
+            for (int tick = 1; tick <= 2000; tick++) {
+                published.add(new Ate("Rabbit" + tick % 50, "Grass", 20));
+                published.add(new Hunted("Wolf" + tick % 5, "Rabbit" + tick % 50, tick % 3 == 0));
+                published.add(new Reproduced("Rabbit" + tick % 50, true, tick));
+                published.add(new Died("Rabbit" + tick % 50, "no energy left"));
+                published.add(new SeasonChanged("Forest", "Winter"));
+                published.add(new TickCompleted(tick));
+                if (tick % 100 == 0) {
+                    published.add(new CycleStarted());
+                    published.add(new SleepChanged("Wolf" + tick % 5, tick % 200 == 0, true, tick));
+                    published.add(new PredatorDetected("Rabbit" + tick % 50, tick % 300 == 0));
+                    published.add(new Fled("Rabbit" + tick % 50));
+                    published.add(new Attacked("Rabbit" + tick % 50, "Wolf" + tick % 5, true, tick % 200 == 0));
+                    published.add(new EnvironmentAdjusted("Forest", "Densité des arbres", 0.5 - tick / 1e4));
+                    published.add(new SeasonEffect("Forest", "Les feuilles tombent."));
+                    published.add(new Defended("Human", tick, tick % 200 == 0));
+                    published.add(new Interacted("Human", "Rabbit" + tick % 50, tick % 200 == 0, tick % 300 == 0));
+                }
+            }
+            published.add(new SimulationStarted());
+            try (JournalEventSink sink = new JournalEventSink(directory, 16 * 1024, 1000)) {
+                published.forEach(sink::publish);
+                assertTrue(sink.getSegment() > 0, "The journal should have rolled to new segments.");
+                assertEquals(published.size(), sink.getEventCount(), "Every event should be counted.");
+            }
+
+            assertEquals(published, JournalReader.readAll(directory), "Every event should be read back in order.");
+            for (Path segment : JournalReader.segments(directory)) {
+                assertTrue(Files.size(segment) <= 16 * 1024, "No segment should exceed the size limit.");
+            }
+
+            try (JournalEventSink sink = new JournalEventSink(directory, 16 * 1024, 1000)) {
+                sink.publish(new TickCompleted(2001));
+            }
+            List<SimulationEvent> reopened = JournalReader.readAll(directory);
+            assertEquals(new TickCompleted(2001), reopened.get(reopened.size() - 1), "A reopened journal should append after the existing segments.");
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTruncatedRecordEndsTheJournal() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            try (JournalEventSink sink = new JournalEventSink(directory)) {
+                sink.publish(new Ate("Rabbit", "Grass", 20));
+                sink.publish(new Ate("Rabbit", "Grass", 300));
+            }
+            Path segment = JournalReader.segments(directory).get(0);
+            byte[] bytes = Files.readAllBytes(segment);
+            Files.write(segment, Arrays.copyOf(bytes, bytes.length - 1));
+
+            assertEquals(List.of(new Ate("Rabbit", "Grass", 20)), JournalReader.readAll(directory),
+                    "Only the complete records should be read.");
+        } finally {
+            for (Path segment : JournalReader.segments(directory)) {
+                Files.delete(segment);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void testIdleJournalIsSyncedAfterTheInterval() throws Exception {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            try (JournalEventSink sink = new JournalEventSink(directory, JournalEventSink.DEFAULT_SEGMENT_BYTES, 50)) {
+                sink.publish(new Ate("Rabbit", "Grass", 20));
+                long deadline = System.nanoTime() + 5_000_000_000L;
+                List<SimulationEvent> read = JournalReader.readAll(directory);
+                while (read.isEmpty() && System.nanoTime() < deadline) {
+                    Thread.sleep(50);
+                    read = JournalReader.readAll(directory);
+                }
+                assertEquals(List.of(new Ate("Rabbit", "Grass", 20)), read,
+                        "A single event should reach the disk once the interval has elapsed, before the journal is closed.");
+            }
+        } finally {
+            for (Path segment : JournalReader.segments(directory)) {
+                Files.delete(segment);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void testMovesStoreTheirCoordinatesAsNumbers() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            List<SimulationEvent> published = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                published.add(new Moved("Rabbit" + i % 10, (i * 37) % 1024, -(i % 768)));
+            }
+            try (JournalEventSink sink = new JournalEventSink(directory)) {
+                published.forEach(sink::publish);
+            }
+
+            assertEquals(published, JournalReader.readAll(directory), "The moves should be read back with their coordinates.");
+            Path segment = JournalReader.segments(directory).get(0);
+            assertTrue(Files.size(segment) < 6 * published.size(),
+                    "A move should take a few bytes, not a string definition: " + Files.size(segment));
+        } finally {
+            for (Path segment : JournalReader.segments(directory)) {
+                Files.delete(segment);
+            }
+            Files.delete(directory);
+        }
+    }
+}
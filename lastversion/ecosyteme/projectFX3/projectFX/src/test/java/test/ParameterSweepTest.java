@@ -0,0 +1,91 @@
+package test;
+
+import com.example.projectfx.sweep.ParameterSweep;
+import com.example.projectfx.sweep.ScenarioResult;
+import com.example.projectfx.sweep.SweepParameters;
+import com.example.projectfx.sweep.SweepSummary;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParameterSweepTest {
+
+    @Test
+    void testSweepRunsEveryScenarioAndIgnoresTheNumberOfWorkers() throws Exception {
+        ParameterSweep sweep = new ParameterSweep(200);
+        sweep.setRabbits(8, 32);
+        sweep.setWolves(2, 8);
+        sweep.setAttackStrengths(30);
+        sweep.setGrowthRates(0.2);
+        sweep.setSeeds(3L, 5);
+
+        sweep.setParallelism(1);
+        List<ScenarioResult> results = new ArrayList<>();
+        SweepSummary sequential = sweep.run(results::add);
+        sweep.setParallelism(4);
+        SweepSummary parallel = sweep.run();
+
+        assertEquals(20, results.size(), "Every combination should be run once per seed.");
+        assertEquals(4, sequential.getCombinations().size(), "The combinations should be the product of the parameters.");
+        for (SweepParameters parameters : sequential.getCombinations()) {
+            assertEquals(5, sequential.getRuns(parameters), "Each combination should be run once per seed.");
+        }
+        assertEquals(tableOf(sequential), tableOf(parallel), "The summary should not depend on the number of workers.");
+
+        ScenarioResult first = results.get(0);
+        assertEquals(first, ParameterSweep.runScenario(first.parameters(), first.seed(), 200),
+                "A run should only depend on its parameters and its seed.");
+    }
+
+    @Test
+    void testDuplicateValuesYieldEachCombinationOnce() throws Exception {
+        ParameterSweep sweep = new ParameterSweep(20);
+        sweep.setRabbits(8, 8);
+        sweep.setWolves(2, 4, 2);
+        sweep.setSeeds(1L, 2);
+
+        assertEquals(2, sweep.getCombinations().size(), "A duplicate value should not duplicate its combinations.");
+        SweepSummary summary = sweep.run();
+        String[] lines = tableOf(summary).split("\n");
+        assertEquals(3, lines.length, "The table should list each combination once.");
+        for (SweepParameters parameters : summary.getCombinations()) {
+            assertEquals(2, summary.getRuns(parameters), "Each combination should be run once per seed.");
+        }
+        SweepParameters parameters = new SweepParameters(8, 2, 30, 0.2);
+        assertEquals(1, new SweepSummary(List.of(parameters, parameters)).getCombinations().size(),
+                "A combination listed twice should get a single row.");
+    }
+
+    @Test
+    void testSummaryAggregatesTheRuns() {
+        SweepParameters parameters = new SweepParameters(16, 8, 30, 0.2);
+        SweepSummary summary = new SweepSummary(List.of(parameters));
+        summary.add(new ScenarioResult(parameters, 1, 40, 0, 3, 10, 40));
+        summary.add(new ScenarioResult(parameters, 2, 100, 6, 2, 12, -1));
+        summary.add(new ScenarioResult(parameters, 3, 100, 12, 1, 14, -1));
+
+        assertEquals(3, summary.getRuns(parameters), "Every run should be counted.");
+        assertEquals(1.0 / 3, summary.getCollapseRate(parameters), 1e-9, "One run out of three collapsed.");
+        assertEquals(6, summary.getMeanRabbits(parameters), 1e-9, "The mean number of rabbits should be computed.");
+        String[] lines = tableOf(summary).split("\n");
+        assertEquals(2, lines.length, "The table should have a header and one line per combination.");
+        assertEquals("16,8,30,0.2,3,0.3333,40.0,6.000,6.000,0,12,2.000,12.000", lines[1], "The line should hold the aggregates.");
+        assertThrows(IllegalArgumentException.class, () -> summary.getRuns(new SweepParameters(1, 1, 1, 1)),
+                "An unknown combination should be rejected.");
+    }
+
+    private static String tableOf(SweepSummary summary) {
+        StringWriter out = new StringWriter();
+        try {
+            summary.write(out);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out.toString();
+    }
+}
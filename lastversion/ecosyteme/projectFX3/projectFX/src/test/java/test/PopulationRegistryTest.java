@@ -0,0 +1,59 @@
+package test;
+
+import com.example.projectfx.ecosystem.Ecosystem;
+import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.PopulationRegistry;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.SpeciesKind;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopulationRegistryTest {
+
+    @Test
+    void testBirthsAndDeathsAreCounted() {
+        Environment forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 30, new Positionn(5, 5), forest, 2.0, 12, null);
+        Wolf wolf = new Wolf("TestWolf", 50, new Positionn(8, 8), forest, true, 15, null);
+
+        forest.ajouterEspece(rabbit);
+        forest.ajouterEspece(wolf);
+        forest.retirerEspece(rabbit);
+        forest.retirerEspece(rabbit);
+
+        PopulationRegistry registry = forest.getPopulationRegistry();
+        assertEquals(0, registry.count(SpeciesKind.RABBIT), "The removed rabbit should no longer be counted.");
+        assertEquals(1, registry.getDeaths(SpeciesKind.RABBIT), "A species removed twice should only die once.");
+        assertEquals(1, registry.count(SpeciesKind.WOLF), "The wolf should still be counted.");
+    }
+
+    @Test
+    void testEcosystemsDoNotShareCounts() {
+        Ecosystem first = new Ecosystem();
+        Ecosystem second = new Ecosystem();
+        Environment firstForest = new Forest(0.1);
+        Environment secondForest = new Forest(0.1);
+        first.ajouterEnvironnement(firstForest);
+        second.ajouterEnvironnement(secondForest);
+
+        first.ajouterEspece(new Rabbit("FirstRabbit", 30, new Positionn(5, 5), firstForest, 2.0, 12, null));
+
+        assertEquals(1, first.getPopulationRegistry().count(SpeciesKind.RABBIT), "The first ecosystem should count its rabbit.");
+        assertEquals(0, second.getPopulationRegistry().count(SpeciesKind.RABBIT), "The second ecosystem should not see it.");
+    }
+
+    @Test
+    void testConcurrentBirthsAreNotLost() {
+        PopulationRegistry registry = new PopulationRegistry();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> registry.recordBirth(SpeciesKind.FISH));
+
+        assertEquals(100_000, registry.count(SpeciesKind.FISH), "Every concurrent birth should be counted.");
+    }
+}
@@ -0,0 +1,37 @@
+package test;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.species.Rabbit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionnTest {
+
+    @Test
+    void testPackedCoordinatesRoundTrip() {
+        long packed = Positionn.pack(-12, 345);
+
+        assertEquals(-12, Positionn.packedX(packed), "The X-coordinate should survive packing.");
+        assertEquals(345, Positionn.packedY(packed), "The Y-coordinate should survive packing.");
+        assertTrue(Positionn.isWithin(packed, Positionn.pack(-9, 349), 5), "Points 5 apart should be within 5.");
+        assertFalse(Positionn.isWithin(packed, Positionn.pack(-9, 350), 5), "Points more than 5 apart should not be within 5.");
+    }
+
+    @Test
+    void testPositionsAreNotShared() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 50, new Positionn(1, 1), forest, 2.0, 10, null);
+        Grass grass = new Grass(50, new Positionn(10, 20), 0.2, null);
+
+        rabbit.setPosition(grass.getPosition());
+        rabbit.moveTo(30, 40);
+        rabbit.getPosition().moveBy(5, 5);
+
+        assertEquals(10, grass.getX(), "Moving the rabbit should not move the grass.");
+        assertEquals(20, grass.getY(), "Moving the rabbit should not move the grass.");
+        assertEquals(30, rabbit.getX(), "Changing a copy of the position should not move the rabbit.");
+    }
+}
@@ -0,0 +1,93 @@
+package test;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.RandomService;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.events.PredatorDetected;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.species.Rabbit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomServiceTest {
+
+    private static long[] draw(SplittableRandom random) {
+        long[] values = new long[8];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        return values;
+    }
+
+    @Test
+    void testSameSeedGivesSameStreams() {
+        RandomService first = new RandomService(42L);
+        RandomService second = new RandomService(42L);
+
+        assertArrayEquals(draw(first.split()), draw(second.split()), "Split streams should only depend on the seed.");
+        assertArrayEquals(draw(first.stream(3, 7)), draw(second.stream(3, 7)), "Keyed streams should only depend on the seed and keys.");
+    }
+
+    @Test
+    void testKeyedStreamsDoNotConsumeState() {
+        RandomService service = new RandomService(42L);
+
+        long[] before = draw(service.stream(5, 1));
+        service.split();
+        long[] after = draw(service.stream(5, 1));
+
+        assertArrayEquals(before, after, "A keyed stream should not depend on previous calls.");
+        assertFalse(Arrays.equals(draw(service.stream(5, 1)), draw(service.stream(5, 2))),
+                "Neighboring keys should give different streams.");
+    }
+
+    @Test
+    void testSpeciesStreamsFollowTheSeedOfTheirEngine() {
+        RandomService previous = RandomService.getDefault();
+        List<Boolean> first;
+        List<Boolean> second;
+        try {
+            RandomService.setDefault(new RandomService(1L));
+            first = detections(42L);
+            RandomService.setDefault(new RandomService(2L));
+            second = detections(42L);
+        } finally {
+            RandomService.setDefault(previous);
+        }
+
+        assertEquals(first, second, "The detections should only depend on the seed of the engine.");
+        assertNotEquals(first, detections(43L), "Another seed should give other detections.");
+    }
+
+    private static List<Boolean> detections(long seed) {
+        Forest forest = new Forest(0.5);
+        new SimulationEngine(forest, 800, 600, seed);
+        List<Rabbit> rabbits = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Rabbit rabbit = new Rabbit("Rabbit" + i, 80, new Positionn(i * 10, i * 5), forest, 2.0, 10, null);
+            forest.ajouterEspece(rabbit);
+            rabbits.add(rabbit);
+        }
+        List<Boolean> detected = new ArrayList<>();
+        SimulationEvents.setSink(event -> {
+            if (event instanceof PredatorDetected detection) {
+                detected.add(detection.detected());
+            }
+        });
+        try {
+            for (Rabbit rabbit : rabbits) {
+                rabbit.detecterPredateur();
+            }
+        } finally {
+            SimulationEvents.setSink(null);
+        }
+        return detected;
+    }
+}
@@ -0,0 +1,158 @@
+package test;
+
+import com.example.projectfx.ecosystem.Ecosystem;
+import com.example.projectfx.ecosystem.Environment;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.ReplayEngine;
+import com.example.projectfx.ecosystem.RunRecorder;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.ecosystem.SimulationListener;
+import com.example.projectfx.ecosystem.TickStatistics;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 1000;
+    private static final long SEED = 7L;
+    private static final int REGENERATION_TICKS = 10;
+
+    @Test
+    void testSeekReconstructsTheRecordedRun() throws Exception {
+        Path directory = Files.createTempDirectory("replay");
+        try {
+            Ecosystem ecosystem = new Ecosystem();
+            Forest forest = new Forest(0.1);
+            ecosystem.ajouterEnvironnement(forest);
+            populate(forest);
+            SimulationEngine engine = new SimulationEngine(forest, WIDTH, HEIGHT, SEED);
+            forest.getResources().forEach(resource -> engine.scheduleRegeneration(resource, REGENERATION_TICKS));
+            RunRecorder recorder = new RunRecorder(ecosystem, SEED, directory, REGENERATION_TICKS, Runnable::run);
+            recorder.record(0);
+            engine.addListener(recorder);
+
+            List<List<String>> states = new ArrayList<>();
+            states.add(stateOf(forest));
+            for (int tick = 1; tick <= 45; tick++) {
+                engine.step();
+                states.add(stateOf(forest));
+            }
+            recorder.awaitWrites();
+
+            ReplayEngine replay = openReplay(directory);
+            assertEquals(0, replay.getFirstTick(), "The replay should start at the first checkpoint.");
+            assertEquals(40, replay.getLastCheckpointTick(), "A checkpoint should be recorded every interval.");
+            for (int tick : new int[]{37, 5, 45, 20, 0, 44}) {
+                replay.seek(tick);
+                assertEquals(tick, replay.getTick(), "The replay should reach the tick.");
+                assertEquals(states.get(tick), stateOf(replay.getEnvironment()), "Tick " + tick + " should match the recorded run.");
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void testAdvancePlaysTicksAtTheChosenSpeed() throws Exception {
+        Path directory = Files.createTempDirectory("replay");
+        try {
+            Ecosystem ecosystem = new Ecosystem();
+            Forest forest = new Forest(0.1);
+            ecosystem.ajouterEnvironnement(forest);
+            populate(forest);
+            new RunRecorder(ecosystem, SEED, directory, REGENERATION_TICKS, Runnable::run).record(0);
+
+            ReplayEngine replay = openReplay(directory);
+            assertThrows(IllegalStateException.class, () -> replay.advance(1), "Playing before a seek should be rejected.");
+            replay.seek(0);
+            AtomicInteger played = new AtomicInteger();
+            replay.addListener(new SimulationListener() {
+                @Override
+                public void onTickCompleted(TickStatistics statistics) {
+                    played.incrementAndGet();
+                }
+            });
+
+            assertEquals(0, replay.advance(500_000_000L), "Half a second at 1x should not play a tick yet.");
+            assertEquals(1, replay.advance(500_000_000L), "A second at 1x should play one tick.");
+            replay.setSpeed(ReplayEngine.MAX_SPEED);
+            assertEquals(16, replay.advance(16_000_000L), "A frame at 1000x should play sixteen ticks.");
+            assertEquals(1000, replay.advance(60_000_000_000L), "A stalled view should not play more than a second at once.");
+            assertEquals(1017, played.get(), "The listeners should be notified of every played tick.");
+
+            replay.seek(30);
+            assertEquals(1017, played.get(), "The ticks skipped by a seek should not be notified.");
+            assertThrows(IllegalArgumentException.class, () -> replay.setSpeed(2000), "A speed over the maximum should be rejected.");
+            assertThrows(IllegalArgumentException.class, () -> replay.seek(-1), "A tick before the first checkpoint should be rejected.");
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static ReplayEngine openReplay(Path directory) throws Exception {
+        ReplayEngine replay = ReplayEngine.open(directory, 0, WIDTH, HEIGHT, 1);
+        replay.setEngineSetup(restored -> restored.getEnvironment().getResources()
+                .forEach(resource -> restored.resumeRegeneration(resource, REGENERATION_TICKS)));
+        return replay;
+    }
+
+    private static void populate(Forest forest) throws Exception {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 60; i++) {
+            forest.ajouterEspece(new Rabbit("Rabbit" + i, 80, new Positionn(random.nextInt(WIDTH), random.nextInt(HEIGHT)),
+                    forest, 2.0, 10, null));
+        }
+        for (int i = 0; i < 10; i++) {
+            forest.ajouterEspece(new Wolf("Wolf" + i, 100, new Positionn(random.nextInt(WIDTH), random.nextInt(HEIGHT)),
+                    forest, true, 15, null));
+        }
+        for (int i = 0; i < 20; i++) {
+            forest.ajouterResource(new Grass(40, new Positionn(random.nextInt(WIDTH), random.nextInt(HEIGHT)), 0.5, null));
+        }
+        // Sleeping then waking up moves species to the end of the active species
+        for (int i = 0; i < 60; i += 7) {
+            Species species = forest.getSpeciesList().get(i);
+            species.setSleeping(true);
+        }
+        for (int i = 0; i < 60; i += 14) {
+            forest.getSpeciesList().get(i).setSleeping(false);
+        }
+    }
+
+    private static List<String> stateOf(Environment environment) {
+        List<String> state = new ArrayList<>();
+        for (Species species : environment.getSpeciesList()) {
+            state.add(species.getName() + "@" + species.getX() + "," + species.getY() + ":" + species.getEnergy()
+                    + (species.isSleeping() ? "z" : ""));
+        }
+        for (Resource resource : environment.getResources()) {
+            state.add(resource.getType() + "@" + resource.getX() + "," + resource.getY() + ":" + resource.getQuantity());
+        }
+        return state;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package test;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.ResourceLedger;
+import com.example.projectfx.resources.Grass;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceLedgerTest {
+
+    @Test
+    void testLazyQuantitiesMatchEagerUpdates() {
+        ResourceLedger ledger = new ResourceLedger();
+        Random random = new Random(42);
+        int[] eager = new int[50];
+        int[] known = new int[50];
+        int[] since = new int[50];
+        for (int season = 0; season < 1000; season++) {
+            int amount = random.nextInt(20);
+            if (random.nextBoolean()) {
+                ledger.add(amount);
+                for (int i = 0; i < eager.length; i++) {
+                    eager[i] += amount;
+                }
+            } else {
+                ledger.subtract(amount);
+                for (int i = 0; i < eager.length; i++) {
+                    eager[i] = Math.max(0, eager[i] - amount);
+                }
+            }
+            // Some resources are read and consumed along the way
+            int read = random.nextInt(eager.length);
+            assertEquals(eager[read], ledger.quantityOf(known[read], since[read]), "A lazy quantity should match the eager one.");
+            eager[read] = random.nextInt(30);
+            known[read] = eager[read];
+            since[read] = ledger.getEpoch();
+        }
+        for (int i = 0; i < eager.length; i++) {
+            assertEquals(eager[i], ledger.quantityOf(known[i], since[i]), "Every lazy quantity should match the eager one.");
+        }
+    }
+
+    @Test
+    void testRemovedResourceKeepsItsQuantity() {
+        Forest forest = new Forest(0.1);
+        Grass grass = new Grass(50, new Positionn(10, 10), 0.2, null);
+        forest.ajouterResource(grass);
+
+        forest.mettreAJourSaison("Winter");
+        forest.mettreAJourSaison("Winter");
+        forest.mettreAJourSaison("Winter");
+        grass.consume(5);
+        forest.retirerResource(grass);
+        forest.mettreAJourSaison("Spring");
+
+        assertEquals(15, grass.getQuantity(), "A removed grass should no longer follow the seasons.");
+        forest.ajouterResource(grass);
+        forest.mettreAJourSaison("Winter");
+        forest.mettreAJourSaison("Winter");
+        assertEquals(0, grass.getQuantity(), "A grass should not go below zero.");
+        forest.mettreAJourSaison("Summer");
+        assertEquals(5, grass.getQuantity(), "A grass should regrow from zero.");
+    }
+}
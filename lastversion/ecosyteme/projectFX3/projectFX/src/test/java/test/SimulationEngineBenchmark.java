@@ -0,0 +1,84 @@
+package test;
+
+import com.example.projectfx.ecosystem.ExecutionMode;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.ecosystem.TickStatistics;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Wolf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares the time of a tick of a crowded forest in {@link ExecutionMode#SEQUENTIAL}
+ * and {@link ExecutionMode#PARALLEL} mode, and checks that both modes give the same
+ * statistics. It is not a unit test: run it on its own, on a machine with several cores.
+ * <p>
+ * Arguments: optionally the number of species, the number of ticks and the number of
+ * workers of the parallel mode.
+ */
+final class SimulationEngineBenchmark {
+    private static final int WIDTH = 4096;
+    private static final int HEIGHT = 3072;
+
+    private SimulationEngineBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int species = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        System.out.printf("%d species, %d ticks, %d workers%n", species, ticks, workers);
+
+        // Warm up both modes before measuring
+        run(ExecutionMode.SEQUENTIAL, species / 10, ticks, pool);
+        run(ExecutionMode.PARALLEL, species / 10, ticks, pool);
+        for (int round = 0; round < 3; round++) {
+            Result sequential = run(ExecutionMode.SEQUENTIAL, species, ticks, pool);
+            Result parallel = run(ExecutionMode.PARALLEL, species, ticks, pool);
+            if (!sequential.statistics().equals(parallel.statistics())) {
+                throw new IllegalStateException("The modes diverged: " + sequential.statistics() + " " + parallel.statistics());
+            }
+            System.out.printf("sequential %.1f ms/tick, parallel %.1f ms/tick, speedup %.2fx, %s%n",
+                    sequential.millisPerTick(), parallel.millisPerTick(),
+                    sequential.millisPerTick() / parallel.millisPerTick(), parallel.statistics().get(ticks - 1));
+        }
+        pool.shutdown();
+    }
+
+    private static Result run(ExecutionMode mode, int species, int ticks, ForkJoinPool pool) {
+        Forest forest = new Forest(0.1);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < species; i++) {
+            Positionn position = new Positionn(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+            if (i % 10 == 0) {
+                forest.ajouterEspece(new Wolf("Wolf" + i, 100, position, forest, true, 15, null));
+            } else {
+                forest.ajouterEspece(new Rabbit("Rabbit" + i, 80, position, forest, 2.0, 10, null));
+            }
+        }
+        for (int i = 0; i < species / 10; i++) {
+            forest.ajouterResource(new Grass(50, new Positionn(random.nextInt(WIDTH), random.nextInt(HEIGHT)), 0.2, null));
+        }
+        SimulationEngine engine = new SimulationEngine(forest, WIDTH, HEIGHT, 11L);
+        engine.setExecutionMode(mode);
+        engine.setPool(pool);
+
+        List<TickStatistics> statistics = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            statistics.add(engine.step());
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(statistics, elapsed / 1e6 / ticks);
+    }
+
+    private record Result(List<TickStatistics> statistics, double millisPerTick) {
+    }
+}
@@ -0,0 +1,162 @@
+package test;
+
+import com.example.projectfx.ecosystem.ExecutionMode;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.ecosystem.SimulationListener;
+import com.example.projectfx.ecosystem.TickStatistics;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.resources.Resource;
+import com.example.projectfx.species.Carnivore;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Species;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    @Test
+    void testRunWithoutToolkit() {
+        Forest forest = new Forest(0.1);
+        forest.ajouterEspece(new Rabbit("TestRabbit", 80, new Positionn(500, 400), forest, 2.0, 10, null));
+        forest.ajouterEspece(new Wolf("TestWolf", 100, new Positionn(10, 10), forest, true, 15, null));
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+
+        TickStatistics statistics = engine.run(1000);
+
+        assertEquals(1000, engine.getTick(), "The engine should have run 1000 ticks.");
+        assertEquals(1000, statistics.tick(), "The statistics should belong to the last tick.");
+        assertTrue(forest.getSpeciesList().isEmpty(), "Every species should have starved after 1000 ticks.");
+    }
+
+    @Test
+    void testListenerIsNotifiedOfDeaths() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 5, new Positionn(500, 400), forest, 2.0, 10, null);
+        forest.ajouterEspece(rabbit);
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+        List<Species> deaths = new ArrayList<>();
+        engine.addListener(new SimulationListener() {
+            @Override
+            public void onSpeciesDied(Species species) {
+                deaths.add(species);
+            }
+        });
+
+        TickStatistics statistics = engine.step();
+
+        assertEquals(List.of(rabbit), deaths, "The starving rabbit should be reported as dead.");
+        assertEquals(0, statistics.rabbits(), "No rabbit should be left.");
+    }
+
+    @Test
+    void testSleepingSpeciesIsSkipped() {
+        Forest forest = new Forest(0.1);
+        Rabbit sleeper = new Rabbit("Sleeper", 80, new Positionn(500, 400), forest, 2.0, 10, null);
+        Rabbit walker = new Rabbit("Walker", 80, new Positionn(200, 200), forest, 2.0, 10, null);
+        forest.ajouterEspece(sleeper);
+        forest.ajouterEspece(walker);
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+
+        sleeper.sleep();
+        assertEquals(List.of(walker), forest.getActiveSpecies(), "A sleeping rabbit should leave the active species.");
+        engine.step();
+        assertEquals(100, sleeper.getEnergy(), "A sleeping rabbit should not spend energy moving.");
+        assertEquals(500, sleeper.getX(), "A sleeping rabbit should not move.");
+
+        sleeper.wakeUp();
+        engine.step();
+        assertEquals(95, sleeper.getEnergy(), "A rabbit woken up should move again.");
+        assertEquals(2, forest.getSpeciesList().size(), "Sleeping does not remove a species.");
+    }
+
+    @Test
+    void testRabbitEatsNearbyGrass() {
+        Forest forest = new Forest(0.1);
+        Rabbit rabbit = new Rabbit("TestRabbit", 50, new Positionn(500, 400), forest, 2.0, 10, null);
+        Grass grass = new Grass(50, new Positionn(510, 410), 0.2, null);
+        forest.ajouterEspece(rabbit);
+        forest.ajouterResource(grass);
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+        engine.setInteractionRadius(2000);
+
+        TickStatistics statistics = engine.step();
+
+        assertEquals(0, statistics.grass(), "The grass should have been eaten.");
+        assertEquals(65, rabbit.getEnergy(), "Energy should be 50 - 5 (move) + 20 (grass).");
+    }
+
+    private static Forest createCrowdedForest() {
+        Forest forest = new Forest(0.1);
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            forest.ajouterEspece(new Rabbit("Rabbit" + i, 100, new Positionn(random.nextInt(1024), random.nextInt(768)), forest, 2.0, 10, null));
+            forest.ajouterResource(new Grass(50, new Positionn(random.nextInt(1024), random.nextInt(768)), 0.2, null));
+        }
+        for (int i = 0; i < 200; i++) {
+            forest.ajouterEspece(new Wolf("Wolf" + i, 100, new Positionn(random.nextInt(1024), random.nextInt(768)), forest, true, 15, null));
+        }
+        return forest;
+    }
+
+    @Test
+    void testParallelTickClaimsEachTargetOnce() {
+        Forest forest = createCrowdedForest();
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+        engine.setExecutionMode(ExecutionMode.PARALLEL);
+        engine.setTileCapacity(64);
+        Map<Resource, Integer> eaten = new IdentityHashMap<>();
+        Map<Species, Integer> hunted = new IdentityHashMap<>();
+        engine.addListener(new SimulationListener() {
+            @Override
+            public void onResourceEaten(Species species, Resource resource) {
+                eaten.merge(resource, 1, Integer::sum);
+            }
+
+            @Override
+            public void onHunt(Carnivore predator, Species prey, boolean success) {
+                if (success) {
+                    hunted.merge(prey, 1, Integer::sum);
+                }
+            }
+        });
+
+        TickStatistics statistics = engine.step();
+
+        assertFalse(eaten.isEmpty(), "Some grass should have been eaten.");
+        assertTrue(eaten.values().stream().allMatch(count -> count == 1), "Each grass should be eaten only once.");
+        assertTrue(hunted.values().stream().allMatch(count -> count == 1), "Each prey should be hunted only once.");
+        assertEquals(2000 - eaten.size(), statistics.grass(), "Every eaten grass should be removed.");
+        assertEquals(2000 - hunted.size(), statistics.rabbits(), "Every hunted rabbit should be removed.");
+    }
+
+    @Test
+    void testParallelRunMatchesSequentialRun() {
+        Forest sequentialForest = createCrowdedForest();
+        Forest parallelForest = createCrowdedForest();
+        SimulationEngine sequential = new SimulationEngine(sequentialForest, 1024, 768, 42L);
+        SimulationEngine parallel = new SimulationEngine(parallelForest, 1024, 768, 42L);
+        parallel.setExecutionMode(ExecutionMode.PARALLEL);
+        parallel.setTileCapacity(32);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(sequential.step(), parallel.step(), "Both runs should give the same statistics at tick " + i + ".");
+        }
+
+        List<Species> expected = sequentialForest.getSpeciesList();
+        List<Species> actual = parallelForest.getSpeciesList();
+        assertEquals(expected.size(), actual.size(), "Both runs should keep the same species.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString(), "Both runs should give the same species state.");
+        }
+    }
+}
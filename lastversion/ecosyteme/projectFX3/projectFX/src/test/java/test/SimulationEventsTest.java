@@ -0,0 +1,106 @@
+package test;
+
+import com.example.projectfx.ecosystem.Ecosystem;
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.Season;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.events.CycleStarted;
+import com.example.projectfx.events.Defended;
+import com.example.projectfx.events.EnvironmentAdjusted;
+import com.example.projectfx.events.Interacted;
+import com.example.projectfx.events.Moved;
+import com.example.projectfx.events.SeasonEffect;
+import com.example.projectfx.events.SimulationEvent;
+import com.example.projectfx.events.SimulationEvents;
+import com.example.projectfx.events.SimulationStarted;
+import com.example.projectfx.events.SleepChanged;
+import com.example.projectfx.species.Human;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEventsTest {
+
+    @Test
+    void testDisabledEventsPrintNothing() {
+        Forest forest = new Forest(0.5);
+        Ecosystem ecosystem = new Ecosystem();
+        ecosystem.ajouterEnvironnement(forest);
+        PrintStream previous = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        try {
+            runScenario(ecosystem, forest);
+        } finally {
+            System.setOut(previous);
+        }
+        assertEquals("", output.toString(StandardCharsets.UTF_8), "Nothing should be printed while the events are disabled.");
+    }
+
+    @Test
+    void testEnabledEventsAreTyped() {
+        Forest forest = new Forest(0.5);
+        Ecosystem ecosystem = new Ecosystem();
+        ecosystem.ajouterEnvironnement(forest);
+        List<SimulationEvent> events = new ArrayList<>();
+        SimulationEvents.setSink(events::add);
+        List<Rabbit> rabbits;
+        try {
+            rabbits = runScenario(ecosystem, forest);
+        } finally {
+            SimulationEvents.setSink(null);
+        }
+
+        assertTrue(events.contains(new SimulationStarted()), "The start of the simulation should be published.");
+        assertTrue(events.contains(new CycleStarted()), "The start of a cycle should be published.");
+        assertTrue(events.stream().anyMatch(EnvironmentAdjusted.class::isInstance), "The rules of the forest should be published.");
+        assertTrue(events.stream().anyMatch(SeasonEffect.class::isInstance), "The effect of the season should be published.");
+        List<String> sleeps = events.stream()
+                .filter(SleepChanged.class::isInstance)
+                .map(SleepChanged.class::cast)
+                .map(event -> event.sleeping() + "/" + event.changed())
+                .toList();
+        assertEquals(List.of("true/true", "true/false", "false/true"), sleeps,
+                "Falling asleep, being asleep already and waking up should be published.");
+        Rabbit mover = rabbits.get(1);
+        assertEquals(new Moved(mover.getName(), mover.getX(), mover.getY()),
+                events.stream().filter(event -> event instanceof Moved moved && moved.species().equals(mover.getName()))
+                        .reduce((first, second) -> second).orElseThrow(),
+                "A move should report the position of the species.");
+        assertTrue(events.contains(new Defended("Human", 20, false)), "A failed defense should be published.");
+        assertTrue(events.contains(new Interacted("Human", "Mover", true, false)), "Feeding a herbivore should be published.");
+        assertTrue(events.contains(new Interacted("Human", "Wolf", false, true)), "Keeping away from a carnivore should be published.");
+    }
+
+    private static List<Rabbit> runScenario(Ecosystem ecosystem, Forest forest) {
+        Rabbit sleeper = new Rabbit("Sleeper", 80, new Positionn(100, 100), forest, 2.0, 10, null);
+        Rabbit mover = new Rabbit("Mover", 80, new Positionn(300, 300), forest, 2.0, 10, null);
+        forest.ajouterEspece(sleeper);
+        forest.ajouterEspece(mover);
+        forest.ajouterEspece(new Wolf("Wolf", 100, new Positionn(600, 400), forest, true, 15, null));
+
+        ecosystem.lancerSimulation();
+        forest.mettreAJourSaison(Season.WINTER);
+        sleeper.sleep();
+        sleeper.sleep();
+        sleeper.wakeUp();
+        mover.detecterPredateur();
+        Human human = new Human("Human", 100, new Positionn(200, 200), forest, 10, 5, null);
+        human.defend(20);
+        human.interactWith(mover);
+        human.interactWith(forest.getSpeciesList().get(2));
+        SimulationEngine engine = new SimulationEngine(forest, 800, 600, 7L);
+        engine.step();
+        engine.step();
+        return List.of(sleeper, mover);
+    }
+}
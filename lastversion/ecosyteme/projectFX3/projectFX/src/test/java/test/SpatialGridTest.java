@@ -0,0 +1,49 @@
+package test;
+
+import com.example.projectfx.ecosystem.SpatialGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+
+    @Test
+    void testNearestWithinRadius() {
+        SpatialGrid<String> grid = new SpatialGrid<>(100);
+        grid.insert("near", 120, 110);
+        grid.insert("far", 300, 300);
+        grid.insert("closest", 105, 100);
+
+        assertEquals("closest", grid.nearest(100, 100, 100, s -> true), "The closest entity should be returned.");
+        assertEquals("near", grid.nearest(100, 100, 100, s -> !s.equals("closest")), "The filter should be applied.");
+        assertNull(grid.nearest(500, 500, 100, s -> true), "No entity should be found out of range.");
+    }
+
+    @Test
+    void testMoveAndRemove() {
+        SpatialGrid<String> grid = new SpatialGrid<>(50);
+        grid.insert("rabbit", 10, 10);
+        grid.move("rabbit", 400, 400);
+
+        assertNull(grid.nearest(10, 10, 50, s -> true), "The rabbit should have left its old cell.");
+        assertEquals("rabbit", grid.nearest(410, 390, 50, s -> true), "The rabbit should be found in its new cell.");
+
+        assertTrue(grid.remove("rabbit"), "The rabbit should be removed.");
+        assertEquals(0, grid.size(), "The grid should be empty.");
+    }
+
+    @Test
+    void testForEachWithinUsesStrictDistance() {
+        SpatialGrid<String> grid = new SpatialGrid<>(100);
+        grid.insert("inside", 99, 0);
+        grid.insert("border", 100, 0);
+        List<String> found = new ArrayList<>();
+
+        grid.forEachWithin(0, 0, 100, found::add);
+
+        assertEquals(List.of("inside"), found, "Only entities strictly within the radius should be visited.");
+    }
+}
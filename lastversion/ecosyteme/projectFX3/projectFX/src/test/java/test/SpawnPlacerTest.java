@@ -0,0 +1,44 @@
+package test;
+
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.SpawnPlacer;
+import com.example.projectfx.exceptions.EcosystemException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpawnPlacerTest {
+
+    @Test
+    void testPlacedPositionsKeepMinimumDistance() throws EcosystemException {
+        SpawnPlacer placer = new SpawnPlacer(0, 1023, 0, 767, 50, new Random(7));
+
+        List<Positionn> positions = placer.placeAll(80);
+
+        for (int i = 0; i < positions.size(); i++) {
+            for (int j = i + 1; j < positions.size(); j++) {
+                assertFalse(positions.get(i).isTooClose(positions.get(j), 50), "Positions should be at least 50 apart.");
+            }
+        }
+    }
+
+    @Test
+    void testFullAreaReportsFailure() {
+        SpawnPlacer placer = new SpawnPlacer(0, 99, 0, 99, 50, new Random(7));
+
+        assertThrows(EcosystemException.class, () -> placer.placeAll(100), "A full area should be reported instead of looping forever.");
+    }
+
+    @Test
+    void testReleasedPositionCanBeReused() throws EcosystemException {
+        SpawnPlacer placer = new SpawnPlacer(0, 0, 0, 0, 10, new Random(7));
+        Positionn positionn = placer.place();
+
+        assertFalse(placer.isFree(0, 0), "The only position should be occupied.");
+        placer.release(positionn);
+        assertTrue(placer.isFree(0, 0), "The released position should be free again.");
+    }
+}
@@ -0,0 +1,109 @@
+package test;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.ecosystem.TickStatistics;
+import com.example.projectfx.history.ColumnType;
+import com.example.projectfx.history.HistoryRecorder;
+import com.example.projectfx.history.TimeSeriesReader;
+import com.example.projectfx.history.TimeSeriesWriter;
+import com.example.projectfx.resources.Grass;
+import com.example.projectfx.species.Rabbit;
+import com.example.projectfx.species.Wolf;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeSeriesTest {
+
+    @Test
+    void testMillionTicksFitInAFewMegabytes() throws Exception {
+        Path file = Files.createTempFile("history", ".ts");
+        int ticks = 1_000_000;
+        long[] rabbits = new long[ticks];
+        double[] salinity = new double[ticks];
+        try {
+            SplittableRandom random = new SplittableRandom(11);
+            try (TimeSeriesWriter writer = new TimeSeriesWriter(file)) {
+                int tick = writer.addColumn("tick", ColumnType.LONG);
+                int rabbit = writer.addColumn("rabbit", ColumnType.LONG);
+                int wolf = writer.addColumn("wolf", ColumnType.LONG);
+                int density = writer.addColumn("salinity", ColumnType.DOUBLE);
+                long population = 500;
+                double value = 35;
+                for (int i = 0; i < ticks; i++) {
+                    population = Math.max(0, population + random.nextInt(-3, 4));
+                    if (i % 1000 == 0) {
+                        value = 30 + random.nextDouble() * 10;
+                    }
+                    rabbits[i] = population;
+                    salinity[i] = value;
+                    writer.set(tick, i + 1);
+                    writer.set(rabbit, population);
+                    if (i == 0) {
+                        writer.set(wolf, 8);
+                    }
+                    writer.set(density, value);
+                    writer.endRow();
+                }
+            }
+            assertTrue(Files.size(file) < 4_000_000, "A million ticks should take a few megabytes, not " + Files.size(file));
+
+            TimeSeriesReader reader = TimeSeriesReader.open(file);
+            assertEquals(ticks, reader.getRowCount(), "Every row should be read back.");
+            assertEquals(List.of("tick", "rabbit", "wolf", "salinity"), reader.getColumns(), "The columns should keep their order.");
+            assertArrayEquals(rabbits, reader.readLongs("rabbit"), "The counts should be read back exactly.");
+            assertArrayEquals(salinity, reader.readDoubles("salinity"), "The real numbers should be read back exactly.");
+            long[] wolves = reader.readLongs("wolf");
+            assertEquals(8, wolves[ticks - 1], "A column not set should repeat its previous value.");
+            assertEquals(ticks, reader.readLongs("tick")[ticks - 1], "The last tick should be read back.");
+            assertThrows(IllegalArgumentException.class, () -> reader.readDoubles("rabbit"), "A type mismatch should be rejected.");
+            assertThrows(IllegalArgumentException.class, () -> reader.readLongs("fox"), "An unknown column should be rejected.");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testRecorderWritesTheMetricsOfEachTick() throws Exception {
+        Path file = Files.createTempFile("history", ".ts");
+        try {
+            Forest forest = new Forest(0.4);
+            for (int i = 0; i < 30; i++) {
+                forest.ajouterEspece(new Rabbit("Rabbit" + i, 80, new Positionn(i * 20, i * 10), forest, 2.0, 10, null));
+            }
+            forest.ajouterEspece(new Wolf("Wolf", 100, new Positionn(300, 150), forest, true, 15, null));
+            forest.ajouterResource(new Grass(40, new Positionn(100, 50), 0.5, null));
+            SimulationEngine engine = new SimulationEngine(forest, 800, 600, 5L);
+            List<TickStatistics> expected = new ArrayList<>();
+            try (TimeSeriesWriter writer = new TimeSeriesWriter(file, 16)) {
+                engine.addListener(new HistoryRecorder(forest, writer));
+                for (int i = 0; i < 50; i++) {
+                    expected.add(engine.step());
+                }
+            }
+
+            TimeSeriesReader reader = TimeSeriesReader.open(file);
+            assertEquals(50, reader.getRowCount(), "One row should be written per tick.");
+            long[] ticks = reader.readLongs("tick");
+            long[] rabbits = reader.readLongs("rabbit");
+            long[] grass = reader.readLongs("grass");
+            for (int i = 0; i < 50; i++) {
+                assertEquals(expected.get(i).tick(), ticks[i], "The tick should be recorded.");
+                assertEquals(expected.get(i).rabbits(), rabbits[i], "The rabbits should be counted.");
+                assertEquals(expected.get(i).grass(), grass[i], "The grass should be counted.");
+            }
+            assertEquals(0.4, reader.readDoubles("treeDensity")[49], "The tree density should be recorded.");
+            assertEquals(ColumnType.LONG, reader.getType("grassQuantity"), "The quantities should be whole numbers.");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package test;
+
+import com.example.projectfx.ecosystem.Forest;
+import com.example.projectfx.ecosystem.Positionn;
+import com.example.projectfx.ecosystem.SimulationEngine;
+import com.example.projectfx.ecosystem.VegetationField;
+import com.example.projectfx.species.Rabbit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VegetationFieldTest {
+
+    @Test
+    void testDiffusionKeepsTheTotalAndRegrowthIsBounded() {
+        VegetationField field = new VegetationField(1000, 800, 10, 100f, 0.1f, 0.2f);
+        field.fill(0f);
+        field.setDensity(0, 0, 50f);
+        field.setDensity(505, 405, 50f);
+
+        field.diffuse();
+        field.diffuse();
+        assertEquals(100.0, field.getTotal(), 1e-3, "Diffusion should only move vegetation around.");
+        assertTrue(field.getDensity(515, 405) > 0, "Vegetation should spread to the neighboring cells.");
+
+        for (int i = 0; i < 500; i++) {
+            field.update();
+        }
+        assertEquals(100f, field.getDensity(990, 790), 1e-2, "Vegetation should regrow up to the capacity.");
+        assertEquals(100.0 * field.getColumns() * field.getRows(), field.getTotal(), 1.0, "No cell should exceed the capacity.");
+    }
+
+    @Test
+    void testRabbitGrazesItsCell() {
+        Forest forest = new Forest(0.1);
+        VegetationField field = new VegetationField(1024, 768, 1024, 100f, 0f, 0f);
+        forest.setVegetation(field);
+        Rabbit rabbit = new Rabbit("TestRabbit", 50, new Positionn(500, 400), forest, 2.0, 10, null);
+        forest.ajouterEspece(rabbit);
+        SimulationEngine engine = new SimulationEngine(forest, 1024, 768, 42L);
+
+        engine.step();
+
+        assertEquals(65, rabbit.getEnergy(), "Energy should be 50 - 5 (move) + 20 (grazing).");
+        assertEquals(80f, field.getDensity(0, 0), 1e-6, "The rabbit should have grazed its cell.");
+    }
+
+    @Test
+    void testRabbitOnlyGrazesWholeUnits() {
+        Forest forest = new Forest(0.1);
+        VegetationField field = new VegetationField(1024, 768, 1024, 100f, 0f, 0f);
+        Rabbit rabbit = new Rabbit("TestRabbit", 50, new Positionn(500, 400), forest, 2.0, 10, null);
+
+        field.setDensity(500, 400, 0.5f);
+        assertFalse(rabbit.eat(field), "A cell holding less than one unit should not be grazed.");
+        assertEquals(0.5f, field.getDensity(500, 400), 1e-6, "The sparse cell should keep its vegetation.");
+        assertEquals(50, rabbit.getEnergy(), "The rabbit should gain nothing from a sparse cell.");
+
+        field.setDensity(500, 400, 12.5f);
+        assertTrue(rabbit.eat(field), "A cell holding a few units should be grazed.");
+        assertEquals(0.5f, field.getDensity(500, 400), 1e-6, "Only the whole units should be grazed.");
+        assertEquals(62, rabbit.getEnergy(), "The energy gained should equal the vegetation removed.");
+    }
+}